@@ -0,0 +1,321 @@
+package io.github.mjyoun.spring.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * keyset(seek) 방식의 페이지네이션 요청 정보. <br>
+ * OFFSET 대신 이전 페이지의 마지막 row의 정렬 key 값 이후부터 조회하기 때문에, 몇번째 페이지인지와 관계없이 조회 비용이 일정하다. <br>
+ * 정렬 조건은 row를 유일하게 식별할 수 있어야 한다. (ex. 마지막 정렬 조건으로 id 사용) <br>
+ * 요청 사이에 다음 페이지 정보를 전달할 때는 {@link #toToken()}으로 만든 문자열을 client에 전달하고, {@link #fromToken(String, int, Sort)}로 다시 생성한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public final class KeysetPageRequest {
+
+    /** token 형식 version */
+    private static final byte TOKEN_VERSION = 2;
+
+    /** 페이지 크기 */
+    private final int size;
+    /** 정렬 조건 */
+    private final Sort sort;
+    /** 이전 페이지의 마지막 row의 정렬 key 값. 첫 페이지일 경우 null */
+    private final Object[] lastKeys;
+
+    /**
+     * @param size
+     *            페이지 크기
+     * @param sort
+     *            정렬 조건
+     * @param lastKeys
+     *            이전 페이지의 마지막 row의 정렬 key 값
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private KeysetPageRequest(int size, Sort sort, Object[] lastKeys) {
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+
+        if (sort == null || sort.isUnsorted()) {
+            throw new IllegalArgumentException("keyset 페이지네이션은 정렬 조건이 있어야 합니다.");
+        }
+
+        if (lastKeys != null && lastKeys.length != sort.toList().size()) {
+            throw new IllegalArgumentException("정렬 key 값의 개수가 정렬 조건의 개수와 다릅니다.");
+        }
+
+        if (lastKeys != null && Arrays.stream(lastKeys).anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("정렬 key 값에 null이 있습니다.");
+        }
+
+        this.size = size;
+        this.sort = sort;
+        this.lastKeys = lastKeys;
+    }
+
+    /**
+     * 첫 페이지 요청 정보를 생성하는 함수
+     *
+     * @param size
+     *            페이지 크기
+     * @param sort
+     *            정렬 조건
+     * @return 첫 페이지 요청 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static KeysetPageRequest of(@Min(1) int size, @NotNull Sort sort) {
+        return new KeysetPageRequest(size, sort, null);
+    }
+
+    /**
+     * 이전 페이지의 마지막 key 값 이후의 페이지 요청 정보를 생성하는 함수
+     *
+     * @param size
+     *            페이지 크기
+     * @param sort
+     *            정렬 조건
+     * @param lastKeys
+     *            이전 페이지의 마지막 row의 정렬 key 값. 정렬 조건 순서와 동일해야 함
+     * @return 페이지 요청 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static KeysetPageRequest of(@Min(1) int size, @NotNull Sort sort, Object... lastKeys) {
+        return new KeysetPageRequest(size, sort, lastKeys == null || lastKeys.length == 0 ? null : lastKeys.clone());
+    }
+
+    /**
+     * 현재 요청 이후의 페이지 요청 정보를 생성하는 함수
+     *
+     * @param lastKeys
+     *            현재 페이지의 마지막 row의 정렬 key 값. 정렬 조건 순서와 개수가 같아야 함
+     * @return 다음 페이지 요청 정보
+     * @throws IllegalArgumentException
+     *             정렬 key 값이 없거나, 개수가 정렬 조건의 개수와 다르거나, null이 있는 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public KeysetPageRequest next(@NotNull Object... lastKeys) {
+        // 빈 key로 첫 페이지 요청이 만들어지면 다음 페이지를 계속 첫 페이지로 조회하게 됨
+        if (lastKeys == null || lastKeys.length == 0) {
+            throw new IllegalArgumentException("다음 페이지의 정렬 key 값이 없습니다.");
+        }
+
+        return new KeysetPageRequest(this.size, this.sort, lastKeys.clone());
+    }
+
+    /**
+     * 요청 사이에 전달할 수 있도록 정렬 key 값을 문자열로 변환하는 함수. <br>
+     * token은 서명하지 않으므로 client가 변경할 수 있다. 따라서 페이지 크기와 정렬 조건은 포함하지 않고, {@link #fromToken(String, int, Sort)}에서 서버의 값을
+     * 사용한다.
+     *
+     * @return URL에 사용할 수 있는 token
+     * @throws IllegalArgumentException
+     *             token으로 변환할 수 없는 타입의 정렬 key 값이 있는 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public String toToken() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            Object[] keys = this.lastKeys == null ? new Object[0] : this.lastKeys;
+
+            out.writeByte(TOKEN_VERSION);
+            out.writeByte(keys.length);
+
+            for (Object key : keys) {
+                out.writeChar(KeysetPageRequest.getTypeCode(key));
+                out.writeUTF(key.toString());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("정렬 key 값을 token으로 변환할 수 없습니다.", e);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * {@link #toToken()}으로 만든 문자열로 페이지 요청 정보를 생성하는 함수
+     *
+     * @param token
+     *            {@link #toToken()}으로 만든 token
+     * @param size
+     *            페이지 크기. client가 변경할 수 없도록 서버에서 정한 값을 사용해야 함
+     * @param sort
+     *            정렬 조건. token을 만들 때와 같아야 함
+     * @return 페이지 요청 정보
+     * @throws IllegalArgumentException
+     *             token 형식이 잘못되었거나, 페이지 크기가 1 미만이거나, 정렬 key 값의 개수가 정렬 조건의 개수와 다른 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static KeysetPageRequest fromToken(@NotNull String token, @Min(1) int size, @NotNull Sort sort) {
+        if (token == null) {
+            throw new IllegalArgumentException("token이 없습니다.");
+        }
+
+        Object[] keys;
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readByte() != TOKEN_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 token 형식입니다.");
+            }
+
+            keys = new Object[in.readUnsignedByte()];
+
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = KeysetPageRequest.parseKey(in.readChar(), in.readUTF());
+            }
+
+            if (in.read() != -1) {
+                throw new IllegalArgumentException("잘못된 token입니다.");
+            }
+        } catch (IOException | RuntimeException e) {
+            // Base64, 숫자, 날짜 형식 오류를 모두 잘못된 token으로 처리
+            throw new IllegalArgumentException("잘못된 token입니다.", e);
+        }
+
+        return new KeysetPageRequest(size, sort, keys.length == 0 ? null : keys);
+    }
+
+    /**
+     * token에 기록할 정렬 key 값의 타입 코드를 가져오는 함수
+     *
+     * @param key
+     *            정렬 key 값
+     * @return 타입 코드
+     * @throws IllegalArgumentException
+     *             token으로 변환할 수 없는 타입일 경우
+     */
+    private static char getTypeCode(Object key) {
+        if (key instanceof String) {
+            return 'S';
+        } else if (key instanceof Long) {
+            return 'J';
+        } else if (key instanceof Integer) {
+            return 'I';
+        } else if (key instanceof Short) {
+            return 'H';
+        } else if (key instanceof Double) {
+            return 'D';
+        } else if (key instanceof Float) {
+            return 'F';
+        } else if (key instanceof BigDecimal) {
+            return 'N';
+        } else if (key instanceof BigInteger) {
+            return 'G';
+        } else if (key instanceof Boolean) {
+            return 'Z';
+        } else if (key instanceof UUID) {
+            return 'U';
+        } else if (key instanceof LocalDate) {
+            return 'd';
+        } else if (key instanceof LocalDateTime) {
+            return 't';
+        } else if (key instanceof OffsetDateTime) {
+            return 'o';
+        } else if (key instanceof Instant) {
+            return 'i';
+        } else if (key instanceof Timestamp) {
+            return 'T';
+        } else {
+            throw new IllegalArgumentException("token으로 변환할 수 없는 정렬 key 타입입니다. (" + key.getClass().getName() + ")");
+        }
+    }
+
+    /**
+     * token에 기록한 정렬 key 값을 타입 코드에 해당하는 값으로 변환하는 함수
+     *
+     * @param typeCode
+     *            타입 코드
+     * @param value
+     *            문자열 값
+     * @return 정렬 key 값
+     * @throws IllegalArgumentException
+     *             알 수 없는 타입 코드이거나 값을 변환할 수 없는 경우
+     */
+    private static Object parseKey(char typeCode, String value) {
+        return switch (typeCode) {
+            case 'S' -> value;
+            case 'J' -> Long.valueOf(value);
+            case 'I' -> Integer.valueOf(value);
+            case 'H' -> Short.valueOf(value);
+            case 'D' -> Double.valueOf(value);
+            case 'F' -> Float.valueOf(value);
+            case 'N' -> new BigDecimal(value);
+            case 'G' -> new BigInteger(value);
+            case 'Z' -> Boolean.valueOf(value);
+            case 'U' -> UUID.fromString(value);
+            case 'd' -> LocalDate.parse(value);
+            case 't' -> LocalDateTime.parse(value);
+            case 'o' -> OffsetDateTime.parse(value);
+            case 'i' -> Instant.parse(value);
+            case 'T' -> Timestamp.valueOf(value);
+            default -> throw new IllegalArgumentException("잘못된 token입니다.");
+        };
+    }
+
+    /**
+     * @return 페이지 크기
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * @return 정렬 조건
+     */
+    public Sort getSort() {
+        return this.sort;
+    }
+
+    /**
+     * @return 이전 페이지의 마지막 row의 정렬 key 값. 첫 페이지일 경우 null
+     */
+    public Object[] getLastKeys() {
+        return this.lastKeys == null ? null : this.lastKeys.clone();
+    }
+
+    /**
+     * @return 첫 페이지 요청인지 여부
+     */
+    public boolean isFirst() {
+        return this.lastKeys == null;
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPageRequest [size=" + this.size + ", sort=" + this.sort + ", lastKeys=" + Arrays.toString(this.lastKeys) + "]";
+    }
+
+}
@@ -0,0 +1,78 @@
+package io.github.mjyoun.spring.data;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * keyset(seek) 방식으로 조회한 페이지 정보. <br>
+ * 다음 페이지가 있을 경우 {@link #getNextPageRequest()}가 다음 페이지 조회를 위한 continuation token 역할을 한다. <br>
+ * 요청 사이에 전달할 때는 {@link #getNextPageToken()}의 문자열을 사용한다.
+ *
+ * @param <T>
+ *            페이지에 포함되어 있는 객체
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public final class KeysetSlice<T> {
+
+    /** 페이지 데이터 */
+    private final List<T> content;
+    /** 현재 페이지 요청 정보 */
+    private final KeysetPageRequest pageRequest;
+    /** 다음 페이지 요청 정보. 다음 페이지가 없을 경우 null */
+    private final KeysetPageRequest nextPageRequest;
+
+    /**
+     * @param content
+     *            페이지 데이터
+     * @param pageRequest
+     *            현재 페이지 요청 정보
+     * @param nextPageRequest
+     *            다음 페이지 요청 정보. 다음 페이지가 없을 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public KeysetSlice(List<T> content, KeysetPageRequest pageRequest, KeysetPageRequest nextPageRequest) {
+        this.content = Collections.unmodifiableList(content);
+        this.pageRequest = pageRequest;
+        this.nextPageRequest = nextPageRequest;
+    }
+
+    /**
+     * @return 페이지 데이터
+     */
+    public List<T> getContent() {
+        return this.content;
+    }
+
+    /**
+     * @return 현재 페이지 요청 정보
+     */
+    public KeysetPageRequest getPageRequest() {
+        return this.pageRequest;
+    }
+
+    /**
+     * @return 다음 페이지 요청 정보. 다음 페이지가 없을 경우 null
+     */
+    public KeysetPageRequest getNextPageRequest() {
+        return this.nextPageRequest;
+    }
+
+    /**
+     * @return 다음 페이지 요청 정보를 {@link KeysetPageRequest#toToken()}으로 변환한 문자열. 다음 페이지가 없을 경우 null
+     */
+    public String getNextPageToken() {
+        return this.nextPageRequest == null ? null : this.nextPageRequest.toToken();
+    }
+
+    /**
+     * @return 다음 페이지가 있는지 여부
+     */
+    public boolean hasNext() {
+        return this.nextPageRequest != null;
+    }
+
+}
@@ -0,0 +1,196 @@
+package io.github.mjyoun.spring.data;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * long 값을 boxing 없이 배열에 저장하는 목록. 아이디 목록 등 많은 개수의 숫자를 조회할 때 {@code List<Long>} 대신 사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public final class LongList {
+
+    /** 기본 크기 */
+    private static final int DEFAULT_CAPACITY = 16;
+    /** 배열의 최대 크기 */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /** 값 배열 */
+    private long[] values;
+    /** 값 개수 */
+    private int size = 0;
+
+    /**
+     * 기본 크기의 목록을 생성한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public LongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity
+     *            처음 생성할 배열 크기
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public LongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("크기는 0 이상이어야 합니다.");
+        }
+
+        this.values = new long[initialCapacity];
+    }
+
+    /**
+     * 값을 추가하는 함수
+     *
+     * @param value
+     *            추가할 값
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void add(long value) {
+        if (this.size == this.values.length) {
+            this.grow(this.size + 1);
+        }
+
+        this.values[this.size++] = value;
+    }
+
+    /**
+     * 다른 목록의 값을 모두 추가하는 함수
+     *
+     * @param other
+     *            추가할 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void addAll(LongList other) {
+        if (this.size + other.size > this.values.length) {
+            this.grow(this.size + other.size);
+        }
+
+        System.arraycopy(other.values, 0, this.values, this.size, other.size);
+        this.size += other.size;
+    }
+
+    /**
+     * @param index
+     *            가져올 위치
+     * @return 위치에 해당하는 값
+     * @throws IndexOutOfBoundsException
+     *             위치가 범위를 벗어난 경우
+     */
+    public long get(int index) {
+        Objects.checkIndex(index, this.size);
+        return this.values[index];
+    }
+
+    /**
+     * @return 값 개수
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return 값이 없을 경우 true
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @return 값 배열의 복사본
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(this.values, this.size);
+    }
+
+    /**
+     * @return 값 stream
+     */
+    public LongStream stream() {
+        return Arrays.stream(this.values, 0, this.size);
+    }
+
+    /**
+     * 값 마다 함수를 실행하는 함수
+     *
+     * @param action
+     *            실행할 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < this.size; i++) {
+            action.accept(this.values[i]);
+        }
+    }
+
+    /**
+     * 포함 여부 확인을 위한 set을 생성하는 함수
+     *
+     * @return 값을 모두 포함하는 set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public LongSet toSet() {
+        LongSet set = new LongSet(this.size);
+
+        for (int i = 0; i < this.size; i++) {
+            set.add(this.values[i]);
+        }
+
+        return set;
+    }
+
+    /**
+     * 배열 크기를 값 개수에 맞게 줄이는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void trimToSize() {
+        if (this.size < this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.size);
+        }
+    }
+
+    /**
+     * 배열 크기를 1.5배 (최소 필요 크기 이상)로 늘리는 함수
+     *
+     * @param minCapacity
+     *            최소 필요 크기
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("목록의 최대 크기를 넘었습니다.");
+        }
+
+        int capacity = this.values.length + (this.values.length >> 1);
+        capacity = Math.max(Math.max(capacity, minCapacity), DEFAULT_CAPACITY);
+
+        this.values = Arrays.copyOf(this.values, Math.min(capacity, MAX_CAPACITY));
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.toArray());
+    }
+
+}
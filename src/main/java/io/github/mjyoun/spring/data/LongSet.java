@@ -0,0 +1,241 @@
+package io.github.mjyoun.spring.data;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * long 값을 boxing 없이 저장하는 hash set. 많은 개수의 아이디 포함 여부를 확인할 때 {@code Set<Long>} 대신 사용한다. <br>
+ * open addressing 방식으로 배열 하나에 값을 저장하기 때문에 값 하나에 약 8~16 byte를 사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public final class LongSet {
+
+    /** 빈 칸을 나타내는 값. 0은 {@link #containsZero}로 따로 관리함 */
+    private static final long EMPTY = 0L;
+    /** 최대 사용 비율 */
+    private static final double LOAD_FACTOR = 0.75;
+    /** 최대 배열 크기 */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** 값 배열. 크기는 항상 2의 거듭제곱 */
+    private long[] table;
+    /** 0 포함 여부 */
+    private boolean containsZero = false;
+    /** 값 개수 */
+    private int size = 0;
+    /** 배열을 늘리기 전까지 저장할 수 있는 값 개수 */
+    private int threshold;
+
+    /**
+     * 기본 크기의 set을 생성한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public LongSet() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize
+     *            저장할 값 개수. 값 개수만큼 저장할 때까지 배열을 늘리지 않음
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public LongSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("크기는 0 이상이어야 합니다.");
+        }
+
+        this.allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * 값을 추가하는 함수
+     *
+     * @param value
+     *            추가할 값
+     * @return 새로 추가한 경우 true, 이미 있는 경우 false
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (this.containsZero) {
+                return false;
+            }
+
+            this.containsZero = true;
+            this.size++;
+
+            return true;
+        }
+
+        int mask = this.table.length - 1;
+
+        for (int i = hash(value) & mask;; i = (i + 1) & mask) {
+            long current = this.table[i];
+
+            if (current == EMPTY) {
+                this.table[i] = value;
+
+                if (++this.size > this.threshold) {
+                    this.rehash(this.table.length << 1);
+                }
+
+                return true;
+            } else if (current == value) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 값이 포함되어 있는지 확인하는 함수
+     *
+     * @param value
+     *            확인할 값
+     * @return 포함되어 있을 경우 true
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return this.containsZero;
+        }
+
+        int mask = this.table.length - 1;
+
+        for (int i = hash(value) & mask;; i = (i + 1) & mask) {
+            long current = this.table[i];
+
+            if (current == EMPTY) {
+                return false;
+            } else if (current == value) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return 값 개수
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return 값이 없을 경우 true
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * 값 마다 함수를 실행하는 함수. 순서는 보장하지 않는다.
+     *
+     * @param action
+     *            실행할 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void forEach(LongConsumer action) {
+        if (this.containsZero) {
+            action.accept(EMPTY);
+        }
+
+        for (long value : this.table) {
+            if (value != EMPTY) {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * @return 값 배열. 순서는 보장하지 않음
+     */
+    public long[] toArray() {
+        long[] values = new long[this.size];
+        int[] index = { 0 };
+        this.forEach(value -> values[index[0]++] = value);
+
+        return values;
+    }
+
+    /**
+     * 배열 크기를 바꾸고 값을 다시 저장하는 함수
+     *
+     * @param capacity
+     *            새로운 배열 크기
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void rehash(int capacity) {
+        long[] old = this.table;
+        this.allocate(capacity);
+
+        int mask = capacity - 1;
+
+        for (long value : old) {
+            if (value != EMPTY) {
+                int i = hash(value) & mask;
+
+                while (this.table[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+
+                this.table[i] = value;
+            }
+        }
+    }
+
+    /**
+     * @param capacity
+     *            배열 크기
+     */
+    private void allocate(int capacity) {
+        if (capacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("set의 최대 크기를 넘었습니다.");
+        }
+
+        this.table = new long[capacity];
+        this.threshold = (int) Math.min(capacity * LOAD_FACTOR, capacity - 1);
+    }
+
+    /**
+     * 저장할 값 개수에 맞는 배열 크기를 계산하는 함수
+     *
+     * @param expectedSize
+     *            저장할 값 개수
+     * @return 2의 거듭제곱 배열 크기
+     */
+    private static int tableSizeFor(int expectedSize) {
+        long capacity = Math.max(2, (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1);
+        return (int) Math.min(Long.highestOneBit(capacity - 1) << 1, MAX_CAPACITY);
+    }
+
+    /**
+     * 값이 배열에 고르게 나뉘도록 섞는 함수
+     *
+     * @param value
+     *            값
+     * @return hash 값
+     */
+    private static int hash(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.toArray());
+    }
+
+}
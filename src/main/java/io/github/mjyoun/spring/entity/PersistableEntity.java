@@ -0,0 +1,54 @@
+package io.github.mjyoun.spring.entity;
+
+/**
+ * repository의 batchInsert 등 entity 단위 저장 함수에서 사용하기 위한 Entity 선언. <br>
+ * {@link #getColumnNames()}와 {@link #getColumnValues()}는 같은 순서여야 하며, 같은 class의 instance는 같은 column 목록을 반환해야 한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public interface PersistableEntity<T> extends GenericEntity<T> {
+
+    /**
+     * 저장할 테이블 이름
+     *
+     * @return 테이블 이름
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public String getTableName();
+
+    /**
+     * 저장할 column 이름 목록
+     *
+     * @return column 이름 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public String[] getColumnNames();
+
+    /**
+     * {@link #getColumnNames()} 순서에 해당하는 column 값 목록
+     *
+     * @return column 값 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Object[] getColumnValues();
+
+    /**
+     * upsert 시 row를 식별하는 key column 이름 목록. {@link #getColumnNames()}에 포함되어 있어야 한다.
+     *
+     * @return key column 이름 목록 (기본: id)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public default String[] getKeyColumnNames() {
+        return new String[] { "id" };
+    }
+
+}
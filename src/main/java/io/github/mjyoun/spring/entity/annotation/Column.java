@@ -0,0 +1,30 @@
+package io.github.mjyoun.spring.entity.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link GeneratedRowMapper}로 생성하는 RowMapper에서 필드에 채울 column 정보
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+@Documented
+@Target({ ElementType.FIELD })
+@Retention(RetentionPolicy.CLASS)
+public @interface Column {
+
+    /**
+     * @return 조회 결과의 column 이름 (대소문자 구분 없음). 비어있을 경우 필드 이름의 snake case
+     */
+    String value() default "";
+
+    /**
+     * @return true일 경우 RowMapper에서 값을 채우지 않음
+     */
+    boolean ignore() default false;
+
+}
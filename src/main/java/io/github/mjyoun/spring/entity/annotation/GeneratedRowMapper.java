@@ -0,0 +1,48 @@
+package io.github.mjyoun.spring.entity.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import io.github.mjyoun.spring.entity.GenericEntity;
+
+/**
+ * compile 시 entity의 {@link RowMapper}를 생성하기 위한 annotation. <br>
+ * entity와 같은 package에 {@code <Entity 이름>RowMapper} class가 생성되며, 생성된 RowMapper는 조회 결과 별로 column 위치를 한번만 찾고 reflection 없이
+ * 위치와 타입에 맞는 getter로 값을 읽는다. <br>
+ * static, transient가 아닌 모든 필드를 {@link Column}에 설정한 이름 (기본: 필드 이름의 snake case)의 column으로 채우며, 조회 결과에 없는 column은 건너뛴다.
+ * 필드는 setter가 있거나 package-private 이상이어야 하고, entity는 기본 생성자가 있어야 한다.
+ *
+ * <pre>
+ * &#64;GeneratedRowMapper
+ * public class User implements GenericEntity&lt;User&gt; {
+ *     private Long id;
+ *     &#64;Column("user_nm")
+ *     private String name;
+ *
+ *     &#64;Override
+ *     public RowMapper&lt;User&gt; getRowMapper() {
+ *         return new UserRowMapper();
+ *     }
+ * }
+ * </pre>
+ *
+ * repository는 이 annotation이 설정된 entity의 경우 entity를 생성하지 않고 생성된 RowMapper를 바로 사용한다. <br>
+ * JDK 23부터 javac는 classpath의 annotation processor를 실행하지 않기 때문에, annotationProcessorPaths에 이 artifact를 추가하거나 -proc:full로 compile
+ * 해야 한다.
+ *
+ * @see GenericEntity#getRowMapper()
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+@Documented
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GeneratedRowMapper {
+
+}
@@ -0,0 +1,26 @@
+package io.github.mjyoun.spring.entity.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import io.github.mjyoun.spring.entity.GenericEntity;
+
+/**
+ * {@link GenericEntity#getRowMapper()}가 반환하는 {@link RowMapper}가 상태를 갖지 않아 여러 thread에서 공유해도 된다는 것을 표시하기 위한
+ * annotation. <br>
+ * 설정되어 있을 경우 repository는 entity class 당 하나의 RowMapper만 생성하여 재사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+@Documented
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ThreadSafeRowMapper {
+
+}
@@ -0,0 +1,591 @@
+package io.github.mjyoun.spring.entity.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import io.github.mjyoun.spring.entity.annotation.Column;
+import io.github.mjyoun.spring.entity.annotation.GeneratedRowMapper;
+
+/**
+ * {@link GeneratedRowMapper}가 설정된 entity의 RowMapper를 생성하는 annotation processor. <br>
+ * 생성된 RowMapper는 조회 결과 별로 column 위치를 한번만 찾고, 위치와 필드 타입에 맞는 {@link java.sql.ResultSet} getter로 값을 읽는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+@SupportedAnnotationTypes("io.github.mjyoun.spring.entity.annotation.GeneratedRowMapper")
+public class RowMapperProcessor extends AbstractProcessor {
+
+    /** 생성하는 class 이름의 접미사 */
+    private static final String ROW_MAPPER_SUFFIX = "RowMapper";
+    /** setter가 생성되는 lombok annotation */
+    private static final Set<String> LOMBOK_SETTER_ANNOTATIONS = Set.of("lombok.Data", "lombok.Setter");
+
+    /**
+     * @see AbstractProcessor#getSupportedSourceVersion()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * @see AbstractProcessor#process(Set, RoundEnvironment)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GeneratedRowMapper.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                this.error(element, "@GeneratedRowMapper는 class에만 설정할 수 있습니다.");
+                continue;
+            }
+
+            try {
+                this.generate((TypeElement) element);
+            } catch (InvalidEntityException e) {
+                this.error(e.getElement(), e.getMessage());
+            } catch (IOException e) {
+                this.error(element, "RowMapper를 생성하지 못하였습니다. (" + e.getMessage() + ")");
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * entity의 binary 이름으로 생성되는 RowMapper의 binary 이름을 가져오는 함수. 중첩 class의 경우 '$'를 '_'로 바꾼다.
+     *
+     * @param entityBinaryName
+     *            entity의 binary 이름 (ex. com.example.Outer$User)
+     * @return RowMapper의 binary 이름 (ex. com.example.Outer_UserRowMapper)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static String toRowMapperName(String entityBinaryName) {
+        int lastDot = entityBinaryName.lastIndexOf('.');
+        String packagePrefix = entityBinaryName.substring(0, lastDot + 1);
+
+        return packagePrefix + entityBinaryName.substring(lastDot + 1).replace('$', '_') + ROW_MAPPER_SUFFIX;
+    }
+
+    /**
+     * entity의 RowMapper source를 생성하는 함수
+     *
+     * @param type
+     *            entity
+     * @throws InvalidEntityException
+     *             RowMapper를 생성할 수 없는 entity일 경우
+     * @throws IOException
+     *             source 파일을 생성하지 못한 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void generate(TypeElement type) throws IOException {
+        this.validate(type);
+
+        String packageName = this.processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String mapperName = toRowMapperName(this.processingEnv.getElementUtils().getBinaryName(type).toString());
+        String simpleName = mapperName.substring(mapperName.lastIndexOf('.') + 1);
+        String entityName = type.getQualifiedName().toString();
+        List<ColumnField> fields = this.collectFields(type, packageName);
+
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("import java.sql.ResultSet;\n") //
+                .append("import java.sql.ResultSetMetaData;\n") //
+                .append("import java.sql.SQLException;\n") //
+                .append("import java.util.HashMap;\n") //
+                .append("import java.util.Locale;\n") //
+                .append("import java.util.Map;\n\n") //
+                .append("import javax.annotation.processing.Generated;\n\n") //
+                .append("import org.springframework.jdbc.core.RowMapper;\n\n") //
+                .append("/**\n") //
+                .append(" * {@link ").append(entityName).append("}의 RowMapper. 조회 결과 별로 column 위치를 한번만 찾는다.\n") //
+                .append(" */\n") //
+                .append("@Generated(\"").append(RowMapperProcessor.class.getName()).append("\")\n") //
+                .append("public final class ").append(simpleName).append(" implements RowMapper<").append(entityName).append("> {\n\n") //
+                .append("    /** 필드 순서의 column 이름 */\n") //
+                .append("    private static final String[] COLUMNS = {");
+
+        for (int i = 0; i < fields.size(); i++) {
+            source.append(i == 0 ? " " : ", ").append(this.processingEnv.getElementUtils().getConstantExpression(fields.get(i).column()));
+        }
+
+        source.append(fields.isEmpty() ? "};\n\n" : " };\n\n") //
+                .append("    /** column 위치를 찾은 조회 결과 */\n") //
+                .append("    private ResultSet resultSet;\n") //
+                .append("    /** 필드 순서의 column 위치. 조회 결과에 없을 경우 0 */\n") //
+                .append("    private int[] indexes;\n\n") //
+                .append("    @Override\n") //
+                .append("    public ").append(entityName).append(" mapRow(ResultSet rs, int rowNum) throws SQLException {\n") //
+                .append("        if (rs != this.resultSet) {\n") //
+                .append("            this.indexes = resolveIndexes(rs);\n") //
+                .append("            this.resultSet = rs;\n") //
+                .append("        }\n\n") //
+                .append("        ").append(entityName).append(" entity = new ").append(entityName).append("();\n") //
+                .append("        int index;\n");
+
+        for (int i = 0; i < fields.size(); i++) {
+            ColumnField field = fields.get(i);
+
+            source.append("\n        if ((index = this.indexes[").append(i).append("]) > 0) {\n");
+
+            if (field.nullCheckType() != null) {
+                source.append("            ").append(field.nullCheckType()).append(" value = ").append(field.reader()).append(";\n") //
+                        .append("            ").append(field.assign("rs.wasNull() ? null : value")).append(";\n");
+            } else {
+                source.append("            ").append(field.assign(field.reader())).append(";\n");
+            }
+
+            source.append("        }\n");
+        }
+
+        source.append("\n        return entity;\n") //
+                .append("    }\n\n") //
+                .append("    private static int[] resolveIndexes(ResultSet rs) throws SQLException {\n") //
+                .append("        ResultSetMetaData metaData = rs.getMetaData();\n") //
+                .append("        Map<String, Integer> positions = new HashMap<>();\n\n") //
+                .append("        // 같은 이름의 column이 여러 개일 경우 첫번째 column을 사용\n") //
+                .append("        for (int i = metaData.getColumnCount(); i >= 1; i--) {\n") //
+                .append("            positions.put(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);\n") //
+                .append("        }\n\n") //
+                .append("        int[] indexes = new int[COLUMNS.length];\n\n") //
+                .append("        for (int i = 0; i < COLUMNS.length; i++) {\n") //
+                .append("            indexes[i] = positions.getOrDefault(COLUMNS[i], 0);\n") //
+                .append("        }\n\n") //
+                .append("        return indexes;\n") //
+                .append("    }\n\n") //
+                .append("}\n");
+
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(mapperName, type).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * entity를 생성할 수 있는지 확인하는 함수
+     *
+     * @param type
+     *            entity
+     * @throws InvalidEntityException
+     *             RowMapper에서 생성할 수 없는 entity일 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void validate(TypeElement type) {
+        Set<Modifier> modifiers = type.getModifiers();
+
+        if (modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)) {
+            throw new InvalidEntityException(type, "abstract 또는 private class의 RowMapper는 생성할 수 없습니다.");
+        }
+
+        if (type.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)) {
+            throw new InvalidEntityException(type, "중첩 class는 static이어야 합니다.");
+        }
+
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            throw new InvalidEntityException(type, "지역 class의 RowMapper는 생성할 수 없습니다.");
+        }
+
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new InvalidEntityException(type, "generic class의 RowMapper는 생성할 수 없습니다.");
+        }
+
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        boolean hasDefaultConstructor = constructors.isEmpty() || constructors.stream() //
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE));
+
+        if (!hasDefaultConstructor) {
+            throw new InvalidEntityException(type, "private이 아닌 기본 생성자가 필요합니다.");
+        }
+    }
+
+    /**
+     * entity와 상위 class의 필드 중 RowMapper에서 채울 필드를 찾는 함수. 이름이 같은 필드는 하위 class의 필드를 사용한다.
+     *
+     * @param type
+     *            entity
+     * @param packageName
+     *            RowMapper를 생성할 package
+     * @return 채울 필드 목록
+     * @throws InvalidEntityException
+     *             값을 설정할 수 없는 필드가 있을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private List<ColumnField> collectFields(TypeElement type, String packageName) {
+        List<ColumnField> fields = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        List<ExecutableElement> methods = ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(type));
+        boolean lombokSetters = this.hasAnnotation(type, LOMBOK_SETTER_ANNOTATIONS);
+
+        for (TypeElement current = type; current != null; current = this.getSuperclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                Column column = field.getAnnotation(Column.class);
+
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT) || (column != null && column.ignore())
+                        || !names.add(field.getSimpleName().toString())) {
+                    continue;
+                }
+
+                String columnName = column == null || column.value().isEmpty() ? toSnakeCase(field.getSimpleName().toString()) : column.value();
+                String target = this.findTarget(field, methods, packageName, lombokSetters && current == type);
+
+                fields.add(this.createColumnField(field, columnName.toLowerCase(Locale.ROOT), target));
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * 필드에 값을 설정하는 code를 찾는 함수. setter, 직접 접근할 수 있는 필드, lombok setter 순서로 찾는다.
+     *
+     * @param field
+     *            필드
+     * @param methods
+     *            entity의 method 목록 (상위 class 포함)
+     * @param packageName
+     *            RowMapper를 생성할 package
+     * @param lombokSetters
+     *            class에 lombok setter가 생성되는지 여부
+     * @return 값 설정 code. %s에 값이 들어감
+     * @throws InvalidEntityException
+     *             값을 설정할 수 없는 필드일 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private String findTarget(VariableElement field, List<ExecutableElement> methods, String packageName, boolean lombokSetters) {
+        String setter = this.getSetterName(field);
+
+        for (ExecutableElement method : methods) {
+            if (method.getSimpleName().contentEquals(setter) //
+                    && method.getParameters().size() == 1 //
+                    && !method.getModifiers().contains(Modifier.STATIC) //
+                    && this.isAccessible(method, packageName) //
+                    && this.processingEnv.getTypeUtils().isAssignable(field.asType(), method.getParameters().get(0).asType())) {
+                return "entity." + setter + "(%s)";
+            }
+        }
+
+        if (!field.getModifiers().contains(Modifier.FINAL) && this.isAccessible(field, packageName)) {
+            return "entity." + field.getSimpleName() + " = %s";
+        }
+
+        if (!field.getModifiers().contains(Modifier.FINAL)
+                && (lombokSetters || this.hasAnnotation(field, Set.of("lombok.Setter")))) {
+            return "entity." + setter + "(%s)";
+        }
+
+        throw new InvalidEntityException(field, "값을 설정할 수 없는 필드입니다. setter 또는 package-private 이상의 필드가 필요합니다.");
+    }
+
+    /**
+     * 필드 타입에 맞는 {@link java.sql.ResultSet} getter를 찾는 함수
+     *
+     * @param field
+     *            필드
+     * @param column
+     *            column 이름
+     * @param target
+     *            값 설정 code
+     * @return RowMapper에서 채울 필드 정보
+     * @throws InvalidEntityException
+     *             지원하지 않는 타입일 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private ColumnField createColumnField(VariableElement field, String column, String target) {
+        TypeMirror type = field.asType();
+
+        if (type.getKind().isPrimitive()) {
+            String getter = primitiveGetter(type.getKind());
+
+            if (getter == null) {
+                throw new InvalidEntityException(field, "지원하지 않는 필드 타입입니다. (" + type + ")");
+            }
+
+            return new ColumnField(column, "rs." + getter + "(index)", null, target);
+        }
+
+        if (type.getKind() == TypeKind.ARRAY) {
+            if (type.toString().equals("byte[]")) {
+                return new ColumnField(column, "rs.getBytes(index)", null, target);
+            }
+
+            throw new InvalidEntityException(field, "지원하지 않는 필드 타입입니다. (" + type + ")");
+        }
+
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            throw new InvalidEntityException(field, "지원하지 않는 필드 타입입니다. (" + type + ")");
+        }
+
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        String typeName = element.getQualifiedName().toString();
+
+        try {
+            TypeKind unboxed = this.processingEnv.getTypeUtils().unboxedType(type).getKind();
+            String getter = primitiveGetter(unboxed);
+
+            if (getter == null) {
+                throw new InvalidEntityException(field, "지원하지 않는 필드 타입입니다. (" + type + ")");
+            }
+
+            return new ColumnField(column, "rs." + getter + "(index)", unboxed.name().toLowerCase(Locale.ROOT), target);
+        } catch (IllegalArgumentException e) { // boxing 타입이 아닌 경우
+        }
+
+        if (element.getKind() == ElementKind.ENUM) {
+            return new ColumnField(column, "rs.getString(index)", "String", target.formatted("value == null ? null : " + typeName + ".valueOf(value)"),
+                    true);
+        }
+
+        return switch (typeName) {
+            case "java.lang.String" -> new ColumnField(column, "rs.getString(index)", null, target);
+            case "java.math.BigDecimal" -> new ColumnField(column, "rs.getBigDecimal(index)", null, target);
+            default -> new ColumnField(column, "rs.getObject(index, " + typeName + ".class)", null, target);
+        };
+    }
+
+    /**
+     * @param kind
+     *            primitive 타입
+     * @return 타입에 해당하는 ResultSet getter 이름. 지원하지 않는 타입일 경우 null
+     */
+    private static String primitiveGetter(TypeKind kind) {
+        return switch (kind) {
+            case BOOLEAN -> "getBoolean";
+            case BYTE -> "getByte";
+            case SHORT -> "getShort";
+            case INT -> "getInt";
+            case LONG -> "getLong";
+            case FLOAT -> "getFloat";
+            case DOUBLE -> "getDouble";
+            default -> null;
+        };
+    }
+
+    /**
+     * 필드의 setter 이름을 가져오는 함수. boolean 필드의 이름이 is로 시작할 경우 is를 제외한다. (lombok과 동일)
+     *
+     * @param field
+     *            필드
+     * @return setter 이름
+     */
+    private String getSetterName(VariableElement field) {
+        String name = field.getSimpleName().toString();
+
+        if (field.asType().getKind() == TypeKind.BOOLEAN && name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2))) {
+            name = name.substring(2);
+        }
+
+        return "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * RowMapper에서 접근할 수 있는지 확인하는 함수
+     *
+     * @param element
+     *            필드 또는 method
+     * @param packageName
+     *            RowMapper를 생성할 package
+     * @return 접근할 수 있을 경우 true
+     */
+    private boolean isAccessible(Element element, String packageName) {
+        Set<Modifier> modifiers = element.getModifiers();
+
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        } else if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+
+        return this.processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().contentEquals(packageName);
+    }
+
+    /**
+     * @param element
+     *            확인할 element
+     * @param annotationNames
+     *            annotation 이름 목록
+     * @return 목록 중 하나라도 설정되어 있을 경우 true
+     */
+    private boolean hasAnnotation(Element element, Set<String> annotationNames) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (annotationNames.contains(((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @param type
+     *            class
+     * @return 상위 class. Object 또는 상위 class가 없을 경우 null
+     */
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    /**
+     * camel case 이름을 snake case로 변환하는 함수 (ex. userName → user_name, userID → user_id)
+     *
+     * @param name
+     *            camel case 이름
+     * @return snake case 이름
+     */
+    static String toSnakeCase(String name) {
+        StringBuilder snake = new StringBuilder(name.length() + 4);
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+
+            if (Character.isUpperCase(c)) {
+                boolean afterLower = i > 0 && (Character.isLowerCase(name.charAt(i - 1)) || Character.isDigit(name.charAt(i - 1)));
+                boolean endOfAcronym = i > 0 && Character.isUpperCase(name.charAt(i - 1)) && i + 1 < name.length()
+                        && Character.isLowerCase(name.charAt(i + 1));
+
+                if (afterLower || endOfAcronym) {
+                    snake.append('_');
+                }
+
+                snake.append(Character.toLowerCase(c));
+            } else {
+                snake.append(c);
+            }
+        }
+
+        return snake.toString();
+    }
+
+    /**
+     * @param element
+     *            오류 위치
+     * @param message
+     *            오류 메시지
+     */
+    private void error(Element element, String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * RowMapper에서 채울 필드 정보
+     *
+     * @param column
+     *            column 이름 (소문자)
+     * @param reader
+     *            ResultSet에서 값을 읽는 code
+     * @param nullCheckType
+     *            읽은 값을 임시로 저장할 타입. null 확인이 필요없을 경우 null
+     * @param target
+     *            값 설정 code. %s에 값이 들어감
+     * @param converted
+     *            target에 변환 code가 이미 들어가 있는지 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private record ColumnField(String column, String reader, String nullCheckType, String target, boolean converted) {
+
+        /**
+         * 변환 code가 없는 필드 정보를 생성한다.
+         */
+        ColumnField(String column, String reader, String nullCheckType, String target) {
+            this(column, reader, nullCheckType, target, false);
+        }
+
+        /**
+         * @param value
+         *            설정할 값 code
+         * @return 값 설정 code
+         */
+        String assign(String value) {
+            return this.converted ? this.target : this.target.formatted(value);
+        }
+
+    }
+
+    /**
+     * RowMapper를 생성할 수 없는 entity일 경우 발생하는 exception
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static final class InvalidEntityException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        /** 오류 위치 */
+        private final transient Element element;
+
+        /**
+         * @param element
+         *            오류 위치
+         * @param message
+         *            오류 메시지
+         */
+        InvalidEntityException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+
+        /**
+         * @return 오류 위치
+         */
+        Element getElement() {
+            return this.element;
+        }
+
+    }
+
+}
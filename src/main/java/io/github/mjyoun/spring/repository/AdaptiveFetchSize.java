@@ -0,0 +1,155 @@
+package io.github.mjyoun.spring.repository;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * query 별로 조회한 row 개수와 row 크기를 기록하여 fetch size를 계산하는 class. <br>
+ * 조회 결과를 한번에 가져올 수 있는 크기로 설정하되, 한번에 가져오는 데이터가 {@value #MEMORY_BUDGET} byte를 넘지 않도록 한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+final class AdaptiveFetchSize {
+
+    /** 최소 fetch size */
+    private static final int MIN_FETCH_SIZE = 10;
+    /** 최대 fetch size */
+    private static final int MAX_FETCH_SIZE = 10000;
+    /** 한번에 가져오는 데이터의 최대 크기 */
+    private static final long MEMORY_BUDGET = 4L * 1024 * 1024;
+    /** row 크기 계산시 사용할 column 하나의 최대 크기 */
+    private static final int COLUMN_WIDTH_LIMIT = 256;
+    /** row 크기 계산시 사용할 column 하나의 추가 크기 */
+    private static final int COLUMN_OVERHEAD = 16;
+    /** 평균 row 개수 계산시 최근 값의 비중 */
+    private static final double SMOOTHING = 0.2;
+    /** 기록할 query의 최대 개수 */
+    private static final int CACHE_LIMIT = 1024;
+
+    /** query 별 조회 기록 */
+    private final ConcurrentLruCache<String, Stats> stats = new ConcurrentLruCache<>(CACHE_LIMIT, sql -> new Stats());
+    /** 사용 여부 */
+    private volatile boolean enabled = false;
+
+    /**
+     * @param enabled
+     *            사용 여부
+     */
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+
+        if (!enabled) {
+            this.stats.clear();
+        }
+    }
+
+    /**
+     * @return 사용 여부
+     */
+    boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * query의 fetch size를 계산하는 함수
+     *
+     * @param sql
+     *            실행 query
+     * @return fetch size. 사용하지 않거나 조회 기록이 없을 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    Integer fetchSize(String sql) {
+        if (!this.enabled) {
+            return null;
+        }
+
+        Stats stat = this.stats.get(sql);
+
+        if (stat.observations == 0) {
+            return null;
+        }
+
+        // 마지막 빈 fetch 없이 한번에 가져올 수 있도록 1개를 더함
+        long byRows = (long) Math.ceil(stat.averageRows) + 1;
+        long byMemory = MEMORY_BUDGET / Math.max(1, stat.rowWidth);
+
+        return (int) Math.max(MIN_FETCH_SIZE, Math.min(MAX_FETCH_SIZE, Math.min(byRows, byMemory)));
+    }
+
+    /**
+     * 조회 결과의 row 크기를 기록하는 함수. query 별로 처음 한번만 계산한다.
+     *
+     * @param sql
+     *            실행 query
+     * @param metaData
+     *            조회 결과 metadata
+     * @throws SQLException
+     *             metadata 조회 중 오류가 발생한 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    void observeWidth(String sql, ResultSetMetaData metaData) throws SQLException {
+        if (!this.enabled) {
+            return;
+        }
+
+        Stats stat = this.stats.get(sql);
+
+        if (stat.rowWidth == 0) {
+            long width = 0;
+
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                width += Math.min(Math.max(metaData.getColumnDisplaySize(i), 1), COLUMN_WIDTH_LIMIT) + COLUMN_OVERHEAD;
+            }
+
+            stat.rowWidth = width;
+        }
+    }
+
+    /**
+     * 조회한 row 개수를 기록하는 함수
+     *
+     * @param sql
+     *            실행 query
+     * @param rows
+     *            조회한 row 개수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    void observeRows(String sql, int rows) {
+        if (!this.enabled) {
+            return;
+        }
+
+        Stats stat = this.stats.get(sql);
+
+        // 동시에 기록할 경우 일부 값이 누락될 수 있으나, 평균 값 계산에는 영향이 적어 lock을 사용하지 않음
+        stat.averageRows = stat.observations == 0 ? rows : stat.averageRows + SMOOTHING * (rows - stat.averageRows);
+        stat.observations++;
+    }
+
+    /**
+     * query 하나의 조회 기록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static final class Stats {
+
+        /** 조회 횟수 */
+        private volatile int observations = 0;
+        /** 평균 row 개수 */
+        private volatile double averageRows = 0;
+        /** 예상 row 크기 (byte) */
+        private volatile long rowWidth = 0;
+
+    }
+
+}
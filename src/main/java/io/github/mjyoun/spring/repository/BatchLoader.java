@@ -0,0 +1,294 @@
+package io.github.mjyoun.spring.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.github.mjyoun.core.data.Result;
+import io.github.mjyoun.spring.entity.GenericEntity;
+
+/**
+ * 여러 곳에서 따로 요청한 key 별 조회를 모아 IN 조건 query 하나로 조회하는 loader. <br>
+ * {@link #load(Object)}로 요청한 key는 {@link #dispatch()}를 호출하거나, 설정한 대기 시간이 지나거나, 최대 개수만큼 모였을 때
+ * {@link GenericRepository#findAllInDatas(Class, String, String, List)}로 한번에 조회한다. <br>
+ * 같은 key는 한번만 조회하며, 조회 결과는 loader를 버리거나 {@link #clear()}를 호출할 때까지 보관하기 때문에 request 등 짧은 범위에서 생성하여 사용한다. <br>
+ * <b>조회는 조회를 실행하게 만든 thread에서 실행한다.</b> {@link #dispatch()}는 호출한 thread, 최대 개수는 마지막 key를 요청한 thread, 대기 시간은 별도의
+ * virtual thread에서 실행한다. 대기 시간이 지나 조회하는 경우 요청한 thread의 transaction, {@link QueryHints}, N+1 조회 확인 범위를 사용하지 않기 때문에,
+ * transaction 안에서 변경한 데이터를 조회해야 할 경우 대기 시간 없이 생성하고 {@link #dispatch()}를 직접 호출해야 한다.
+ *
+ * <pre>
+ * BatchLoader&lt;Long, User&gt; loader = this.createBatchLoader(User.class, this.getQuery("user.find-by-ids"), "ids", User::getId);
+ * CompletableFuture&lt;User&gt; first = loader.load(1L);
+ * CompletableFuture&lt;User&gt; second = loader.load(2L);
+ * loader.dispatch(); // SELECT ... WHERE id IN (:ids) 한번 실행
+ * </pre>
+ *
+ * @param <K>
+ *            조회할 key 타입
+ * @param <T>
+ *            GenericEntity를 상속받은 Entity
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public final class BatchLoader<K, T extends GenericEntity<T>> {
+
+    /** 조회할 repository */
+    private final GenericRepository repository;
+    /** GenericEntity를 상속받은 Entity 클래스 */
+    private final Class<T> t;
+    /** IN 조건 조회 query */
+    private final String sql;
+    /** 조회할 data column 이름. query 상에 ":dataColumn"으로 설정되어 있는 이름 */
+    private final String dataColumn;
+    /** entity에서 key를 가져오는 함수 */
+    private final Function<T, K> keyExtractor;
+    /** 요청을 모으는 최대 대기 시간. null일 경우 {@link #dispatch()}를 호출할 때만 조회 */
+    private final Duration window;
+    /** 한번에 조회할 최대 key 개수 */
+    private final int maxBatchSize;
+    /** key 별 조회 결과 */
+    private final Map<K, CompletableFuture<T>> cache = new ConcurrentHashMap<>();
+    /** 조회 대기 중인 key */
+    private Map<K, CompletableFuture<T>> pending = new LinkedHashMap<>();
+    /** 대기 시간 후 조회가 예약되어 있는지 여부 */
+    private boolean scheduled = false;
+
+    /**
+     * @param repository
+     *            조회할 repository
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            IN 조건 조회 query
+     * @param dataColumn
+     *            조회할 data column 이름. query 상에 ":dataColumn"으로 설정되어 있는 이름
+     * @param keyExtractor
+     *            entity에서 key를 가져오는 함수
+     * @param window
+     *            요청을 모으는 최대 대기 시간. null일 경우 {@link #dispatch()}를 호출할 때만 조회
+     * @param maxBatchSize
+     *            한번에 조회할 최대 key 개수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    BatchLoader(GenericRepository repository, Class<T> t, String sql, String dataColumn, Function<T, K> keyExtractor, Duration window,
+            int maxBatchSize) {
+        if (t == null || sql == null || dataColumn == null || keyExtractor == null) {
+            throw new IllegalArgumentException("조회 정보가 없습니다.");
+        }
+
+        if (window != null && (window.isNegative() || window.isZero())) {
+            throw new IllegalArgumentException("대기 시간은 0보다 커야 합니다.");
+        }
+
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("최대 key 개수는 1 이상이어야 합니다.");
+        }
+
+        this.repository = repository;
+        this.t = t;
+        this.sql = sql;
+        this.dataColumn = dataColumn;
+        this.keyExtractor = keyExtractor;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * key에 해당하는 entity 조회를 요청하는 함수. 이미 요청한 key일 경우 기존 결과를 반환한다.
+     *
+     * @param key
+     *            조회할 key
+     * @return 조회 결과. 조회된 결과가 없을 경우 null로 완료
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public CompletableFuture<T> load(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("조회할 key가 없습니다.");
+        }
+
+        CompletableFuture<T> future = this.cache.get(key);
+
+        if (future != null) {
+            return future;
+        }
+
+        Map<K, CompletableFuture<T>> batch = null;
+        boolean schedule = false;
+
+        synchronized (this) {
+            future = this.cache.get(key);
+
+            if (future != null) {
+                return future;
+            }
+
+            future = new CompletableFuture<>();
+            this.cache.put(key, future);
+            this.pending.put(key, future);
+
+            if (this.pending.size() >= this.maxBatchSize) {
+                batch = this.takePending();
+            } else if (this.window != null && !this.scheduled) {
+                this.scheduled = true;
+                schedule = true;
+            }
+        }
+
+        if (batch != null) {
+            this.execute(batch);
+        } else if (schedule) {
+            Thread.ofVirtual().name("batch-loader").start(() -> {
+                try {
+                    Thread.sleep(this.window);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                this.dispatch();
+            });
+        }
+
+        return future;
+    }
+
+    /**
+     * 여러 key에 해당하는 entity 조회를 요청하는 함수
+     *
+     * @param keys
+     *            조회할 key 목록
+     * @return key 순서대로의 조회 결과. 조회된 결과가 없는 key는 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public CompletableFuture<List<T>> loadMany(Collection<K> keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("조회할 key가 없습니다.");
+        }
+
+        List<CompletableFuture<T>> futures = keys.stream() //
+                .map(this::load) //
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)) //
+                .thenApply(ignored -> {
+                    List<T> results = new ArrayList<>(futures.size());
+                    futures.forEach(future -> results.add(future.join()));
+
+                    return results;
+                });
+    }
+
+    /**
+     * 조회 대기 중인 key를 현재 thread에서 한번에 조회하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void dispatch() {
+        Map<K, CompletableFuture<T>> batch;
+
+        synchronized (this) {
+            batch = this.takePending();
+        }
+
+        if (!batch.isEmpty()) {
+            this.execute(batch);
+        }
+    }
+
+    /**
+     * 보관 중인 조회 결과를 모두 삭제하는 함수. 조회 대기 중인 key는 삭제하지 않는다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void clear() {
+        this.cache.values().removeIf(CompletableFuture::isDone);
+    }
+
+    /**
+     * key의 조회 결과를 삭제하는 함수. 변경한 entity를 다시 조회해야 할 때 사용한다.
+     *
+     * @param key
+     *            삭제할 key
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void clear(K key) {
+        CompletableFuture<T> future = key == null ? null : this.cache.get(key);
+
+        if (future != null && future.isDone()) {
+            this.cache.remove(key, future);
+        }
+    }
+
+    /**
+     * 조회 대기 중인 key를 가져오고 비우는 함수. lock을 잡은 상태에서 호출해야 한다.
+     *
+     * @return 조회 대기 중이던 key 별 조회 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private Map<K, CompletableFuture<T>> takePending() {
+        Map<K, CompletableFuture<T>> batch = this.pending;
+        this.pending = new LinkedHashMap<>();
+        this.scheduled = false;
+
+        return batch;
+    }
+
+    /**
+     * key 목록을 IN 조건 query로 조회하여 key 별 조회 결과를 완료하는 함수. 실패할 경우 ({@link Error} 포함) 조회 결과를 오류로 완료하고, 다시 요청할 수 있도록
+     * 보관하지 않는다.
+     *
+     * @param batch
+     *            조회할 key 별 조회 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void execute(Map<K, CompletableFuture<T>> batch) {
+        try {
+            Result<List<T>> result = this.repository.findAllInDatas(this.t, this.sql, this.dataColumn, new ArrayList<>(batch.keySet()));
+
+            if (!result.isResult()) {
+                throw new IllegalStateException("key 목록 조회에 실패했습니다. [" + this.sql + "]");
+            }
+
+            List<T> rows = result.getData();
+            Map<K, T> rowsByKey = new HashMap<>(rows.size() * 4 / 3 + 1);
+
+            for (T row : rows) {
+                rowsByKey.putIfAbsent(this.keyExtractor.apply(row), row);
+            }
+
+            batch.forEach((key, future) -> future.complete(rowsByKey.get(key)));
+        } catch (Throwable e) {
+            // 오류는 각 요청의 조회 결과로 전달함. 완료하지 않으면 조회 결과를 기다리는 쪽이 계속 대기함
+            batch.forEach((key, future) -> {
+                this.cache.remove(key, future);
+                future.completeExceptionally(e);
+            });
+
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+}
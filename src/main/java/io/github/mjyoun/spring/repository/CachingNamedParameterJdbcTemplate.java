@@ -0,0 +1,115 @@
+package io.github.mjyoun.spring.repository;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * named parameter를 파싱한 결과를 캐싱하고, 캐시 hit/miss 횟수를 기록하는 {@link NamedParameterJdbcTemplate}
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class CachingNamedParameterJdbcTemplate extends NamedParameterJdbcTemplate {
+
+    /** query 별 파싱 결과 */
+    private final ConcurrentLruCache<String, ParsedSql> parsedSqlCache;
+    /** 파싱 결과 요청 횟수 */
+    private final LongAdder requestCount;
+    /** 캐시에 없어 파싱한 횟수 */
+    private final LongAdder missCount;
+
+    /**
+     * @param classicJdbcTemplate
+     *            실제 query를 실행할 {@link JdbcOperations}
+     * @param cacheLimit
+     *            캐싱할 query의 최대 개수. 0일 경우 캐싱하지 않음
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    CachingNamedParameterJdbcTemplate(JdbcOperations classicJdbcTemplate, int cacheLimit) {
+        super(classicJdbcTemplate);
+        this.requestCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.parsedSqlCache = new ConcurrentLruCache<>(cacheLimit, this::parseSql);
+    }
+
+    /**
+     * 다른 template과 파싱 결과 캐시, hit/miss 횟수를 공유하는 template을 생성한다.
+     *
+     * @param classicJdbcTemplate
+     *            실제 query를 실행할 {@link JdbcOperations}
+     * @param shared
+     *            파싱 결과 캐시를 공유할 template
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    CachingNamedParameterJdbcTemplate(JdbcOperations classicJdbcTemplate, CachingNamedParameterJdbcTemplate shared) {
+        super(classicJdbcTemplate);
+        this.requestCount = shared.requestCount;
+        this.missCount = shared.missCount;
+        this.parsedSqlCache = shared.parsedSqlCache;
+    }
+
+    /**
+     * @see NamedParameterJdbcTemplate#getParsedSql(String)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected ParsedSql getParsedSql(String sql) {
+        this.requestCount.increment();
+        return this.parsedSqlCache.get(sql);
+    }
+
+    /**
+     * 같은 package의 repository에서 파싱 결과를 사용하기 위한 함수
+     *
+     * @param sql
+     *            named parameter를 포함한 query
+     * @return 파싱 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    ParsedSql parse(String sql) {
+        return this.getParsedSql(sql);
+    }
+
+    /**
+     * @return 캐시에서 파싱 결과를 찾은 횟수
+     */
+    long getHitCount() {
+        return Math.max(0, this.requestCount.sum() - this.missCount.sum());
+    }
+
+    /**
+     * @return 캐시에 없어 파싱한 횟수
+     */
+    long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    /**
+     * query를 파싱하는 함수
+     *
+     * @param sql
+     *            named parameter를 포함한 query
+     * @return 파싱 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private ParsedSql parseSql(String sql) {
+        this.missCount.increment();
+        return NamedParameterUtils.parseSqlStatement(sql);
+    }
+
+}
@@ -0,0 +1,295 @@
+package io.github.mjyoun.spring.repository;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.springframework.util.ClassUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * repository의 query를 동시에 실행하기 위한 executor. <br>
+ * 동시에 실행하는 query 개수를 semaphore로 제한하여, connection pool을 모두 점유하지 않도록 한다. <br>
+ * {@link #ofVirtualThreads(int)} 등으로 생성한 executor는 사용이 끝나면 {@link #close()}로 종료해야 한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public class ConcurrentQueryExecutor implements AutoCloseable {
+
+    /** HikariCP가 classpath에 있는지 여부 */
+    private static final boolean HIKARI_PRESENT = ClassUtils.isPresent("com.zaxxer.hikari.HikariDataSource",
+            ConcurrentQueryExecutor.class.getClassLoader());
+    /** 현재 thread가 executor의 작업을 실행 중인지 여부 */
+    private static final ThreadLocal<Boolean> RUNNING_TASK = new ThreadLocal<>();
+    /** connection pool 크기를 알 수 없을 경우 사용할 pool 크기 (HikariCP 기본 pool 크기) */
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    /** query를 실행할 executor */
+    private final Executor executor;
+    /** 직접 생성하여 {@link #close()}에서 종료할 executor. 전달받은 executor를 사용할 경우 null */
+    private final ExecutorService ownedExecutor;
+    /** 동시 실행 개수 */
+    private final int maxConcurrency;
+    /** 동시 실행 개수를 제한하기 위한 semaphore */
+    private final Semaphore permits;
+
+    /**
+     * @param executor
+     *            query를 실행할 executor
+     * @param maxConcurrency
+     *            동시에 실행할 수 있는 query 개수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public ConcurrentQueryExecutor(@NotNull Executor executor, @Min(1) int maxConcurrency) {
+        this(executor, maxConcurrency, null);
+    }
+
+    /**
+     * @param executor
+     *            query를 실행할 executor
+     * @param maxConcurrency
+     *            동시에 실행할 수 있는 query 개수
+     * @param ownedExecutor
+     *            {@link #close()}에서 종료할 executor. 없을 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private ConcurrentQueryExecutor(Executor executor, int maxConcurrency, ExecutorService ownedExecutor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor가 없습니다.");
+        }
+
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("동시 실행 개수는 1 이상이어야 합니다.");
+        }
+
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * virtual thread에서 query를 실행하는 executor를 생성하는 함수
+     *
+     * @param maxConcurrency
+     *            동시에 실행할 수 있는 query 개수
+     * @return {@link ConcurrentQueryExecutor}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static ConcurrentQueryExecutor ofVirtualThreads(@Min(1) int maxConcurrency) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        return new ConcurrentQueryExecutor(executor, maxConcurrency, executor);
+    }
+
+    /**
+     * virtual thread에서 query를 실행하고, 동시 실행 개수를 {@link DataSource}의 connection pool 크기로 제한하는 executor를 생성하는 함수.
+     *
+     * @param dataSource
+     *            query를 실행할 data source
+     * @return {@link ConcurrentQueryExecutor}
+     *
+     * @see #ofVirtualThreads(List)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static ConcurrentQueryExecutor ofVirtualThreads(DataSource dataSource) {
+        return ConcurrentQueryExecutor.ofVirtualThreads(Collections.singletonList(dataSource));
+    }
+
+    /**
+     * virtual thread에서 query를 실행하고, 동시 실행 개수를 여러 data source의 connection pool 크기로 제한하는 executor를 생성하는 함수. <br>
+     * 작업이 어느 data source에서 실행될지 알 수 없기 때문에, 가장 작은 pool 크기를 기준으로 한다. 작업을 호출한 thread도 connection을 사용할 수 있도록 pool
+     * 크기보다 1개 적게 실행하며 (최소 1개), pool 크기를 알 수 없는 경우 {@value #DEFAULT_POOL_SIZE}개를 pool 크기로 사용한다.
+     *
+     * @param dataSources
+     *            query를 실행할 data source 목록 (ex. 기본 data source와 read replica)
+     * @return {@link ConcurrentQueryExecutor}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static ConcurrentQueryExecutor ofVirtualThreads(@NotNull List<DataSource> dataSources) {
+        if (dataSources == null || dataSources.isEmpty()) {
+            throw new IllegalArgumentException("data source가 없습니다.");
+        }
+
+        int maxConcurrency = dataSources.stream() //
+                .mapToInt(ConcurrentQueryExecutor::resolvePoolSize) //
+                .map(poolSize -> Math.max(poolSize - 1, 1)) //
+                .min() //
+                .getAsInt();
+
+        return ConcurrentQueryExecutor.ofVirtualThreads(maxConcurrency);
+    }
+
+    /**
+     * 작업을 실행하는 함수. 동시 실행 개수를 넘을 경우 실행 가능할 때까지 대기한다. <br>
+     * executor의 작업 안에서 다시 호출한 경우 (ex. 비동기로 실행한 findAllInDatas의 IN 조건 query) 바깥 작업이 실행 권한을 가진 채로 대기하여 모든 작업이 멈추지
+     * 않도록, 호출한 thread에서 바로 실행한다. <br>
+     * 호출한 thread에 설정된 {@link QueryHints}는 작업을 실행하는 thread에도 적용한다. <br>
+     * 반환한 future를 취소하면 아직 시작하지 않은 작업은 실행하지 않는다. 이미 실행 중인 작업은 중단하지 않는다.
+     *
+     * @param <R>
+     *            작업 결과 타입
+     * @param task
+     *            실행할 작업
+     * @return 작업 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public <R> CompletableFuture<R> submit(@NotNull Supplier<R> task) {
+        if (ConcurrentQueryExecutor.isRunningTask()) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        // 호출한 thread에 설정된 hint를 작업을 실행하는 thread에도 적용함
+        QueryHints hints = HintedJdbcTemplate.currentHints();
+
+        CompletableFuture<R> future = new CompletableFuture<>();
+
+        this.executor.execute(() -> {
+            // 취소된 작업은 실행 권한과 connection을 사용하지 않도록 실행하지 않음
+            if (future.isDone()) {
+                return;
+            }
+
+            try {
+                this.permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(e);
+                return;
+            }
+
+            RUNNING_TASK.set(Boolean.TRUE);
+
+            try {
+                // 실행 권한을 기다리는 중에 취소된 경우
+                if (!future.isDone()) {
+                    future.complete(hints == null ? task.get() : HintedJdbcTemplate.withHints(hints, task));
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                RUNNING_TASK.remove();
+                this.permits.release();
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * 현재 thread가 executor의 작업을 실행 중인지 확인하는 함수
+     *
+     * @return executor의 작업을 실행 중일 경우 true
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static boolean isRunningTask() {
+        return RUNNING_TASK.get() != null;
+    }
+
+    /**
+     * @return 동시에 실행할 수 있는 query 개수
+     */
+    public int getMaxConcurrency() {
+        return this.maxConcurrency;
+    }
+
+    /**
+     * 직접 생성한 executor를 종료하는 함수. 이미 실행 중인 작업은 끝까지 실행하며, 생성자로 전달받은 executor는 종료하지 않는다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    public void close() {
+        if (this.ownedExecutor != null) {
+            this.ownedExecutor.shutdown();
+        }
+    }
+
+    /**
+     * {@link CompletableFuture#join()}에서 발생한 exception의 원래 exception을 가져오는 함수
+     *
+     * @param e
+     *            join 중 발생한 exception
+     * @return 원래 exception이 {@link RuntimeException}일 경우 원래 exception, 그 이외의 경우 전달받은 exception
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    static RuntimeException unwrap(CompletionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+
+    /**
+     * data source의 connection pool 크기를 가져오는 함수
+     *
+     * @param dataSource
+     *            data source
+     * @return connection pool 크기. 알 수 없을 경우 {@value #DEFAULT_POOL_SIZE}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static int resolvePoolSize(DataSource dataSource) {
+        int poolSize = HIKARI_PRESENT ? HikariPoolSize.of(dataSource) : 0;
+
+        return poolSize > 0 ? poolSize : DEFAULT_POOL_SIZE;
+    }
+
+    /**
+     * HikariCP가 classpath에 없을 때 class를 읽지 않도록 분리한 class
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static final class HikariPoolSize {
+
+        /**
+         * @param dataSource
+         *            data source
+         * @return HikariCP의 최대 pool 크기. HikariCP data source가 아니거나 감싼 data source를 가져올 수 없는 경우 0
+         */
+        static int of(DataSource dataSource) {
+            try {
+                // proxy 등으로 감싼 data source에서도 pool 크기를 가져옴
+                return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() : 0;
+            } catch (SQLException e) {
+                return 0;
+            }
+        }
+
+    }
+
+}
@@ -1,25 +1,92 @@
 package io.github.mjyoun.spring.repository;
 
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.sql.DataSource;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.MessageSource;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ConcurrentLruCache;
 
 import io.github.mjyoun.core.data.Result;
+import io.github.mjyoun.spring.data.IntList;
+import io.github.mjyoun.spring.data.KeysetPageRequest;
+import io.github.mjyoun.spring.data.KeysetSlice;
+import io.github.mjyoun.spring.data.ListResultConverter;
+import io.github.mjyoun.spring.data.LongList;
 import io.github.mjyoun.spring.entity.GenericEntity;
+import io.github.mjyoun.spring.entity.PersistableEntity;
+import io.github.mjyoun.spring.repository.cache.QueryCachePolicy;
+import io.github.mjyoun.spring.repository.cache.QueryCacheStatistics;
+import io.github.mjyoun.spring.repository.cache.QueryResultCache;
+import io.github.mjyoun.spring.repository.explain.ExplainPlan;
+import io.github.mjyoun.spring.repository.explain.SlowQueryExplainPolicy;
+import io.github.mjyoun.spring.repository.inlist.InListQuery;
+import io.github.mjyoun.spring.repository.inlist.InListStrategies;
+import io.github.mjyoun.spring.repository.inlist.InListStrategy;
+import io.github.mjyoun.spring.repository.metrics.NPlusOneDetector;
+import io.github.mjyoun.spring.repository.metrics.QueryMetrics;
+import io.github.mjyoun.spring.repository.metrics.QueryMetricsSink;
+import io.github.mjyoun.spring.repository.metrics.QueryMetricsSnapshot;
 
 /**
  * {@link JdbcTemplate} 사용을 위한 repository
@@ -27,16 +94,87 @@ import io.github.mjyoun.spring.entity.GenericEntity;
  * @author MJ Youn
  * @since 2021. 12. 27.
  */
-public abstract class GenericRepository {
+public abstract class GenericRepository implements DisposableBean {
 
     protected static final Logger logger = LoggerFactory.getLogger(GenericRepository.class);
 
+    /** 페이지 크기 parameter 이름 */
+    protected static final String PAGINATION_LIMIT_PARAM = "pagination_limit";
+    /** 페이지 시작 위치 parameter 이름 */
+    protected static final String PAGINATION_OFFSET_PARAM = "pagination_offset";
+    /** 캐싱할 페이지네이션 query의 최대 개수 */
+    private static final int PAGINATION_QUERY_CACHE_LIMIT = 1024;
+    /** query 결과 캐시의 기본 최대 개수 */
+    private static final int DEFAULT_QUERY_CACHE_SIZE = 10000;
+    /** batchInsert의 기본 chunk 크기 */
+    protected static final int DEFAULT_BATCH_INSERT_CHUNK_SIZE = 1000;
+    /** COUNT(*) OVER() 로 조회한 전체 개수 column 이름 */
+    protected static final String PAGINATION_TOTAL_COUNT_COLUMN = "pagination_total_count";
+    /** 전체 개수 조회를 위한 테이블 이름 */
+    protected static final String WINDOW_COUNT_TABLE_NAME = "window_count_table";
+    /** 캐싱할 query 실행 정보 이름의 최대 개수 */
+    private static final int QUERY_METRIC_KEY_CACHE_LIMIT = 1024;
+    /** 현재 thread에서 repository 함수의 실행 정보를 기록하고 있는지 여부 */
+    private static final ThreadLocal<Boolean> INSTRUMENTING = new ThreadLocal<>();
+    /** keyset 페이지네이션을 위한 테이블 이름 */
+    protected static final String KEYSET_TABLE_NAME = "keyset_table";
+
     /** Query를 properties로 부터 가져오기 위한 Message Source */
     private ReloadableResourceBundleMessageSource messageSource;
+    /** properties의 query를 code 별로 보관하는 registry */
+    private final QueryRegistry queryRegistry;
     /** JdbcTemplate */
     private JdbcTemplate jdbcTemplate;
+    /** query hint, fetch size 계산, 느린 query의 실행 계획 조회를 사용할 때 jdbcTemplate 대신 사용할 template */
+    private final HintedJdbcTemplate hintedJdbcTemplate;
+    /** named parameter query 실행을 위한 template. 파싱한 query를 캐싱하기 위해 하나의 instance를 공유함 */
+    private volatile CachingNamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    /** (원래 query, 정렬 조건) 별로 생성한 페이지네이션 query */
+    private final Map<PaginationQueryKey, String> paginationQueries = new ConcurrentHashMap<>();
+    /** IN 조건에 데이터 목록을 바인딩하는 방식 */
+    private InListStrategy inListStrategy = InListStrategies.expand();
+    /** IN 조건 query가 여러 개로 나뉘었을 때 동시에 실행할지 여부 */
+    private boolean parallelInDatas = false;
+    /** 여러 query를 동시에 실행하기 위한 executor. 설정하지 않을 경우 처음 사용할 때 생성 */
+    private volatile ConcurrentQueryExecutor queryExecutor;
+    /** {@link #queryExecutor}를 repository에서 생성했는지 여부. 생성한 executor는 repository에서 종료함 */
+    private boolean defaultQueryExecutor = false;
+    /** query 결과 캐시 */
+    private QueryResultCache queryResultCache = new QueryResultCache(DEFAULT_QUERY_CACHE_SIZE);
+    /** query code 별 결과 캐싱 정책 */
+    private final Map<String, QueryCachePolicy> queryCachePoliciesByCode = new ConcurrentHashMap<>();
+    /** query 별 결과 캐싱 정책 */
+    private final Map<String, QueryCachePolicy> queryCachePolicies = new ConcurrentHashMap<>();
+    /** 기본 data source 정보 */
+    private volatile JdbcRoute primaryRoute;
+    /** 조회 query를 실행할 read replica 정보. 없을 경우 기본 data source에서 조회 */
+    private volatile List<JdbcRoute> readRoutes = List.of();
+    /** read replica 선택 방식 */
+    private ReplicaSelection replicaSelection = ReplicaSelection.ROUND_ROBIN;
+    /** round robin 방식으로 read replica를 선택하기 위한 순번 */
+    private final AtomicInteger readRouteSequence = new AtomicInteger();
+    /** query 실행 정보를 전달받을 sink */
+    private volatile QueryMetricsSink queryMetricsSink = new QueryMetrics();
+    /** N+1 조회 확인. null일 경우 확인하지 않음 */
+    private volatile NPlusOneDetector nPlusOneDetector;
+    /** query 별 실행 정보를 기록할 이름 */
+    private final ConcurrentLruCache<String, String> queryMetricKeys = new ConcurrentLruCache<>(QUERY_METRIC_KEY_CACHE_LIMIT,
+            this::createQueryMetricKey);
+    /** 조회 결과로 fetch size를 계산 */
+    private final AdaptiveFetchSize adaptiveFetchSize = new AdaptiveFetchSize();
+    /** 느린 query의 실행 계획 조회 */
+    private final SlowQueryExplainer slowQueryExplainer = new SlowQueryExplainer(this::explainPlan);
+    /** query code 별 statement 설정 */
+    private final Map<String, QueryHints> queryHintsByCode = new ConcurrentHashMap<>();
+    /** query 별 statement 설정 */
+    private final Map<String, QueryHints> queryHints = new ConcurrentHashMap<>();
+    /** stream 조회시 JdbcTemplate에 fetch size가 설정되어 있지 않을 경우 사용할 fetch size */
+    private int streamFetchSize = 1000;
 
     /**
+     * 전달받은 jdbcTemplate으로 query를 실행한다. query hint, fetch size 계산, 느린 query의 실행 계획 조회를 사용하는 query만 jdbcTemplate의 현재 설정
+     * (fetch size, max rows, query timeout, exception translator 등)을 사용하는 별도의 template으로 실행한다.
+     * 
      * @param jdbcTemplate
      *            JdbcTemplate
      * @param messageSource
@@ -48,11 +186,15 @@ public abstract class GenericRepository {
     protected GenericRepository(JdbcTemplate jdbcTemplate, //
             ReloadableResourceBundleMessageSource messageSource) {
         this.jdbcTemplate = jdbcTemplate;
+        this.hintedJdbcTemplate = new HintedJdbcTemplate(jdbcTemplate.getDataSource(), jdbcTemplate, this.adaptiveFetchSize, this.slowQueryExplainer);
         this.messageSource = messageSource;
+        this.queryRegistry = messageSource == null ? null : new QueryRegistry(messageSource);
+        this.namedParameterJdbcTemplate = new CachingNamedParameterJdbcTemplate(this.jdbcTemplate, NamedParameterJdbcTemplate.DEFAULT_CACHE_LIMIT);
+        this.primaryRoute = this.createRoute(this.jdbcTemplate, this.hintedJdbcTemplate);
     }
 
     /**
-     * {@link MessageSource}에서 code에 해당하는 query를 가져오는 함수
+     * {@link MessageSource}에서 code에 해당하는 query를 가져오는 함수. 생성시 읽어둔 {@link QueryRegistry}에서 가져온다.
      * 
      * @param code
      *            가져오고자 하는 code
@@ -62,389 +204,2737 @@ public abstract class GenericRepository {
      * @since 2021. 12. 27.
      */
     protected String getQuery(String code) {
-        return this.messageSource.getMessage(code, null, Locale.getDefault());
+        return this.queryRegistry.get(code);
     }
 
     /**
-     * query 질의 결과를 {@link GenericEntity} 타입의 목록 형태로 조회하는 함수
-     * 
-     * @param <T>
-     *            GenericEntity를 상속받은 Entity
-     * @param t
-     *            GenericEntity를 상속받은 Entity 클래스
-     * @param sql
-     *            실행 query
-     * @param args
-     *            query 실행시 필요한 arguments
-     * @return query 실행 결과
+     * properties에서 query를 다시 읽는 함수. query 결과 캐싱 정책, query hint도 새로 읽은 query 기준으로 다시 설정한다.
      * 
      * @author MJ Youn
-     * @since 2021. 12. 27.
+     * @since 2026. 10. 17.
      */
-    protected <T extends GenericEntity<T>> Result<List<T>> findAll(Class<T> t, String sql, Object... args) {
-        List<T> resultData = null;
+    public void reloadQueries() {
+        this.queryRegistry.reload();
 
-        if (args == null || args.length == 0) {
-            resultData = this.jdbcTemplate.query(sql, this.getRowMapper(t));
-        } else {
-            resultData = this.jdbcTemplate.query(sql, this.getRowMapper(t), args);
-        }
+        Map<String, QueryCachePolicy> reloadedPolicies = new HashMap<>();
+        this.queryCachePoliciesByCode.forEach((code, policy) -> reloadedPolicies.put(this.getQuery(code), policy));
+
+        this.queryCachePolicies.keySet().retainAll(reloadedPolicies.keySet());
+        this.queryCachePolicies.putAll(reloadedPolicies);
 
-        return Result.ok(resultData);
+        Map<String, QueryHints> reloadedHints = new HashMap<>();
+        this.queryHintsByCode.forEach((code, hints) -> reloadedHints.put(this.getQuery(code), hints));
+
+        this.queryHints.keySet().retainAll(reloadedHints.keySet());
+        this.queryHints.putAll(reloadedHints);
+        this.paginationQueries.clear();
+        this.queryResultCache.invalidateAll();
+        this.queryMetricKeys.clear();
     }
 
     /**
-     * query 질의를 페이지네이션 정보와 함께 실행한 {@link GenericEntity} 타입의 목록 형태로 조회하는 함수
+     * @return JdbcTemplate
+     */
+    protected JdbcTemplate getJdbcTemplate() {
+        return this.jdbcTemplate;
+    }
+
+    /**
+     * @return properties의 query를 code 별로 보관하는 registry
+     */
+    protected QueryRegistry getQueryRegistry() {
+        return this.queryRegistry;
+    }
+
+    /**
+     * named parameter query의 파싱 결과를 캐싱할 최대 개수를 설정하는 함수. 설정시 기존 캐시와 hit/miss 횟수는 초기화된다.
      * 
-     * @param <T>
-     *            GenericEntity를 상속받은 Entity
-     * @param t
-     *            GenericEntity를 상속받은 Entity 클래스
-     * @param sql
-     *            실행 query
-     * @param pageable
-     *            페이지네이션 정보
-     * @param args
-     *            query 실행시 필요한 arguments
-     * @return 페이지네이션을 포함한 query 실행 결과
+     * @param parsedSqlCacheLimit
+     *            캐싱할 query의 최대 개수. 0일 경우 캐싱하지 않음. (기본: {@link NamedParameterJdbcTemplate#DEFAULT_CACHE_LIMIT})
      * 
      * @author MJ Youn
-     * @since 2021. 12. 27.
+     * @since 2026. 10. 17.
      */
-    protected <T extends GenericEntity<T>> Result<List<T>> findAllWithPage(Class<T> t, String sql, Pageable pageable, Object... args) {
-        StringBuffer sb = new StringBuffer() //
-                .append(this.createPaginationPreFixQuery()) //
-                .append(sql) //
-                .append(this.createPagenationPostFixQuery(pageable));
+    public void setParsedSqlCacheLimit(@Min(0) int parsedSqlCacheLimit) {
+        if (parsedSqlCacheLimit < 0) {
+            throw new IllegalArgumentException("캐시 크기는 0 이상이어야 합니다.");
+        }
 
-        logger.debug("Pageable: {}", this.createPagenationPostFixQuery(pageable));
+        this.namedParameterJdbcTemplate = new CachingNamedParameterJdbcTemplate(this.jdbcTemplate, parsedSqlCacheLimit);
+        this.primaryRoute = this.createRoute(this.jdbcTemplate, this.hintedJdbcTemplate);
+        this.readRoutes = this.readRoutes.stream() //
+                .map(route -> this.createRoute(route.hintedJdbcTemplate(), route.hintedJdbcTemplate())) //
+                .toList();
+    }
 
-        return this.findAll(t, sb.toString(), args);
+    /**
+     * named parameter query의 파싱 결과를 캐시에서 찾은 횟수
+     * 
+     * @return 캐시 hit 횟수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public long getParsedSqlCacheHitCount() {
+        return this.namedParameterJdbcTemplate.getHitCount();
     }
 
     /**
-     * query 질의 결과를 하나의 {@link GenericEntity} 정보로 조회하는 함수
+     * named parameter query의 파싱 결과가 캐시에 없어 새로 파싱한 횟수
      * 
-     * @param <T>
-     *            GenericEntity를 상속받은 Entity
-     * @param t
-     *            GenericEntity를 상속받은 Entity 클래스
-     * @param sql
-     *            실행 query
-     * @param args
-     *            query 실행시 필요한 arguments
-     * @return query 실행 결과
+     * @return 캐시 miss 횟수
      * 
      * @author MJ Youn
-     * @since 2021. 12. 27.
+     * @since 2026. 10. 17.
      */
-    protected <T extends GenericEntity<T>> Result<T> findOne(Class<T> t, String sql, Object... args) {
-        T resultData = null;
+    public long getParsedSqlCacheMissCount() {
+        return this.namedParameterJdbcTemplate.getMissCount();
+    }
 
-        try {
-            if (args == null || args.length == 0) {
-                resultData = this.jdbcTemplate.queryForObject(sql, this.getRowMapper(t));
-            } else {
-                resultData = this.jdbcTemplate.queryForObject(sql, this.getRowMapper(t), args);
-            }
-        } catch (EmptyResultDataAccessException e) { // 조회 된 결과가 없을 경우
+    /**
+     * {@link #findAllInDatas(Class, String, String, List)}, {@link #findAllIdInDatas(Class, String, String, List)}에서 IN 조건에 데이터 목록을
+     * 바인딩하는 방식을 설정하는 함수. <br>
+     * 데이터 목록을 여러 query로 나누는 방식 (ex. {@link InListStrategies#padded(int)})은 각 query의 결과를 이어 붙이기 때문에, 해당 함수의 query는 row를
+     * 거르기만 하는 조건이어야 한다. ORDER BY, DISTINCT, GROUP BY, 집계 함수, LIMIT은 query 단위로 적용되고, NOT IN 조건은 사용할 수 없다.
+     * 
+     * @param inListStrategy
+     *            IN 조건 바인딩 방식. (기본: {@link InListStrategies#expand()})
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void setInListStrategy(@NotNull InListStrategy inListStrategy) {
+        if (inListStrategy == null) {
+            throw new IllegalArgumentException("IN 조건 바인딩 방식이 없습니다.");
         }
 
-        return Result.ok(resultData);
+        this.inListStrategy = inListStrategy;
     }
 
     /**
-     * 특정 컬럼의 데이터 목록을 갖고, 해당 데이터에 해당하는 결과를 조회하는 함수
+     * {@link InListStrategy}가 IN 조건 query를 여러 개로 나누었을 때 동시에 실행할지 설정하는 함수. <br>
+     * 동시에 실행할 경우 각 query는 별도의 connection을 사용하기 때문에, transaction 안에서 호출한 경우에는 순서대로 실행한다.
      * 
-     * @param <T>
-     *            GenericEntity를 상속받은 Entity
-     * @param t
-     *            GenericEntity를 상속받은 Entity 클래스
-     * @param sql
-     *            실행 query
-     * @param dataColumn
-     *            조회할 data column 이름. query 상에 ":dataColumn"으로 설정되어 있는 이름
-     * @param datas
-     *            조회할 data 목록
-     * @return query 실행 결과
+     * @param parallelInDatas
+     *            true면 {@link #getQueryExecutor()}로 동시에 실행. (기본: false)
      * 
      * @author MJ Youn
-     * @since 2021. 12. 27.
+     * @since 2026. 10. 17.
      */
-    protected <T extends GenericEntity<T>> Result<List<T>> findAllInDatas(Class<T> t, String sql, String dataColumn, List<String> datas) {
-        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(this.jdbcTemplate.getDataSource());
-        Map<String, List<String>> dataMap = new HashMap<>();
-        dataMap.put(dataColumn, datas);
-
-        return Result.ok(namedParameterJdbcTemplate.query(sql, dataMap, this.getRowMapper(t)));
+    public void setParallelInDatas(boolean parallelInDatas) {
+        this.parallelInDatas = parallelInDatas;
     }
 
     /**
-     * parameter map을 갖고 DB 조회를 요청하는 함수
+     * 여러 query를 동시에 실행할 때 사용할 executor를 설정하는 함수
      * 
-     * @param <T>
-     *            GenericEntity를 상속받은 Entity
-     * @param <P>
-     *            parameter map의 value 타입
-     * @param t
-     *            GenericEntity를 상속받은 Entity 클래스
-     * @param sql
-     *            실행 query
-     * @param paramsMap
-     *            query 조회 parameter map
-     * @return query 실행 결과
+     * @param queryExecutor
+     *            query executor. (기본: virtual thread를 사용하고, connection pool 크기만큼 동시에 실행하는 executor)
      * 
      * @author MJ Youn
-     * @since 2022. 01. 10.
+     * @since 2026. 10. 17.
      */
-    protected <T extends GenericEntity<T>, P> Result<List<T>> findAllInDatas(Class<T> t, String sql, Map<String, List<P>> paramsMap) {
-        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(this.jdbcTemplate.getDataSource());
+    public synchronized void setQueryExecutor(@NotNull ConcurrentQueryExecutor queryExecutor) {
+        if (queryExecutor == null) {
+            throw new IllegalArgumentException("query executor가 없습니다.");
+        }
 
-        return Result.ok(namedParameterJdbcTemplate.query(sql, paramsMap, this.getRowMapper(t)));
+        this.closeDefaultQueryExecutor();
+        this.queryExecutor = queryExecutor;
     }
 
     /**
-     * parameter map을 갖고 DB 조회를 요청하는 함수
+     * 여러 query를 동시에 실행할 때 사용할 executor를 가져오는 함수. 설정된 executor가 없을 경우 기본 data source와 read replica의 connection pool
+     * 크기로 동시 실행 개수를 제한하는 기본 executor를 생성한다.
      * 
-     * @param <T>
-     *            GenericEntity를 상속받은 Entity
-     * @param <P>
-     *            parameter map의 value 타입
-     * @param t
-     *            GenericEntity를 상속받은 Entity 클래스
-     * @param sql
-     *            실행 query
-     * @param paramsMap
-     *            query 조회 parameter map
-     * @param pageable
-     *            페이지네이션 정보
-     * @return query 실행 결과
+     * @return query executor
      * 
      * @author MJ Youn
-     * @since 2022. 01. 10.
+     * @since 2026. 10. 17.
      */
-    protected <T extends GenericEntity<T>, P> Result<List<T>> findAllInDatas(Class<T> t, String sql, Map<String, List<P>> paramsMap,
-            Pageable pageable) {
-        String queryWithPageable = new StringBuffer() //
-                .append(this.createPaginationPreFixQuery()) //
-                .append(sql) //
-                .append(this.createPagenationPostFixQuery(pageable)) //
-                .toString();
+    protected ConcurrentQueryExecutor getQueryExecutor() {
+        ConcurrentQueryExecutor executor = this.queryExecutor;
+
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.queryExecutor;
+
+                if (executor == null) {
+                    List<DataSource> dataSources = new ArrayList<>();
+                    dataSources.add(this.primaryRoute.plainJdbcTemplate().getDataSource());
+                    this.readRoutes.forEach(route -> dataSources.add(route.plainJdbcTemplate().getDataSource()));
 
-        logger.debug("Pageable: {}", this.createPagenationPostFixQuery(pageable));
+                    executor = ConcurrentQueryExecutor.ofVirtualThreads(dataSources);
+                    this.queryExecutor = executor;
+                    this.defaultQueryExecutor = true;
+                }
+            }
+        }
 
-        return this.findAllInDatas(t, queryWithPageable, paramsMap);
+        return executor;
     }
 
     /**
-     * parameter map을 갖고 DB 조회를 요청하는 함수
-     * 
-     * @param <K>
-     *            출력할 데이터 타입
-     * @param <P>
-     *            parameter map의 value 타입
-     * @param k
-     *            출력할 데이터의 class
-     * @param sql
-     *            실행 query
-     * @param paramsMap
-     *            query 조회 parameter map
-     * @return query 실행한 아이디 목록 결과
+     * repository에서 생성한 기본 executor를 종료하는 함수. 다음에 사용할 때 다시 생성한다.
      * 
      * @author MJ Youn
-     * @since 2022. 01. 19.
+     * @since 2026. 10. 17.
      */
-    protected <K, P> Result<List<K>> findAllIdInDatas(Class<K> k, String sql, Map<String, List<P>> paramsMap) {
-        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(this.jdbcTemplate.getDataSource());
-
-        return Result.ok(namedParameterJdbcTemplate.queryForList(sql, paramsMap, k));
+    private synchronized void closeDefaultQueryExecutor() {
+        if (this.defaultQueryExecutor) {
+            this.queryExecutor.close();
+            this.queryExecutor = null;
+            this.defaultQueryExecutor = false;
+        }
     }
 
     /**
-     * parameter map을 갖고 DB 조회를 요청하는 함수
+     * repository에서 생성한 기본 executor를 종료한다. {@link #setQueryExecutor(ConcurrentQueryExecutor)}로 설정한 executor는 종료하지 않는다.
      * 
-     * @param <K>
-     *            출력할 데이터 타입
-     * @param <P>
-     *            parameter map의 value 타입
-     * @param k
-     *            출력할 데이터의 class
-     * @param sql
-     *            실행 query
-     * @param paramsMap
-     *            query 조회 parameter map
-     * @param pageable
-     *            페이지네이션 정보
-     * @return query 실행한 아이디 목록 결과
+     * @see DisposableBean#destroy()
      * 
      * @author MJ Youn
-     * @since 2022. 01. 19.
+     * @since 2026. 10. 17.
      */
-    protected <K, P> Result<List<K>> findAllIdInDatas(Class<K> k, String sql, Map<String, List<P>> paramsMap, Pageable pageable) {
-        String queryWithPageable = new StringBuffer() //
-                .append(this.createPaginationPreFixQuery()) //
-                .append(sql) //
-                .append(this.createPagenationPostFixQuery(pageable)) //
-                .toString();
-
-        logger.debug("Pageable: {}", this.createPagenationPostFixQuery(pageable));
-
-        return this.findAllIdInDatas(k, queryWithPageable, paramsMap);
+    @Override
+    public void destroy() {
+        this.closeDefaultQueryExecutor();
     }
 
     /**
-     * parameter map을 갖고 DB 조회 결과를 Integer로 받는 함수
+     * query 결과 캐시를 설정하는 함수. 기존에 캐싱된 결과는 사용하지 않는다.
      * 
-     * @param <R>
-     *            Return 타입
-     * @param <P>
-     *            Parameter 타입
-     * @param sql
-     *            실행 query
-     * @param paramsMap
-     *            query 조회 parameter map
-     * @return query 실행 결과
+     * @param queryResultCache
+     *            query 결과 캐시. (기본: 최대 {@value #DEFAULT_QUERY_CACHE_SIZE}개를 캐싱하는 캐시)
      * 
      * @author MJ Youn
-     * @since 2022. 01. 10.
+     * @since 2026. 10. 17.
      */
-    protected <R, P> Result<R> executeWithParams(String sql, Map<String, List<P>> paramsMap, Class<R> returnType) {
-        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(this.jdbcTemplate.getDataSource());
+    public void setQueryResultCache(@NotNull QueryResultCache queryResultCache) {
+        if (queryResultCache == null) {
+            throw new IllegalArgumentException("query 결과 캐시가 없습니다.");
+        }
 
-        return Result.ok(namedParameterJdbcTemplate.queryForObject(sql, paramsMap, returnType));
+        this.queryResultCache = queryResultCache;
     }
 
     /**
-     * query 실행 결과를 개수로 조회하는 함수
+     * query code에 해당하는 query의 결과 캐싱 정책을 설정하는 함수. <br>
+     * 정책이 설정된 query만 {@link #findAll(Class, String, Object...)}, {@link #findOne(Class, String, Object...)},
+     * {@link #execute(String, Class, Object...)}에서 결과를 캐싱한다. 읽기 전용이 아닌 transaction 안에서는 commit 전의 변경 내용을 캐싱하지 않도록 캐시를
+     * 사용하지 않는다. <br>
+     * <b>주의: 캐싱된 entity는 복사하지 않고 모든 호출에서 같은 객체를 반환한다. ({@link #findAll(Class, String, Object...)}는 목록만 복사함) 반환받은
+     * entity를 변경하면 이후 조회 결과도 변경되기 때문에, 캐싱하는 query의 entity는 변경하지 않아야 한다.</b>
      * 
-     * @param sql
-     *            실행 query
-     * @param args
-     *            query 실행시 필요한 arguments
-     * @return query 실행 결과
+     * @param queryCode
+     *            query code
+     * @param policy
+     *            결과 캐싱 정책. null일 경우 캐싱하지 않음
      * 
      * @author MJ Youn
-     * @since 2021. 12. 27.
+     * @since 2026. 10. 17.
      */
-    protected Result<Integer> execute(String sql, Object... args) {
-        Integer resultData = null;
+    public void setQueryCachePolicy(@NotNull String queryCode, QueryCachePolicy policy) {
+        String sql = this.getQuery(queryCode);
 
-        if (args == null || args.length == 0) {
-            resultData = this.jdbcTemplate.update(sql);
+        if (policy == null) {
+            this.queryCachePoliciesByCode.remove(queryCode);
+            this.queryCachePolicies.remove(sql);
         } else {
-            resultData = this.jdbcTemplate.update(sql, args);
+            this.queryCachePoliciesByCode.put(queryCode, policy);
+            this.queryCachePolicies.put(sql, policy);
         }
+    }
 
-        return Result.ok(resultData);
+    /**
+     * query 결과 캐시 통계 정보를 가져오는 함수
+     * 
+     * @return 캐시 통계 정보
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public QueryCacheStatistics getQueryCacheStatistics() {
+        return this.queryResultCache.getStatistics();
     }
 
     /**
-     * query 실행 결과를 원하는 Object로 변환하여 출력하는 함수
+     * 캐싱된 query 결과를 모두 삭제하는 함수
      * 
-     * @param <T>
-     *            결과 타입
-     * @param sql
-     *            실행 query
-     * @param t
-     *            결과 타입 class
-     * @param args
-     *            query 실행시 필요한 arguments
-     * @return query 실행 결과
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void invalidateQueryCache() {
+        this.queryResultCache.invalidateAll();
+    }
+
+    /**
+     * 변경 query가 변경하는 테이블을 조회하는 캐싱된 결과를 삭제하는 함수. <br>
+     * transaction 안에서 실행한 경우, commit 전에 다른 thread가 변경 전 데이터를 다시 캐싱할 수 있기 때문에 commit 이후에 삭제한다. rollback 된 경우에는
+     * 삭제하지 않는다.
+     * 
+     * @param writeSql
+     *            실행한 변경 query
      * 
      * @author MJ Youn
-     * @since 2022. 01. 19.
+     * @since 2026. 10. 17.
      */
-    protected <T> Result<T> execute(String sql, Class<T> t, Object... args) {
-        if (args == null || args.length == 0) {
-            return Result.ok(this.jdbcTemplate.queryForObject(sql, t));
+    protected void invalidateQueryCache(String writeSql) {
+        if (this.queryCachePolicies.isEmpty()) {
+            return;
+        }
+
+        QueryResultCache cache = this.queryResultCache;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(writeSql);
+                }
+            });
         } else {
-            return Result.ok(this.jdbcTemplate.queryForObject(sql, t, args));
+            cache.invalidate(writeSql);
         }
     }
 
     /**
-     * 여러 데이터를 하나의 query로 배치 실행하는 함수
+     * query의 결과 캐싱 정책을 가져오는 함수
      * 
      * @param sql
      *            실행 query
-     * @param pss
-     *            query 실행시 argument를 설정하기 위한 setter
-     * @return query 실행 결과
+     * @return 결과 캐싱 정책. 캐싱하지 않는 query일 경우 null
      * 
      * @author MJ Youn
-     * @since 2021. 12. 27.
+     * @since 2026. 10. 17.
      */
-    protected Result<Integer> batch(String sql, BatchPreparedStatementSetter pss) {
-        int[] resultDatas = this.jdbcTemplate.batchUpdate(sql, pss);
-        Integer sum = Arrays.stream(resultDatas).sum();
+    private QueryCachePolicy getQueryCachePolicy(String sql) {
+        if (this.queryCachePolicies.isEmpty() || this.isReadWriteTransaction()) {
+            return null;
+        }
 
-        return Result.ok(sum);
+        return this.queryCachePolicies.get(sql);
     }
 
     /**
-     * parameter log를 출력하기 위한 string을 생성하는 메소드
+     * 읽기 전용이 아닌 transaction 안에서 실행 중인지 확인하는 함수
      * 
-     * @param args
-     *            arguments
-     * @return arguments string
+     * @return 읽기 전용이 아닌 transaction 안일 경우 true
      * 
      * @author MJ Youn
-     * @since 2021. 12. 27.
+     * @since 2026. 10. 17.
      */
-    protected String createParameterLogString(Object... args) {
-        StringBuffer sb = new StringBuffer();
-
-        sb.append("PARAMETER:");
-
-        for (Object arg : args) {
-            sb.append(" ").append(arg);
-        }
-
-        return sb.toString();
+    private boolean isReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive() //
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
     }
 
     /**
-     * parameter log를 출력하기 위한 string을 생성하는 메소드
+     * 조회 query를 실행할 read replica를 설정하는 함수. <br>
+     * {@link #findAll(Class, String, Object...)}, {@link #findOne(Class, String, Object...)}, findAllInDatas, findAllIdInDatas, streamAll 등
+     * 조회 함수는 read replica에서 실행하고, execute, batch 등 변경 함수는 항상 기본 data source에서 실행한다. <br>
+     * 읽기 전용이 아닌 transaction 안에서는 변경 내용을 조회할 수 있도록 조회 함수도 기본 data source에서 실행한다. <br>
+     * read replica의 {@link JdbcTemplate}은 기본 JdbcTemplate의 fetch size, max rows, query timeout, exception translator 설정을 사용한다. <br>
+     * 기본 executor를 사용하는 경우, 동시 실행 개수는 read replica의 connection pool 크기를 포함하여 다시 계산한다.
      * 
-     * @param args
-     *            arguments
-     * @return arguments string
+     * @param dataSources
+     *            read replica 목록. 빈 목록일 경우 모든 query를 기본 data source에서 실행
+     * @param replicaSelection
+     *            read replica 선택 방식
      * 
      * @author MJ Youn
-     * @since 2021. 12. 27.
+     * @since 2026. 10. 17.
      */
-    protected String createParameterLogString(String... args) {
-        StringBuffer sb = new StringBuffer();
+    public void setReadDataSources(@NotNull List<DataSource> dataSources, @NotNull ReplicaSelection replicaSelection) {
+        if (dataSources == null || dataSources.contains(null)) {
+            throw new IllegalArgumentException("read replica data source가 없습니다.");
+        }
 
-        sb.append("PARAMETER:");
+        if (replicaSelection == null) {
+            throw new IllegalArgumentException("read replica 선택 방식이 없습니다.");
+        }
 
-        for (Object arg : args) {
-            sb.append(" ").append(arg);
+        List<JdbcRoute> routes = new ArrayList<>(dataSources.size());
+
+        for (DataSource dataSource : dataSources) {
+            HintedJdbcTemplate template = new HintedJdbcTemplate(dataSource, this.jdbcTemplate, this.adaptiveFetchSize, this.slowQueryExplainer);
+            routes.add(this.createRoute(template, template));
         }
 
-        return sb.toString();
+        this.replicaSelection = replicaSelection;
+        this.readRoutes = List.copyOf(routes);
+
+        // read replica의 pool 크기로 기본 executor의 동시 실행 개수를 다시 계산
+        this.closeDefaultQueryExecutor();
     }
 
     /**
-     * Object List를 log로 출력하기 위한 string으로 생성하는 함수
+     * 조회 query를 round robin 방식으로 선택한 read replica에서 실행하도록 설정하는 함수
      * 
-     * @param args
-     *            arguments
-     * @return arguments string
+     * @param dataSources
+     *            read replica 목록
+     * 
+     * @see #setReadDataSources(List, ReplicaSelection)
      * 
      * @author MJ Youn
-     * @since 2021. 12. 27.
+     * @since 2026. 10. 17.
      */
-    protected String createListParameterString(List<?> args) {
-        StringBuffer sb = new StringBuffer();
+    public void setReadDataSources(@NotNull List<DataSource> dataSources) {
+        this.setReadDataSources(dataSources, ReplicaSelection.ROUND_ROBIN);
+    }
+
+    /**
+     * 조회 query를 실행할 data source를 선택하여 실행하는 함수. 실행 중인 query 개수를 기록한다.
+     * 
+     * @param <R>
+     *            실행 결과 타입
+     * @param query
+     *            선택한 data source에서 실행할 query
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <R> R read(Function<JdbcRoute, R> query) {
+        JdbcRoute route = this.selectReadRoute();
+        route.inFlight().incrementAndGet();
+
+        try {
+            return query.apply(route);
+        } finally {
+            route.inFlight().decrementAndGet();
+        }
+    }
+
+    /**
+     * 조회 query를 실행할 data source를 선택하는 함수
+     * 
+     * @return read replica가 없거나 읽기 전용이 아닌 transaction 안일 경우 기본 data source, 그 이외의 경우 선택 방식에 따른 read replica
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private JdbcRoute selectReadRoute() {
+        List<JdbcRoute> routes = this.readRoutes;
+
+        if (routes.isEmpty() || this.isReadWriteTransaction()) {
+            return this.primaryRoute;
+        }
+
+        if (routes.size() == 1) {
+            return routes.get(0);
+        }
+
+        if (this.replicaSelection == ReplicaSelection.LEAST_IN_FLIGHT) {
+            // 실행 중인 개수가 같을 경우 한쪽으로 몰리지 않도록 round robin 순번부터 찾음
+            int start = Math.floorMod(this.readRouteSequence.getAndIncrement(), routes.size());
+            JdbcRoute selected = routes.get(start);
+
+            for (int i = 1; i < routes.size(); i++) {
+                JdbcRoute route = routes.get((start + i) % routes.size());
+
+                if (route.inFlight().get() < selected.inFlight().get()) {
+                    selected = route;
+                }
+            }
+
+            return selected;
+        }
+
+        return routes.get(Math.floorMod(this.readRouteSequence.getAndIncrement(), routes.size()));
+    }
+
+    /**
+     * query를 실행할 data source 정보를 생성하는 함수. named parameter query 파싱 결과 캐시는 기본 data source와 공유한다.
+     * 
+     * @param template
+     *            hint를 사용하지 않는 query를 실행할 JdbcTemplate
+     * @param hintedTemplate
+     *            hint를 사용하는 query를 실행할 JdbcTemplate. template과 같을 수 있음
+     * @return data source 정보
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private JdbcRoute createRoute(JdbcTemplate template, HintedJdbcTemplate hintedTemplate) {
+        CachingNamedParameterJdbcTemplate named = template == this.jdbcTemplate ? this.namedParameterJdbcTemplate
+                : new CachingNamedParameterJdbcTemplate(template, this.namedParameterJdbcTemplate);
+        CachingNamedParameterJdbcTemplate hintedNamed = template == hintedTemplate ? named
+                : new CachingNamedParameterJdbcTemplate(hintedTemplate, this.namedParameterJdbcTemplate);
+
+        return new JdbcRoute(template, named, hintedTemplate, hintedNamed, new AtomicInteger());
+    }
+
+    /**
+     * 전체 개수 조회 query를 조회용 data source에서 실행하는 함수
+     * 
+     * @param sql
+     *            전체 개수 조회 query
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return 전체 개수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private Long count(String sql, Object... args) {
+        return this.read(route -> route.jdbcTemplate().queryForObject(sql, Long.class, args));
+    }
+
+    /**
+     * query 실행 정보를 전달받을 sink를 설정하는 함수. <br>
+     * 조회, 변경 함수 별로 query code (code를 알 수 없는 경우 literal 값을 제거한 query) 단위의 실행 시간, row 개수, 오류 여부를 전달한다.
+     * 
+     * @param queryMetricsSink
+     *            query 실행 정보를 전달받을 sink. null일 경우 기록하지 않음. (기본: {@link QueryMetrics})
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void setQueryMetricsSink(QueryMetricsSink queryMetricsSink) {
+        this.queryMetricsSink = queryMetricsSink;
+    }
+
+    /**
+     * query 별 실행 통계 정보를 가져오는 함수
+     * 
+     * @return query 별 실행 통계 정보. sink가 {@link QueryMetrics}가 아닐 경우 빈 map
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Map<String, QueryMetricsSnapshot> getQueryMetrics() {
+        return this.queryMetricsSink instanceof QueryMetrics queryMetrics ? queryMetrics.snapshot() : Collections.emptyMap();
+    }
+
+    /**
+     * scope 안에서 같은 query가 기준 횟수보다 많이 실행되는 것 (N+1 조회)을 확인할 detector를 설정하는 함수. <br>
+     * 여러 repository에 같은 detector를 설정하면 scope 안에서 실행한 모든 repository 함수를 함께 확인한다.
+     * 
+     * @param nPlusOneDetector
+     *            N+1 조회 detector. null일 경우 확인하지 않음. (기본: null)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void setNPlusOneDetector(NPlusOneDetector nPlusOneDetector) {
+        this.nPlusOneDetector = nPlusOneDetector;
+    }
+
+    /**
+     * 실행 시간이 기준 이상인 조회 query의 실행 계획을 조회하는 정책을 설정하는 함수. <br>
+     * 실행 계획은 같은 data source에서 같은 parameter로 별도의 virtual thread에서 조회하며, warn log로 남기고 query code 별로 마지막 실행 계획을 보관한다.
+     * 
+     * @param policy
+     *            실행 계획 조회 정책. null일 경우 조회하지 않음. (기본: null)
+     * @throws UnsupportedOperationException
+     *             실행 계획 조회를 지원하지 않는 DB일 경우
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void setSlowQueryExplainPolicy(SlowQueryExplainPolicy policy) {
+        if (policy != null && !this.supportsExplain()) {
+            throw new UnsupportedOperationException("실행 계획 조회를 지원하지 않는 DB입니다.");
+        }
+
+        this.slowQueryExplainer.setPolicy(policy);
+    }
+
+    /**
+     * query code 별로 마지막으로 조회한 느린 query의 실행 계획을 가져오는 함수
+     * 
+     * @return query code 별 실행 계획. query code 순으로 정렬
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Map<String, ExplainPlan> getExplainPlans() {
+        return this.slowQueryExplainer.getPlans();
+    }
+
+    /**
+     * 실행한 statement와 같은 parameter로 실행 계획을 조회하는 함수. <br>
+     * statement 생성시 {@link #createExplainQuery(String)}로 변경한 query를 사용하도록 connection을 감싸서 statement를 다시 생성한다.
+     * 
+     * @param con
+     *            실행 계획을 조회할 connection
+     * @param psc
+     *            실행한 statement 생성 함수
+     * @param pss
+     *            실행한 statement의 parameter 설정 함수. nullable
+     * @return 실행 계획
+     * @throws SQLException
+     *             실행 계획 조회 중 오류가 발생한 경우
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private String explainPlan(Connection con, PreparedStatementCreator psc, PreparedStatementSetter pss) throws SQLException {
+        Connection explainConnection = (Connection) Proxy.newProxyInstance(GenericRepository.class.getClassLoader(), //
+                new Class<?>[] { Connection.class }, //
+                (proxy, method, methodArgs) -> {
+                    if ("prepareStatement".equals(method.getName()) && methodArgs[0] instanceof String sql) {
+                        methodArgs[0] = this.createExplainQuery(sql);
+                    }
+
+                    try {
+                        return method.invoke(con, methodArgs);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+
+        try (PreparedStatement explain = psc.createPreparedStatement(explainConnection)) {
+            if (pss != null) {
+                pss.setValues(explain);
+            }
+
+            return this.readExplainPlan(con, explain);
+        }
+    }
+
+    /**
+     * repository 함수의 실행 시간, row 개수, 오류 여부를 기록하고 (N+1 조회 확인 포함), query code에 설정한 hint를 적용하는 함수. <br>
+     * 다른 repository 함수 안에서 호출된 경우 (ex. findAllWithPage 안의 findAll) 가장 바깥의 함수만 기록한다. <br>
+     * 하위 class에서 {@link JdbcTemplate}을 직접 사용하는 함수 (ex. bulk load)도 이 함수로 감싸서 실행해야 기록된다.
+     * 
+     * @param <R>
+     *            실행 결과 타입
+     * @param sql
+     *            실행 query
+     * @param task
+     *            실행할 작업
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <R> R instrument(String sql, Supplier<R> task) {
+        return this.instrument(sql, task, GenericRepository::countRows);
+    }
+
+    /**
+     * repository 함수의 실행 시간, row 개수, 오류 여부를 기록하는 함수
+     * 
+     * @param <R>
+     *            실행 결과 타입
+     * @param sql
+     *            실행 query
+     * @param task
+     *            실행할 작업
+     * @param rowCounter
+     *            실행 결과에서 row 개수를 계산하는 함수
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <R> R instrument(String sql, Supplier<R> task, ToLongFunction<R> rowCounter) {
+        if (INSTRUMENTING.get() != null) {
+            return task.get();
+        }
+
+        Supplier<R> hinted = this.withQueryHints(sql, task);
+        QueryMetricsSink sink = this.queryMetricsSink;
+        NPlusOneDetector detector = this.nPlusOneDetector;
+
+        if (sink == null && detector == null) {
+            return this.withoutMetrics(hinted);
+        }
+
+        INSTRUMENTING.set(Boolean.TRUE);
+        long start = System.nanoTime();
+        R result = null;
+        boolean error = true;
+
+        try {
+            result = hinted.get();
+            error = false;
+
+            return result;
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            INSTRUMENTING.remove();
+
+            R recorded = result;
+            boolean failed = error;
+            this.recordMetrics(sql, sink, detector, elapsedNanos, () -> failed ? 0 : rowCounter.applyAsLong(recorded), failed);
+        }
+    }
+
+    /**
+     * 조회 결과 {@link Stream}의 실행 시간, row 개수, 오류 여부를 기록하고 (N+1 조회 확인 포함), query code에 설정한 hint를 적용하는 함수. <br>
+     * hint는 Stream을 생성할 때 적용하고, 실행 정보는 Stream을 close 할 때 생성부터 close 까지의 시간과 읽은 row 개수로 기록한다. <br>
+     * Stream을 읽는 중 발생한 exception (ex. 최대 row 개수 초과)은 오류로 기록한다.
+     * 
+     * @param <T>
+     *            결과 타입
+     * @param sql
+     *            실행 query
+     * @param open
+     *            Stream을 생성하는 작업
+     * @return 실행 정보를 기록하는 Stream
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <T> Stream<T> instrumentStream(String sql, Supplier<Stream<T>> open) {
+        if (INSTRUMENTING.get() != null) {
+            return open.get();
+        }
+
+        Supplier<Stream<T>> hinted = this.withQueryHints(sql, open);
+        QueryMetricsSink sink = this.queryMetricsSink;
+        NPlusOneDetector detector = this.nPlusOneDetector;
+
+        if (sink == null && detector == null) {
+            return this.withoutMetrics(hinted);
+        }
+
+        long start = System.nanoTime();
+        Stream<T> stream;
+
+        try {
+            stream = this.withoutMetrics(hinted);
+        } catch (RuntimeException | Error e) {
+            this.recordMetrics(sql, sink, detector, System.nanoTime() - start, () -> 0, true);
+            throw e;
+        }
+
+        Spliterator<T> source = stream.spliterator();
+        long[] rows = { 0 };
+        boolean[] error = { false };
+
+        // 크기를 알 경우 count()가 row를 읽지 않으므로, row 개수를 기록할 수 있도록 크기 정보를 제거함
+        int characteristics = source.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        Spliterator<T> counting = new Spliterators.AbstractSpliterator<>(source.estimateSize(), characteristics) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    boolean advanced = source.tryAdvance(action);
+
+                    if (advanced) {
+                        rows[0]++;
+                    }
+
+                    return advanced;
+                } catch (RuntimeException | Error e) {
+                    error[0] = true;
+                    throw e;
+                }
+            }
+        };
+
+        return StreamSupport //
+                .stream(counting, false) //
+                .onClose(() -> {
+                    try {
+                        stream.close();
+                    } finally {
+                        this.recordMetrics(sql, sink, detector, System.nanoTime() - start, () -> rows[0], error[0]);
+                    }
+                });
+    }
+
+    /**
+     * 호출시 설정한 hint가 없을 경우 query code에 설정한 hint를 적용하고, 느린 query의 실행 계획을 query code로 기록하도록 작업을 감싸는 함수
+     * 
+     * @param <R>
+     *            실행 결과 타입
+     * @param sql
+     *            실행 query
+     * @param task
+     *            실행할 작업
+     * @return hint를 적용하여 실행하는 작업
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <R> Supplier<R> withQueryHints(String sql, Supplier<R> task) {
+        QueryHints hints = this.queryHints.isEmpty() || HintedJdbcTemplate.currentHints() != null ? null : this.queryHints.get(sql);
+        Supplier<R> hinted = hints == null ? task : () -> HintedJdbcTemplate.withHints(hints, task);
+
+        if (this.slowQueryExplainer.isEnabled()) {
+            // 느린 query의 실행 계획을 query code로 기록하기 위해 설정
+            Supplier<R> withoutKey = hinted;
+            String queryKey = this.queryMetricKeys.get(sql);
+            hinted = () -> HintedJdbcTemplate.withQueryKey(queryKey, withoutKey);
+        }
+
+        return hinted;
+    }
+
+    /**
+     * query 실행 정보를 sink와 N+1 조회 확인에 기록하는 함수. 기록 중 발생한 오류는 query 실행 결과에 영향을 주지 않도록 log만 남긴다.
+     * 
+     * @param sql
+     *            실행 query
+     * @param sink
+     *            실행 정보를 기록할 sink. nullable
+     * @param detector
+     *            N+1 조회 확인. nullable
+     * @param elapsedNanos
+     *            실행 시간 (ns)
+     * @param rowCounter
+     *            row 개수를 계산하는 함수
+     * @param error
+     *            오류 발생 여부
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void recordMetrics(String sql, QueryMetricsSink sink, NPlusOneDetector detector, long elapsedNanos, LongSupplier rowCounter, boolean error) {
+        try {
+            String queryKey = this.queryMetricKeys.get(sql);
+
+            if (sink != null) {
+                sink.record(queryKey, elapsedNanos, rowCounter.getAsLong(), error);
+            }
+
+            if (detector != null) {
+                detector.record(queryKey, elapsedNanos);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("query 실행 정보를 기록하지 못하였습니다.", e);
+        }
+    }
+
+    /**
+     * 실행 정보를 기록하지 않고 작업을 실행하는 함수. 다른 thread에서 실행하는 하위 작업이 중복으로 기록되지 않도록 사용한다.
+     * 
+     * @param <R>
+     *            실행 결과 타입
+     * @param task
+     *            실행할 작업
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <R> R withoutMetrics(Supplier<R> task) {
+        if (INSTRUMENTING.get() != null) {
+            return task.get();
+        }
+
+        INSTRUMENTING.set(Boolean.TRUE);
+
+        try {
+            return task.get();
+        } finally {
+            INSTRUMENTING.remove();
+        }
+    }
+
+    /**
+     * query 실행 정보를 기록할 이름을 생성하는 함수
+     * 
+     * @param sql
+     *            실행 query
+     * @return query code. code를 알 수 없는 경우 literal 값을 제거한 query
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private String createQueryMetricKey(String sql) {
+        String code = this.queryRegistry == null ? null : this.queryRegistry.findCode(sql);
+        return code != null ? code : QueryMetrics.fingerprint(sql);
+    }
+
+    /**
+     * repository 함수의 실행 결과에서 row 개수를 계산하는 함수
+     * 
+     * @param result
+     *            실행 결과
+     * @return 조회한 row 개수 또는 변경한 row 개수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static long countRows(Object result) {
+        Object data = result instanceof Result<?> r ? r.getData() : result;
+
+        if (data == null) {
+            return 0;
+        } else if (data instanceof Collection<?> collection) {
+            return collection.size();
+        } else if (data instanceof LongList ids) {
+            return ids.size();
+        } else if (data instanceof IntList ids) {
+            return ids.size();
+        } else if (data instanceof Page<?> page) {
+            return page.getNumberOfElements();
+        } else if (data instanceof KeysetSlice<?> slice) {
+            return slice.getContent().size();
+        } else if (data instanceof Integer || data instanceof Long) {
+            return ((Number) data).longValue();
+        } else {
+            return 1;
+        }
+    }
+
+    /**
+     * query code에 해당하는 query의 fetch size, 최대 row 개수를 설정하는 함수. <br>
+     * 최대 row 개수를 넘는 결과를 조회할 경우 {@link org.springframework.dao.IncorrectResultSizeDataAccessException}이 발생한다.
+     * {@link #withQueryHints(QueryHints, Supplier)}로 호출시 설정한 hint가 있을 경우 호출시 설정한 hint를 사용한다.
+     * 
+     * @param queryCode
+     *            query code
+     * @param hints
+     *            fetch size, 최대 row 개수. null일 경우 설정하지 않음
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void setQueryHints(@NotNull String queryCode, QueryHints hints) {
+        String sql = this.getQuery(queryCode);
+
+        if (hints == null) {
+            this.queryHintsByCode.remove(queryCode);
+            this.queryHints.remove(sql);
+        } else {
+            this.queryHintsByCode.put(queryCode, hints);
+            this.queryHints.put(sql, hints);
+        }
+    }
+
+    /**
+     * 조회 결과의 row 개수와 row 크기로 query 별 fetch size를 계산하여 사용할지 설정하는 함수. <br>
+     * 평균 조회 row 개수를 한번에 가져올 수 있도록 설정하되, 한번에 가져오는 데이터가 4MB를 넘지 않도록 한다. hint로 fetch size를 설정한 query는 hint를 사용한다.
+     * 
+     * @param adaptiveFetchSize
+     *            사용 여부. (기본: false)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void setAdaptiveFetchSize(boolean adaptiveFetchSize) {
+        this.adaptiveFetchSize.setEnabled(adaptiveFetchSize);
+    }
+
+    /**
+     * 현재 thread에서 실행하는 query에 fetch size, 최대 row 개수를 설정하고 작업을 실행하는 함수. <br>
+     * {@link #getQueryExecutor()}에서 실행하는 query (ex. 동시에 실행하는 IN 조건 query, async 함수)에도 작업을 제출할 때의 hint를 적용한다. 최대 row 개수는
+     * stream 조회에도 적용한다.
+     * 
+     * @param <R>
+     *            실행 결과 타입
+     * @param hints
+     *            fetch size, 최대 row 개수
+     * @param task
+     *            실행할 작업
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <R> R withQueryHints(@NotNull QueryHints hints, @NotNull Supplier<R> task) {
+        if (hints == null) {
+            throw new IllegalArgumentException("query hint가 없습니다.");
+        }
+
+        return HintedJdbcTemplate.withHints(hints, task);
+    }
+
+    /**
+     * stream 조회시 사용할 기본 fetch size를 설정하는 함수
+     * 
+     * @param streamFetchSize
+     *            fetch size. 1 이상
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void setStreamFetchSize(@Min(1) int streamFetchSize) {
+        if (streamFetchSize < 1) {
+            throw new IllegalArgumentException("fetch size는 1 이상이어야 합니다.");
+        }
+
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    /**
+     * query 질의 결과를 {@link GenericEntity} 타입의 목록 형태로 조회하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2021. 12. 27.
+     */
+    protected <T extends GenericEntity<T>> Result<List<T>> findAll(Class<T> t, String sql, Object... args) {
+        return this.instrument(sql, () -> {
+            QueryCachePolicy cachePolicy = this.getQueryCachePolicy(sql);
+
+            if (cachePolicy != null) {
+                List<T> cached = this.queryResultCache.get(sql, t, args, cachePolicy, //
+                        () -> Collections.unmodifiableList(this.queryForList(t, sql, args)));
+
+                // 캐싱된 목록을 호출한 쪽에서 변경할 수 있기 때문에 복사하여 반환함
+                return Result.ok(new ArrayList<>(cached));
+            }
+
+            return Result.ok(this.queryForList(t, sql, args));
+        });
+    }
+
+    /**
+     * query 질의 결과를 {@link GenericEntity} 타입의 목록 형태로 조회하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <T extends GenericEntity<T>> List<T> queryForList(Class<T> t, String sql, Object... args) {
+        return this.read(route -> {
+            if (args == null || args.length == 0) {
+                return route.jdbcTemplate().query(sql, this.getRowMapper(t));
+            } else {
+                return route.jdbcTemplate().query(sql, this.getRowMapper(t), args);
+            }
+        });
+    }
+
+    /**
+     * query 질의를 페이지네이션 정보와 함께 실행한 {@link GenericEntity} 타입의 목록 형태로 조회하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param pageable
+     *            페이지네이션 정보
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return 페이지네이션을 포함한 query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2021. 12. 27.
+     */
+    protected <T extends GenericEntity<T>> Result<List<T>> findAllWithPage(Class<T> t, String sql, Pageable pageable, Object... args) {
+        return this.instrument(sql, () -> {
+            Map<String, Object> paginationParams = this.createPaginationParams(pageable);
+            List<Object> queryArgs = new ArrayList<>();
+
+            if (args != null) {
+                queryArgs.addAll(Arrays.asList(args));
+            }
+
+            queryArgs.addAll(paginationParams.values());
+
+            logger.debug("Pageable: {}", paginationParams);
+
+            return this.findAll(t, this.createPaginationQuery(sql, pageable.getSort(), false), queryArgs.toArray());
+        });
+    }
+
+    /**
+     * query 질의를 keyset(seek) 페이지네이션으로 실행하는 함수. <br>
+     * 이전 페이지의 마지막 정렬 key 값 이후의 데이터만 조회하기 때문에 페이지 번호와 관계없이 조회 비용이 일정하다. <br>
+     * query의 arguments 뒤에 정렬 key 값, 페이지 크기 순서로 arguments가 추가된다.
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param pageRequest
+     *            keyset 페이지네이션 정보
+     * @param keyExtractor
+     *            entity에서 정렬 key 값을 정렬 조건 순서대로 가져오는 함수. 다음 페이지 요청 정보를 만들 때 사용
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return 다음 페이지 요청 정보를 포함한 query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends GenericEntity<T>> Result<KeysetSlice<T>> findAllWithKeyset(Class<T> t, String sql, KeysetPageRequest pageRequest,
+            Function<T, Object[]> keyExtractor, Object... args) {
+        return this.instrument(sql, () -> {
+            List<Order> orders = pageRequest.getSort().toList();
+            String query = this.createKeysetPaginationQuery(sql, orders, !pageRequest.isFirst());
+            List<Object> queryArgs = new ArrayList<>();
+
+            if (args != null) {
+                queryArgs.addAll(Arrays.asList(args));
+            }
+
+            if (!pageRequest.isFirst()) {
+                queryArgs.addAll(this.createKeysetArgs(orders, pageRequest.getLastKeys()));
+            }
+
+            // 다음 페이지가 있는지 확인하기 위해 1건을 더 조회함
+            queryArgs.add(pageRequest.getSize() + 1);
+
+            logger.debug("Keyset: {}", pageRequest);
+
+            List<T> rows = this.findAll(t, query, queryArgs.toArray()).getData();
+            KeysetPageRequest nextPageRequest = null;
+
+            if (rows.size() > pageRequest.getSize()) {
+                rows = new ArrayList<>(rows.subList(0, pageRequest.getSize()));
+                nextPageRequest = pageRequest.next(keyExtractor.apply(rows.get(rows.size() - 1)));
+            }
+
+            return Result.ok(new KeysetSlice<>(rows, pageRequest, nextPageRequest));
+        });
+    }
+
+    /**
+     * 페이지 조회 query와 전체 개수 조회 query를 서로 다른 connection에서 동시에 실행하여 페이지 정보를 조회하는 함수. <br>
+     * 페이지 조회는 {@link #getQueryExecutor()}에서, 전체 개수 조회는 호출한 thread에서 실행한다. transaction 안에서 호출한 경우 같은 transaction을
+     * 사용하기 위해 순서대로 실행한다.
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            페이지네이션 하기 전의 조회 query
+     * @param countSql
+     *            전체 개수 조회 query. sql과 같은 arguments를 사용해야 함
+     * @param pageable
+     *            Pageable 정보
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return 페이지 정보
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends GenericEntity<T>> Result<Page<T>> findPage(Class<T> t, String sql, String countSql, Pageable pageable, Object... args) {
+        return this.instrument(sql, () -> {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                Result<List<T>> pageResult = this.findAllWithPage(t, sql, pageable, args);
+                return ListResultConverter.of(pageResult).toPage(pageable, () -> this.count(countSql, args)).get();
+            }
+
+            CompletableFuture<Result<List<T>>> pageFuture = this.getQueryExecutor() //
+                    .submit(() -> this.withoutMetrics(() -> this.findAllWithPage(t, sql, pageable, args)));
+            Long totalCount;
+
+            try {
+                totalCount = this.count(countSql, args);
+            } catch (RuntimeException e) {
+                pageFuture.cancel(false);
+                throw e;
+            }
+
+            return ListResultConverter.of(this.join(pageFuture)).toPage(pageable, totalCount).get();
+        });
+    }
+
+    /**
+     * 페이지 조회 query에 COUNT(*) OVER() 를 추가하여, query 한번으로 페이지 정보를 조회하는 함수. <br>
+     * 전체 개수는 첫번째 row에서 읽기 때문에 별도의 개수 조회 query를 실행하지 않는다. 조회한 row가 없고 첫 페이지가 아닐 경우에만 전체 개수 조회 query를 실행한다.
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            페이지네이션 하기 전의 조회 query
+     * @param pageable
+     *            Pageable 정보
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return 페이지 정보
+     * 
+     * @see #createWindowCountQuery(String)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends GenericEntity<T>> Result<Page<T>> findPage(Class<T> t, String sql, Pageable pageable, Object... args) {
+        return this.instrument(sql, () -> {
+            Map<String, Object> paginationParams = this.createPaginationParams(pageable);
+            List<Object> queryArgs = new ArrayList<>();
+
+            if (args != null) {
+                queryArgs.addAll(Arrays.asList(args));
+            }
+
+            queryArgs.addAll(paginationParams.values());
+
+            logger.debug("Pageable: {}", paginationParams);
+
+            String query = this.createPaginationQuery(this.createWindowCountQuery(sql), pageable.getSort(), false);
+            WindowCountRowMapper<T> rowMapper = new WindowCountRowMapper<>(this.getRowMapper(t), PAGINATION_TOTAL_COUNT_COLUMN);
+            List<T> rows = this.read(route -> route.jdbcTemplate().query(query, rowMapper, queryArgs.toArray()));
+            Long totalCount = rowMapper.getTotalCount();
+
+            if (totalCount == null) {
+                // 조회 범위를 벗어난 페이지일 경우 전체 개수를 알 수 없음
+                totalCount = pageable.getOffset() == 0 ? 0L : this.count(this.createCountQuery(sql), args);
+            }
+
+            return ListResultConverter.of(rows).toPage(pageable, totalCount).get();
+        });
+    }
+
+    /**
+     * query 질의 결과를 하나의 {@link GenericEntity} 정보로 조회하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2021. 12. 27.
+     */
+    protected <T extends GenericEntity<T>> Result<T> findOne(Class<T> t, String sql, Object... args) {
+        return this.instrument(sql, () -> {
+            QueryCachePolicy cachePolicy = this.getQueryCachePolicy(sql);
+
+            if (cachePolicy != null) {
+                // entity를 복사할 방법이 없기 때문에 캐싱된 entity를 그대로 반환함. 호출한 쪽에서 변경하면 안 됨 (setQueryCachePolicy 참고)
+                return Result.ok(this.queryResultCache.get(sql, t, args, cachePolicy, () -> this.queryForObject(t, sql, args)));
+            }
+
+            return Result.ok(this.queryForObject(t, sql, args));
+        });
+    }
+
+    /**
+     * query 질의 결과를 하나의 {@link GenericEntity} 정보로 조회하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return query 실행 결과. 조회된 결과가 없을 경우 null
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <T extends GenericEntity<T>> T queryForObject(Class<T> t, String sql, Object... args) {
+        T resultData = null;
+
+        try {
+            resultData = this.read(route -> {
+                if (args == null || args.length == 0) {
+                    return route.jdbcTemplate().queryForObject(sql, this.getRowMapper(t));
+                } else {
+                    return route.jdbcTemplate().queryForObject(sql, this.getRowMapper(t), args);
+                }
+            });
+        } catch (EmptyResultDataAccessException e) { // 조회 된 결과가 없을 경우
+        }
+
+        return resultData;
+    }
+
+    /**
+     * 특정 컬럼의 데이터 목록을 갖고, 해당 데이터에 해당하는 결과를 조회하는 함수. <br>
+     * 설정된 {@link InListStrategy}가 query를 나누어 실행할 수 있으므로, query는 row를 거르기만 하는 조건이어야 한다.
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param dataColumn
+     *            조회할 data column 이름. query 상에 ":dataColumn"으로 설정되어 있는 이름
+     * @param datas
+     *            조회할 data 목록
+     * @return query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2021. 12. 27.
+     * @see #setInListStrategy(InListStrategy)
+     */
+    protected <T extends GenericEntity<T>, P> Result<List<T>> findAllInDatas(Class<T> t, String sql, String dataColumn, List<P> datas) {
+        return this.instrument(sql, () -> {
+            RowMapper<T> rowMapper = this.getRowMapper(t);
+            List<T> results = this.queryInDatas(sql, dataColumn, datas, //
+                    query -> this.read(route -> route.namedParameterJdbcTemplate().query(query.sql(), query.params(), rowMapper)));
+
+            return Result.ok(results);
+        });
+    }
+
+    /**
+     * 특정 컬럼의 데이터 목록을 갖고 결과를 조회한 뒤, 결과를 데이터 목록의 순서대로 정렬하는 함수. <br>
+     * 여러 query로 나누어 실행하거나 동시에 실행하는 경우에도 입력한 데이터 순서를 유지해야 할 때 사용한다.
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param <P>
+     *            조회할 data 타입
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param dataColumn
+     *            조회할 data column 이름. query 상에 ":dataColumn"으로 설정되어 있는 이름
+     * @param datas
+     *            조회할 data 목록
+     * @param keyExtractor
+     *            entity에서 data column에 해당하는 값을 가져오는 함수
+     * @return 데이터 목록 순서대로 정렬한 query 실행 결과. 데이터 목록에 없는 값을 가진 row는 가장 뒤에 위치
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends GenericEntity<T>, P> Result<List<T>> findAllInDatas(Class<T> t, String sql, String dataColumn, List<P> datas,
+            Function<T, P> keyExtractor) {
+        return this.instrument(sql, () -> {
+            List<T> results = new ArrayList<>(this.findAllInDatas(t, sql, dataColumn, datas).getData());
+            Map<P, Integer> positions = new HashMap<>();
+
+            for (int i = 0; i < datas.size(); i++) {
+                positions.putIfAbsent(datas.get(i), i);
+            }
+
+            results.sort(Comparator.comparingInt(row -> positions.getOrDefault(keyExtractor.apply(row), Integer.MAX_VALUE)));
+
+            return Result.ok(results);
+        });
+    }
+
+    /**
+     * key 별 조회를 모아 {@link #findAllInDatas(Class, String, String, List)}로 한번에 조회하는 loader를 생성하는 함수. <br>
+     * 요청한 key는 {@link BatchLoader#dispatch()}를 호출할 때 조회한다.
+     * 
+     * @param <K>
+     *            조회할 key 타입
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            IN 조건 조회 query
+     * @param dataColumn
+     *            조회할 data column 이름. query 상에 ":dataColumn"으로 설정되어 있는 이름
+     * @param keyExtractor
+     *            entity에서 data column에 해당하는 값을 가져오는 함수
+     * @return 조회 loader
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <K, T extends GenericEntity<T>> BatchLoader<K, T> createBatchLoader(Class<T> t, String sql, String dataColumn,
+            Function<T, K> keyExtractor) {
+        return new BatchLoader<>(this, t, sql, dataColumn, keyExtractor, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * key 별 조회를 모아 {@link #findAllInDatas(Class, String, String, List)}로 한번에 조회하는 loader를 생성하는 함수. <br>
+     * 요청한 key는 처음 요청 후 대기 시간이 지나거나, 최대 개수만큼 모이거나, {@link BatchLoader#dispatch()}를 호출할 때 조회한다. 대기 시간이 지나 조회하는 경우
+     * 별도의 virtual thread에서 실행하기 때문에 요청한 thread의 transaction, {@link QueryHints}, N+1 조회 확인 범위를 사용하지 않는다. transaction 안에서는
+     * {@link #createBatchLoader(Class, String, String, Function)}로 생성하여 {@link BatchLoader#dispatch()}를 직접 호출해야 한다.
+     * 
+     * @param <K>
+     *            조회할 key 타입
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            IN 조건 조회 query
+     * @param dataColumn
+     *            조회할 data column 이름. query 상에 ":dataColumn"으로 설정되어 있는 이름
+     * @param keyExtractor
+     *            entity에서 data column에 해당하는 값을 가져오는 함수
+     * @param window
+     *            요청을 모으는 최대 대기 시간
+     * @param maxBatchSize
+     *            한번에 조회할 최대 key 개수
+     * @return 조회 loader
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <K, T extends GenericEntity<T>> BatchLoader<K, T> createBatchLoader(Class<T> t, String sql, String dataColumn,
+            Function<T, K> keyExtractor, @NotNull Duration window, @Min(1) int maxBatchSize) {
+        if (window == null) {
+            throw new IllegalArgumentException("대기 시간이 없습니다.");
+        }
+
+        return new BatchLoader<>(this, t, sql, dataColumn, keyExtractor, window, maxBatchSize);
+    }
+
+    /**
+     * parameter map을 갖고 DB 조회를 요청하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param <P>
+     *            parameter map의 value 타입
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param paramsMap
+     *            query 조회 parameter map
+     * @return query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2022. 01. 10.
+     */
+    protected <T extends GenericEntity<T>, P> Result<List<T>> findAllInDatas(Class<T> t, String sql, Map<String, List<P>> paramsMap) {
+        return this.instrument(sql, () -> {
+            return Result.ok(this.read(route -> route.namedParameterJdbcTemplate().query(sql, paramsMap, this.getRowMapper(t))));
+        });
+    }
+
+    /**
+     * parameter map을 갖고 DB 조회를 요청하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param <P>
+     *            parameter map의 value 타입
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param paramsMap
+     *            query 조회 parameter map
+     * @param pageable
+     *            페이지네이션 정보
+     * @return query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2022. 01. 10.
+     */
+    protected <T extends GenericEntity<T>, P> Result<List<T>> findAllInDatas(Class<T> t, String sql, Map<String, List<P>> paramsMap,
+            Pageable pageable) {
+        return this.instrument(sql, () -> {
+            Map<String, Object> paginationParams = this.createPaginationParams(pageable);
+            Map<String, Object> params = new HashMap<>(paramsMap);
+            params.putAll(paginationParams);
+
+            String query = this.createPaginationQuery(sql, pageable.getSort(), true);
+
+            logger.debug("Pageable: {}", paginationParams);
+
+            return Result.ok(this.read(route -> route.namedParameterJdbcTemplate().query(query, params, this.getRowMapper(t))));
+        });
+    }
+
+    /**
+     * query 질의 결과를 {@link GenericEntity} 타입의 {@link Stream}으로 조회하는 함수. <br>
+     * 결과를 모두 메모리에 올리지 않고 DB cursor에서 fetch size 만큼씩 읽어오기 때문에, 대용량 조회에 사용한다. <br>
+     * 반환된 Stream은 connection을 점유하고 있으므로 반드시 try-with-resources 등으로 close 해야 한다. <br>
+     * 실행 정보는 Stream을 close 할 때 기록된다.
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return query 실행 결과 Stream
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends GenericEntity<T>> Stream<T> streamAll(Class<T> t, String sql, Object... args) {
+        return this.instrumentStream(sql, () -> this.stream(sql, new ArgumentPreparedStatementSetter(args), this.getRowMapper(t)));
+    }
+
+    /**
+     * parameter map을 갖고 DB 조회 결과를 {@link Stream}으로 조회하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param <P>
+     *            parameter map의 value 타입
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param paramsMap
+     *            query 조회 parameter map
+     * @return query 실행 결과 Stream
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     * @see #streamAll(Class, String, Object...)
+     */
+    protected <T extends GenericEntity<T>, P> Stream<T> streamAllInDatas(Class<T> t, String sql, Map<String, List<P>> paramsMap) {
+        return this.instrumentStream(sql, () -> {
+            MapSqlParameterSource paramSource = new MapSqlParameterSource(paramsMap);
+            ParsedSql parsedSql = this.namedParameterJdbcTemplate.parse(sql);
+            String substitutedSql = NamedParameterUtils.substituteNamedParameters(parsedSql, paramSource);
+            Object[] args = NamedParameterUtils.buildValueArray(parsedSql, paramSource, null);
+            PreparedStatementCreatorFactory pscf = new PreparedStatementCreatorFactory(substitutedSql,
+                    NamedParameterUtils.buildSqlParameterList(parsedSql, paramSource));
+
+            return this.stream(substitutedSql, pscf.newPreparedStatementSetter(args), this.getRowMapper(t));
+        });
+    }
+
+    /**
+     * 특정 컬럼의 데이터 목록을 갖고, 해당 데이터에 해당하는 아이디 목록을 조회하는 함수
+     * 
+     * @param <K>
+     *            출력할 데이터 타입
+     * @param <P>
+     *            조회할 data 타입
+     * @param k
+     *            출력할 데이터의 class
+     * @param sql
+     *            실행 query
+     * @param dataColumn
+     *            조회할 data column 이름. query 상에 ":dataColumn"으로 설정되어 있는 이름
+     * @param datas
+     *            조회할 data 목록
+     * @return query 실행한 아이디 목록 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     * @see #setInListStrategy(InListStrategy)
+     */
+    protected <K, P> Result<List<K>> findAllIdInDatas(Class<K> k, String sql, String dataColumn, List<P> datas) {
+        return this.instrument(sql, () -> {
+            List<K> results = this.queryInDatas(sql, dataColumn, datas, //
+                    query -> this.read(route -> route.namedParameterJdbcTemplate().queryForList(query.sql(), query.params(), k)));
+
+            return Result.ok(results);
+        });
+    }
+
+    /**
+     * parameter map을 갖고 DB 조회를 요청하는 함수
+     * 
+     * @param <K>
+     *            출력할 데이터 타입
+     * @param <P>
+     *            parameter map의 value 타입
+     * @param k
+     *            출력할 데이터의 class
+     * @param sql
+     *            실행 query
+     * @param paramsMap
+     *            query 조회 parameter map
+     * @return query 실행한 아이디 목록 결과
+     * 
+     * @author MJ Youn
+     * @since 2022. 01. 19.
+     */
+    protected <K, P> Result<List<K>> findAllIdInDatas(Class<K> k, String sql, Map<String, List<P>> paramsMap) {
+        return this.instrument(sql, () -> {
+            return Result.ok(this.read(route -> route.namedParameterJdbcTemplate().queryForList(sql, paramsMap, k)));
+        });
+    }
+
+    /**
+     * parameter map을 갖고 DB 조회를 요청하는 함수
+     * 
+     * @param <K>
+     *            출력할 데이터 타입
+     * @param <P>
+     *            parameter map의 value 타입
+     * @param k
+     *            출력할 데이터의 class
+     * @param sql
+     *            실행 query
+     * @param paramsMap
+     *            query 조회 parameter map
+     * @param pageable
+     *            페이지네이션 정보
+     * @return query 실행한 아이디 목록 결과
+     * 
+     * @author MJ Youn
+     * @since 2022. 01. 19.
+     */
+    protected <K, P> Result<List<K>> findAllIdInDatas(Class<K> k, String sql, Map<String, List<P>> paramsMap, Pageable pageable) {
+        return this.instrument(sql, () -> {
+            Map<String, Object> paginationParams = this.createPaginationParams(pageable);
+            Map<String, Object> params = new HashMap<>(paramsMap);
+            params.putAll(paginationParams);
+
+            String query = this.createPaginationQuery(sql, pageable.getSort(), true);
+
+            logger.debug("Pageable: {}", paginationParams);
+
+            return Result.ok(this.read(route -> route.namedParameterJdbcTemplate().queryForList(query, params, k)));
+        });
+    }
+
+    /**
+     * 특정 컬럼의 데이터 목록을 갖고, 해당 데이터에 해당하는 아이디 목록을 long 배열 목록으로 조회하는 함수. <br>
+     * {@link #findAllIdInDatas(Class, String, String, List)}와 달리 아이디를 {@link Long}로 boxing하지 않는다. 조회 결과의 첫번째 column을 아이디로
+     * 사용하며, null은 제외한다.
+     * 
+     * @param <P>
+     *            조회할 data 타입
+     * @param sql
+     *            실행 query
+     * @param dataColumn
+     *            조회할 data column 이름. query 상에 ":dataColumn"으로 설정되어 있는 이름
+     * @param datas
+     *            조회할 data 목록
+     * @return query 실행한 아이디 목록 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <P> Result<LongList> findAllLongIds(String sql, String dataColumn, List<P> datas) {
+        return this.instrument(sql, () -> {
+            List<LongList> chunks = this.queryInDatas(sql, dataColumn, datas, //
+                    query -> List.of(this.read(route -> route.namedParameterJdbcTemplate().query(query.sql(), query.params(), //
+                            GenericRepository::readLongIds))));
+
+            if (chunks.size() == 1) {
+                return Result.ok(chunks.get(0));
+            }
+
+            LongList results = new LongList(chunks.stream().mapToInt(LongList::size).sum());
+            chunks.forEach(results::addAll);
+
+            return Result.ok(results);
+        });
+    }
+
+    /**
+     * parameter map을 갖고 아이디 목록을 long 배열 목록으로 조회하는 함수. 조회 결과의 첫번째 column을 아이디로 사용하며, null은 제외한다.
+     * 
+     * @param <P>
+     *            parameter map의 value 타입
+     * @param sql
+     *            실행 query
+     * @param paramsMap
+     *            query 조회 parameter map
+     * @return query 실행한 아이디 목록 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <P> Result<LongList> findAllLongIds(String sql, Map<String, List<P>> paramsMap) {
+        return this.instrument(sql, () -> {
+            return Result.ok(this.read(route -> route.namedParameterJdbcTemplate().query(sql, paramsMap, //
+                    GenericRepository::readLongIds)));
+        });
+    }
+
+    /**
+     * 특정 컬럼의 데이터 목록을 갖고, 해당 데이터에 해당하는 아이디 목록을 int 배열 목록으로 조회하는 함수. <br>
+     * {@link #findAllIdInDatas(Class, String, String, List)}와 달리 아이디를 {@link Integer}로 boxing하지 않는다. 조회 결과의 첫번째 column을 아이디로
+     * 사용하며, null은 제외한다.
+     * 
+     * @param <P>
+     *            조회할 data 타입
+     * @param sql
+     *            실행 query
+     * @param dataColumn
+     *            조회할 data column 이름. query 상에 ":dataColumn"으로 설정되어 있는 이름
+     * @param datas
+     *            조회할 data 목록
+     * @return query 실행한 아이디 목록 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <P> Result<IntList> findAllIntIds(String sql, String dataColumn, List<P> datas) {
+        return this.instrument(sql, () -> {
+            List<IntList> chunks = this.queryInDatas(sql, dataColumn, datas, //
+                    query -> List.of(this.read(route -> route.namedParameterJdbcTemplate().query(query.sql(), query.params(), //
+                            GenericRepository::readIntIds))));
+
+            if (chunks.size() == 1) {
+                return Result.ok(chunks.get(0));
+            }
+
+            IntList results = new IntList(chunks.stream().mapToInt(IntList::size).sum());
+            chunks.forEach(results::addAll);
+
+            return Result.ok(results);
+        });
+    }
+
+    /**
+     * parameter map을 갖고 아이디 목록을 int 배열 목록으로 조회하는 함수. 조회 결과의 첫번째 column을 아이디로 사용하며, null은 제외한다.
+     * 
+     * @param <P>
+     *            parameter map의 value 타입
+     * @param sql
+     *            실행 query
+     * @param paramsMap
+     *            query 조회 parameter map
+     * @return query 실행한 아이디 목록 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <P> Result<IntList> findAllIntIds(String sql, Map<String, List<P>> paramsMap) {
+        return this.instrument(sql, () -> {
+            return Result.ok(this.read(route -> route.namedParameterJdbcTemplate().query(sql, paramsMap, //
+                    GenericRepository::readIntIds)));
+        });
+    }
+
+    /**
+     * parameter map을 갖고 DB 조회 결과를 Integer로 받는 함수
+     * 
+     * @param <R>
+     *            Return 타입
+     * @param <P>
+     *            Parameter 타입
+     * @param sql
+     *            실행 query
+     * @param paramsMap
+     *            query 조회 parameter map
+     * @return query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2022. 01. 10.
+     */
+    protected <R, P> Result<R> executeWithParams(String sql, Map<String, List<P>> paramsMap, Class<R> returnType) {
+        return this.instrument(sql, () -> {
+            return Result.ok(this.primaryRoute.namedParameterJdbcTemplate().queryForObject(sql, paramsMap, returnType));
+        });
+    }
+
+    /**
+     * query 실행 결과를 개수로 조회하는 함수
+     * 
+     * @param sql
+     *            실행 query
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2021. 12. 27.
+     */
+    protected Result<Integer> execute(String sql, Object... args) {
+        return this.instrument(sql, () -> {
+            Integer resultData = null;
+
+            if (args == null || args.length == 0) {
+                resultData = this.jdbcTemplate.update(sql);
+            } else {
+                resultData = this.jdbcTemplate.update(sql, args);
+            }
+
+            this.invalidateQueryCache(sql);
+
+            return Result.ok(resultData);
+        });
+    }
+
+    /**
+     * query 실행 결과를 원하는 Object로 변환하여 출력하는 함수
+     * 
+     * @param <T>
+     *            결과 타입
+     * @param sql
+     *            실행 query
+     * @param t
+     *            결과 타입 class
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2022. 01. 19.
+     */
+    protected <T> Result<T> execute(String sql, Class<T> t, Object... args) {
+        return this.instrument(sql, () -> {
+            QueryCachePolicy cachePolicy = this.getQueryCachePolicy(sql);
+            Supplier<T> loader = () -> {
+                JdbcTemplate template = this.primaryRoute.jdbcTemplate();
+
+                if (args == null || args.length == 0) {
+                    return template.queryForObject(sql, t);
+                } else {
+                    return template.queryForObject(sql, t, args);
+                }
+            };
+
+            return Result.ok(cachePolicy == null ? loader.get() : this.queryResultCache.get(sql, t, args, cachePolicy, loader));
+        });
+    }
+
+    /**
+     * 여러 데이터를 하나의 query로 배치 실행하는 함수
+     * 
+     * @param sql
+     *            실행 query
+     * @param pss
+     *            query 실행시 argument를 설정하기 위한 setter
+     * @return query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2021. 12. 27.
+     */
+    protected Result<Integer> batch(String sql, BatchPreparedStatementSetter pss) {
+        return this.instrument(sql, () -> {
+            int[] resultDatas = this.jdbcTemplate.batchUpdate(sql, pss);
+            Integer sum = Arrays.stream(resultDatas).sum();
+
+            this.invalidateQueryCache(sql);
+
+            return Result.ok(sum);
+        });
+    }
+
+    /**
+     * entity 목록을 {@value #DEFAULT_BATCH_INSERT_CHUNK_SIZE}개 단위로 나누어 저장하는 함수
+     * 
+     * @param <T>
+     *            PersistableEntity를 상속받은 Entity
+     * @param entities
+     *            저장할 entity 목록
+     * @return 저장한 row 개수
+     * 
+     * @see #batchInsert(List, int)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends PersistableEntity<T>> Result<Integer> batchInsert(List<T> entities) {
+        return this.batchInsert(entities, DEFAULT_BATCH_INSERT_CHUNK_SIZE);
+    }
+
+    /**
+     * entity 목록을 chunk 단위로 나누어 저장하는 함수. <br>
+     * {@link #supportsMultiRowInsert()}가 true일 경우 chunk 하나를 INSERT ... VALUES (...), (...) 형태의 query 하나로 실행하고, false일 경우 chunk
+     * 하나를 JDBC batch 하나로 실행한다. query 하나의 parameter 개수는 {@link #getMaxBindParameters()}를 넘지 않도록 chunk 크기를 줄인다.
+     * 
+     * @param <T>
+     *            PersistableEntity를 상속받은 Entity
+     * @param entities
+     *            저장할 entity 목록. 모두 같은 테이블, 같은 column 목록이어야 함
+     * @param chunkSize
+     *            한번에 저장할 entity 개수
+     * @return 저장한 row 개수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends PersistableEntity<T>> Result<Integer> batchInsert(List<T> entities, @Min(1) int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk 크기는 1 이상이어야 합니다.");
+        }
+
+        if (entities == null || entities.isEmpty()) {
+            return Result.ok(0);
+        }
+
+        String tableName = entities.get(0).getTableName();
+        String[] columnNames = entities.get(0).getColumnNames();
+        List<Integer> counts = this.executeInChunks(entities, chunkSize, //
+                rowCount -> this.createInsertQuery(tableName, columnNames, rowCount));
+
+        return Result.ok(counts.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    /**
+     * entity 목록을 {@value #DEFAULT_BATCH_INSERT_CHUNK_SIZE}개 단위로 나누어 저장하거나, key가 같은 row가 있을 경우 변경하는 함수
+     * 
+     * @param <T>
+     *            PersistableEntity를 상속받은 Entity
+     * @param entities
+     *            저장할 entity 목록
+     * @return chunk 별 DB가 반환한 변경 row 개수
+     * 
+     * @see #upsertAll(List, int)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends PersistableEntity<T>> Result<List<Integer>> upsertAll(List<T> entities) {
+        return this.upsertAll(entities, DEFAULT_BATCH_INSERT_CHUNK_SIZE);
+    }
+
+    /**
+     * entity 목록을 chunk 단위로 나누어 저장하거나, {@link PersistableEntity#getKeyColumnNames()}가 같은 row가 있을 경우 나머지 column을 변경하는
+     * 함수. <br>
+     * 조회 후 저장/변경하지 않고 {@link #createUpsertQuery(String, String[], String[], int)}로 생성한 query 하나로 처리한다. chunk 분할 방식은
+     * {@link #batchInsert(List, int)}와 같다.
+     * 
+     * @param <T>
+     *            PersistableEntity를 상속받은 Entity
+     * @param entities
+     *            저장할 entity 목록. 모두 같은 테이블, 같은 column 목록이어야 함
+     * @param chunkSize
+     *            한번에 저장할 entity 개수
+     * @return chunk 별 DB가 반환한 변경 row 개수. (Mariadb는 변경된 row를 2개로 계산함)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends PersistableEntity<T>> Result<List<Integer>> upsertAll(List<T> entities, @Min(1) int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk 크기는 1 이상이어야 합니다.");
+        }
+
+        if (entities == null || entities.isEmpty()) {
+            return Result.ok(new ArrayList<>());
+        }
+
+        String tableName = entities.get(0).getTableName();
+        String[] columnNames = entities.get(0).getColumnNames();
+        String[] keyColumnNames = entities.get(0).getKeyColumnNames();
+
+        if (keyColumnNames == null || keyColumnNames.length == 0) {
+            throw new IllegalArgumentException("key column이 없습니다.");
+        }
+
+        if (!Arrays.asList(columnNames).containsAll(Arrays.asList(keyColumnNames))) {
+            throw new IllegalArgumentException("key column이 column 목록에 없습니다. " + Arrays.toString(keyColumnNames));
+        }
+
+        return Result.ok(this.executeInChunks(entities, chunkSize, //
+                rowCount -> this.createUpsertQuery(tableName, columnNames, keyColumnNames, rowCount)));
+    }
+
+    /**
+     * entity 목록을 chunk 단위로 나누어 변경 query를 실행하는 함수. <br>
+     * {@link #supportsMultiRowInsert()}가 true일 경우 chunk 하나를 여러 row의 query 하나로 실행하고, false일 경우 chunk 하나를 row 하나의 query의 JDBC
+     * batch 하나로 실행한다. query 하나의 parameter 개수는 {@link #getMaxBindParameters()}를 넘지 않도록 chunk 크기를 줄인다. <br>
+     * transaction 밖에서는 chunk 별로 commit 되기 때문에, 중간에 실패하더라도 이미 저장된 chunk의 캐싱된 결과를 사용하지 않도록 chunk 마다 캐시를 삭제한다.
+     * 
+     * @param <T>
+     *            PersistableEntity를 상속받은 Entity
+     * @param entities
+     *            저장할 entity 목록
+     * @param chunkSize
+     *            한번에 저장할 entity 개수
+     * @param queryCreator
+     *            row 개수에 해당하는 query를 생성하는 함수
+     * @return chunk 별 변경 row 개수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <T extends PersistableEntity<T>> List<Integer> executeInChunks(List<T> entities, int chunkSize, IntFunction<String> queryCreator) {
+        int columnCount = entities.get(0).getColumnNames().length;
+        String sql = queryCreator.apply(1);
+
+        return this.instrument(sql, () -> {
+            List<Integer> counts = new ArrayList<>();
+
+            if (this.supportsMultiRowInsert()) {
+                int rowsPerQuery = Math.max(1, Math.min(chunkSize, this.getMaxBindParameters() / columnCount));
+                // 마지막 chunk를 제외하고 같은 query를 사용하여 DB의 query parsing 결과를 재사용하도록 함
+                String chunkSql = queryCreator.apply(rowsPerQuery);
+
+                for (int from = 0; from < entities.size(); from += rowsPerQuery) {
+                    List<T> chunk = entities.subList(from, Math.min(from + rowsPerQuery, entities.size()));
+                    List<Object> args = new ArrayList<>(chunk.size() * columnCount);
+
+                    for (T entity : chunk) {
+                        args.addAll(Arrays.asList(this.getColumnValues(entity, columnCount)));
+                    }
+
+                    String query = chunk.size() == rowsPerQuery ? chunkSql : queryCreator.apply(chunk.size());
+
+                    try {
+                        counts.add(this.jdbcTemplate.update(query, args.toArray()));
+                    } finally {
+                        this.invalidateQueryCache(sql);
+                    }
+                }
+            } else {
+                for (int from = 0; from < entities.size(); from += chunkSize) {
+                    List<T> chunk = entities.subList(from, Math.min(from + chunkSize, entities.size()));
+                    List<Object[]> batchArgs = new ArrayList<>(chunk.size());
+
+                    for (T entity : chunk) {
+                        batchArgs.add(this.getColumnValues(entity, columnCount));
+                    }
+
+                    try {
+                        counts.add(this.sumUpdateCounts(this.jdbcTemplate.batchUpdate(sql, batchArgs)));
+                    } finally {
+                        this.invalidateQueryCache(sql);
+                    }
+                }
+            }
+
+            return counts;
+        }, counts -> counts.stream().mapToLong(Integer::longValue).sum());
+    }
+
+    /**
+     * {@link #findAll(Class, String, Object...)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends GenericEntity<T>> CompletableFuture<Result<List<T>>> findAllAsync(Class<T> t, String sql, Object... args) {
+        return this.async(() -> this.findAll(t, sql, args));
+    }
+
+    /**
+     * {@link #findAllWithPage(Class, String, Pageable, Object...)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param pageable
+     *            Pageable 정보
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends GenericEntity<T>> CompletableFuture<Result<List<T>>> findAllWithPageAsync(Class<T> t, String sql, Pageable pageable, Object... args) {
+        return this.async(() -> this.findAllWithPage(t, sql, pageable, args));
+    }
+
+    /**
+     * {@link #findAllWithKeyset(Class, String, KeysetPageRequest, Function, Object...)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param pageRequest
+     *            keyset 페이지 요청 정보
+     * @param keyExtractor
+     *            row에서 정렬 key 값을 가져오는 함수
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends GenericEntity<T>> CompletableFuture<Result<KeysetSlice<T>>> findAllWithKeysetAsync(Class<T> t, String sql,
+            KeysetPageRequest pageRequest, Function<T, Object[]> keyExtractor, Object... args) {
+        return this.async(() -> this.findAllWithKeyset(t, sql, pageRequest, keyExtractor, args));
+    }
+
+    /**
+     * {@link #findOne(Class, String, Object...)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends GenericEntity<T>> CompletableFuture<Result<T>> findOneAsync(Class<T> t, String sql, Object... args) {
+        return this.async(() -> this.findOne(t, sql, args));
+    }
+
+    /**
+     * {@link #findAllInDatas(Class, String, String, List)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param <P>
+     *            데이터 타입
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param dataColumn
+     *            데이터 목록을 바인딩할 parameter 이름
+     * @param datas
+     *            데이터 목록
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends GenericEntity<T>, P> CompletableFuture<Result<List<T>>> findAllInDatasAsync(Class<T> t, String sql, String dataColumn, List<P> datas) {
+        return this.async(() -> this.findAllInDatas(t, sql, dataColumn, datas));
+    }
+
+    /**
+     * {@link #findAllInDatas(Class, String, Map)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param <P>
+     *            데이터 타입
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param paramsMap
+     *            parameter 이름 별 데이터 목록
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends GenericEntity<T>, P> CompletableFuture<Result<List<T>>> findAllInDatasAsync(Class<T> t, String sql, Map<String, List<P>> paramsMap) {
+        return this.async(() -> this.findAllInDatas(t, sql, paramsMap));
+    }
+
+    /**
+     * {@link #findAllInDatas(Class, String, Map, Pageable)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param <P>
+     *            데이터 타입
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @param sql
+     *            실행 query
+     * @param paramsMap
+     *            parameter 이름 별 데이터 목록
+     * @param pageable
+     *            Pageable 정보
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends GenericEntity<T>, P> CompletableFuture<Result<List<T>>> findAllInDatasAsync(Class<T> t, String sql, Map<String, List<P>> paramsMap,
+            Pageable pageable) {
+        return this.async(() -> this.findAllInDatas(t, sql, paramsMap, pageable));
+    }
+
+    /**
+     * {@link #findAllIdInDatas(Class, String, String, List)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <K>
+     *            조회 결과 타입
+     * @param <P>
+     *            데이터 타입
+     * @param k
+     *            조회 결과 클래스
+     * @param sql
+     *            실행 query
+     * @param dataColumn
+     *            데이터 목록을 바인딩할 parameter 이름
+     * @param datas
+     *            데이터 목록
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <K, P> CompletableFuture<Result<List<K>>> findAllIdInDatasAsync(Class<K> k, String sql, String dataColumn, List<P> datas) {
+        return this.async(() -> this.findAllIdInDatas(k, sql, dataColumn, datas));
+    }
+
+    /**
+     * {@link #findAllIdInDatas(Class, String, Map)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <K>
+     *            조회 결과 타입
+     * @param <P>
+     *            데이터 타입
+     * @param k
+     *            조회 결과 클래스
+     * @param sql
+     *            실행 query
+     * @param paramsMap
+     *            parameter 이름 별 데이터 목록
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <K, P> CompletableFuture<Result<List<K>>> findAllIdInDatasAsync(Class<K> k, String sql, Map<String, List<P>> paramsMap) {
+        return this.async(() -> this.findAllIdInDatas(k, sql, paramsMap));
+    }
+
+    /**
+     * {@link #executeWithParams(String, Map, Class)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <R>
+     *            결과 타입
+     * @param <P>
+     *            데이터 타입
+     * @param sql
+     *            실행 query
+     * @param paramsMap
+     *            parameter 이름 별 데이터 목록
+     * @param returnType
+     *            결과 클래스
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <R, P> CompletableFuture<Result<R>> executeWithParamsAsync(String sql, Map<String, List<P>> paramsMap, Class<R> returnType) {
+        return this.async(() -> this.executeWithParams(sql, paramsMap, returnType));
+    }
+
+    /**
+     * {@link #execute(String, Object...)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param sql
+     *            실행 query
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected CompletableFuture<Result<Integer>> executeAsync(String sql, Object... args) {
+        return this.async(() -> this.execute(sql, args));
+    }
+
+    /**
+     * {@link #execute(String, Class, Object...)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <T>
+     *            결과 타입
+     * @param sql
+     *            실행 query
+     * @param t
+     *            결과 클래스
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T> CompletableFuture<Result<T>> executeAsync(String sql, Class<T> t, Object... args) {
+        return this.async(() -> this.execute(sql, t, args));
+    }
+
+    /**
+     * {@link #batch(String, BatchPreparedStatementSetter)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param sql
+     *            실행 query
+     * @param pss
+     *            query 실행시 argument를 설정하기 위한 setter
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected CompletableFuture<Result<Integer>> batchAsync(String sql, BatchPreparedStatementSetter pss) {
+        return this.async(() -> this.batch(sql, pss));
+    }
+
+    /**
+     * {@link #batchInsert(List, int)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <T>
+     *            PersistableEntity를 상속받은 Entity
+     * @param entities
+     *            저장할 entity 목록
+     * @param chunkSize
+     *            한번에 저장할 entity 개수
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends PersistableEntity<T>> CompletableFuture<Result<Integer>> batchInsertAsync(List<T> entities, @Min(1) int chunkSize) {
+        return this.async(() -> this.batchInsert(entities, chunkSize));
+    }
+
+    /**
+     * {@link #upsertAll(List, int)}를 {@link #async(Supplier)}로 실행하는 함수
+     * 
+     * @param <T>
+     *            PersistableEntity를 상속받은 Entity
+     * @param entities
+     *            저장할 entity 목록
+     * @param chunkSize
+     *            한번에 저장할 entity 개수
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends PersistableEntity<T>> CompletableFuture<Result<List<Integer>>> upsertAllAsync(List<T> entities, @Min(1) int chunkSize) {
+        return this.async(() -> this.upsertAll(entities, chunkSize));
+    }
+
+    /**
+     * repository 함수를 {@link #getQueryExecutor()}에서 비동기로 실행하는 함수. <br>
+     * transaction 안에서 호출한 경우 다른 thread에서는 같은 transaction을 사용할 수 없기 때문에, 호출한 thread에서 바로 실행하여 완료된 결과를 반환한다.
+     * executor의 작업 안에서 호출한 경우에도 호출한 thread에서 바로 실행한다. ({@link ConcurrentQueryExecutor#submit(Supplier)})
+     * 
+     * @param <R>
+     *            실행 결과 타입
+     * @param task
+     *            실행할 repository 함수
+     * @return 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <R> CompletableFuture<R> async(@NotNull Supplier<R> task) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        return this.getQueryExecutor().submit(task);
+    }
+
+    /**
+     * INSERT INTO table (column, ...) VALUES (?, ...), ... query를 생성하는 함수
+     * 
+     * @param tableName
+     *            테이블 이름
+     * @param columnNames
+     *            column 이름 목록
+     * @param rowCount
+     *            VALUES에 포함할 row 개수
+     * @return INSERT query
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected String createInsertQuery(String tableName, String[] columnNames, int rowCount) {
+        String values = "(" + String.join(", ", Collections.nCopies(columnNames.length, "?")) + ")";
+        StringBuilder sb = new StringBuilder((values.length() + 2) * rowCount + 64) //
+                .append("INSERT INTO ") //
+                .append(tableName) //
+                .append(" (") //
+                .append(String.join(", ", columnNames)) //
+                .append(") VALUES ") //
+                .append(values);
+
+        for (int i = 1; i < rowCount; i++) {
+            sb.append(", ").append(values);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * entity의 column 값 목록을 가져오는 함수
+     * 
+     * @param entity
+     *            entity
+     * @param columnCount
+     *            column 개수
+     * @return column 값 목록
+     * @throws IllegalArgumentException
+     *             column 값의 개수가 column 개수와 다를 경우
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private Object[] getColumnValues(PersistableEntity<?> entity, int columnCount) {
+        Object[] values = entity.getColumnValues();
+
+        if (values == null || values.length != columnCount) {
+            throw new IllegalArgumentException("column 값의 개수가 column 개수와 다릅니다. [" + entity + "]");
+        }
+
+        return values;
+    }
+
+    /**
+     * JDBC batch 실행 결과의 row 개수를 합하는 함수. 개수를 알 수 없는 경우 ({@link Statement#SUCCESS_NO_INFO}) 1개로 계산한다.
+     * 
+     * @param updateCounts
+     *            JDBC batch 실행 결과
+     * @return row 개수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private int sumUpdateCounts(int[] updateCounts) {
+        int sum = 0;
+
+        for (int updateCount : updateCounts) {
+            sum += updateCount == Statement.SUCCESS_NO_INFO ? 1 : updateCount;
+        }
+
+        return sum;
+    }
+
+    /**
+     * parameter log를 출력하기 위한 string을 생성하는 메소드
+     * 
+     * @param args
+     *            arguments
+     * @return arguments string
+     * 
+     * @author MJ Youn
+     * @since 2021. 12. 27.
+     */
+    protected String createParameterLogString(Object... args) {
+        StringBuffer sb = new StringBuffer();
+
+        sb.append("PARAMETER:");
+
+        for (Object arg : args) {
+            sb.append(" ").append(arg);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * parameter log를 출력하기 위한 string을 생성하는 메소드
+     * 
+     * @param args
+     *            arguments
+     * @return arguments string
+     * 
+     * @author MJ Youn
+     * @since 2021. 12. 27.
+     */
+    protected String createParameterLogString(String... args) {
+        StringBuffer sb = new StringBuffer();
+
+        sb.append("PARAMETER:");
+
+        for (Object arg : args) {
+            sb.append(" ").append(arg);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Object List를 log로 출력하기 위한 string으로 생성하는 함수
+     * 
+     * @param args
+     *            arguments
+     * @return arguments string
+     * 
+     * @author MJ Youn
+     * @since 2021. 12. 27.
+     */
+    protected String createListParameterString(List<?> args) {
+        StringBuffer sb = new StringBuffer();
+
+        sb.append("List PARAMETER: ");
+
+        for (Object arg : args) {
+            sb.append(" ").append(arg.toString());
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * DB cursor를 사용하여 query 결과를 {@link Stream}으로 조회하는 함수. <br>
+     * Stream이 close 될 때 ResultSet, Statement를 닫고 connection을 반환한다.
+     * 
+     * @param <T>
+     *            결과 타입
+     * @param sql
+     *            실행 query
+     * @param pss
+     *            query 실행시 argument를 설정하기 위한 setter
+     * @param rowMapper
+     *            row 변환 함수
+     * @return query 실행 결과 Stream
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <T> Stream<T> stream(String sql, PreparedStatementSetter pss, RowMapper<T> rowMapper) {
+        JdbcRoute route = this.selectReadRoute();
+        JdbcTemplate template = route.jdbcTemplate();
+        DataSource dataSource = template.getDataSource();
+        QueryHints hints = HintedJdbcTemplate.currentHints();
+        Integer maxRows = hints == null ? null : hints.maxRows();
+        route.inFlight().incrementAndGet();
+
+        Connection con;
+
+        try {
+            con = DataSourceUtils.getConnection(dataSource);
+        } catch (RuntimeException e) {
+            route.inFlight().decrementAndGet();
+            throw e;
+        }
+
+        boolean autoCommitChanged = false;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        try {
+            // cursor 기반 fetch가 transaction 안에서만 동작하는 DB는 autocommit을 잠시 해제함
+            if (this.requiresTransactionForCursor() && con.getAutoCommit()) {
+                con.setAutoCommit(false);
+                autoCommitChanged = true;
+            }
+
+            ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+
+            if (hints != null && hints.fetchSize() != null) {
+                ps.setFetchSize(hints.fetchSize());
+            } else {
+                ps.setFetchSize(template.getFetchSize() > 0 ? template.getFetchSize() : this.streamFetchSize);
+            }
+
+            if (maxRows != null) {
+                // 최대 row 개수를 넘었는지 알 수 있도록 1개 더 조회함
+                ps.setMaxRows(maxRows + 1);
+            }
+
+            DataSourceUtils.applyTimeout(ps, dataSource, template.getQueryTimeout());
+            pss.setValues(ps);
+            rs = ps.executeQuery();
+        } catch (SQLException e) {
+            this.closeStream(route, con, ps, rs, autoCommitChanged);
+            throw this.translateException("streamAll", sql, e);
+        } catch (RuntimeException | Error e) {
+            this.closeStream(route, con, ps, rs, autoCommitChanged);
+            throw e;
+        }
+
+        PreparedStatement statement = ps;
+        ResultSet resultSet = rs;
+        boolean restoreAutoCommit = autoCommitChanged;
+
+        Stream<T> stream = StreamSupport //
+                .stream(new ResultSetSpliterator<>(resultSet, rowMapper, e -> this.translateException("streamAll", sql, e)), false) //
+                .onClose(() -> this.closeStream(route, con, statement, resultSet, restoreAutoCommit));
+
+        if (maxRows != null) {
+            int[] rows = { 0 };
+            stream = stream.peek(row -> {
+                if (++rows[0] > maxRows) {
+                    throw HintedJdbcTemplate.exceedMaxRows(maxRows, sql);
+                }
+            });
+        }
+
+        return stream;
+    }
+
+    /**
+     * {@link #stream(String, PreparedStatementSetter, RowMapper)}에서 사용한 자원을 정리하는 함수
+     * 
+     * @param route
+     *            query를 실행한 data source 정보
+     * @param con
+     *            사용한 connection
+     * @param ps
+     *            사용한 statement. nullable
+     * @param rs
+     *            사용한 result set. nullable
+     * @param restoreAutoCommit
+     *            autocommit을 다시 설정해야 하는지 여부
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void closeStream(JdbcRoute route, Connection con, PreparedStatement ps, ResultSet rs, boolean restoreAutoCommit) {
+        org.springframework.jdbc.support.JdbcUtils.closeResultSet(rs);
+        org.springframework.jdbc.support.JdbcUtils.closeStatement(ps);
+
+        try {
+            if (restoreAutoCommit) {
+                con.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            logger.warn("autocommit 설정을 복구하지 못하였습니다.", e);
+        } finally {
+            DataSourceUtils.releaseConnection(con, route.plainJdbcTemplate().getDataSource());
+            route.inFlight().decrementAndGet();
+        }
+    }
+
+    /**
+     * {@link SQLException}을 {@link JdbcTemplate}에 설정된 translator로 변환하는 함수
+     * 
+     * @param task
+     *            실행한 작업 이름
+     * @param sql
+     *            실행 query
+     * @param e
+     *            발생한 exception
+     * @return 변환된 exception
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected DataAccessException translateException(String task, String sql, SQLException e) {
+        DataAccessException dae = this.jdbcTemplate.getExceptionTranslator().translate(task, sql, e);
+        return dae != null ? dae : new UncategorizedSQLException(task, sql, e);
+    }
+
+    /**
+     * 설정된 {@link InListStrategy}로 데이터 목록을 바인딩한 query를 실행하고, 결과를 하나의 목록으로 합치는 함수
+     * 
+     * @param <R>
+     *            결과 타입
+     * @param <P>
+     *            조회할 data 타입
+     * @param sql
+     *            실행 query
+     * @param dataColumn
+     *            조회할 data column 이름
+     * @param datas
+     *            조회할 data 목록
+     * @param runner
+     *            query 실행 함수
+     * @return query 실행 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     * @see #setParallelInDatas(boolean)
+     */
+    private <R, P> List<R> queryInDatas(String sql, String dataColumn, List<P> datas, Function<InListQuery, List<R>> runner) {
+        List<InListQuery> queries = this.inListStrategy.createQueries(sql, dataColumn, datas);
+
+        if (queries.isEmpty()) {
+            return new ArrayList<>();
+        } else if (queries.size() == 1) {
+            return runner.apply(queries.get(0));
+        }
+
+        List<R> results = new ArrayList<>();
+
+        // transaction 안에서는 같은 connection을 사용해야 하기 때문에 순서대로 실행함
+        if (this.parallelInDatas && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            ConcurrentQueryExecutor executor = this.getQueryExecutor();
+            List<CompletableFuture<List<R>>> futures = new ArrayList<>();
+
+            for (InListQuery query : queries) {
+                futures.add(executor.submit(() -> runner.apply(query)));
+            }
+
+            try {
+                for (CompletableFuture<List<R>> future : futures) {
+                    results.addAll(this.join(future));
+                }
+            } catch (RuntimeException | Error e) {
+                // 결과를 사용하지 않을 query가 connection을 점유하지 않도록, 아직 실행하지 않은 query는 취소함
+                futures.forEach(future -> future.cancel(false));
+                throw e;
+            }
+        } else {
+            for (InListQuery query : queries) {
+                results.addAll(runner.apply(query));
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * 조회 결과의 첫번째 column을 long 배열 목록으로 읽는 함수. null은 제외한다.
+     * 
+     * @param rs
+     *            조회 결과
+     * @return 아이디 목록
+     * @throws SQLException
+     *             조회 결과를 읽는 중 오류가 발생한 경우
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static LongList readLongIds(ResultSet rs) throws SQLException {
+        LongList ids = new LongList();
 
-        sb.append("List PARAMETER: ");
+        while (rs.next()) {
+            long id = rs.getLong(1);
 
-        for (Object arg : args) {
-            sb.append(" ").append(arg.toString());
+            if (id != 0 || !rs.wasNull()) {
+                ids.add(id);
+            }
         }
 
-        return sb.toString();
+        return ids;
+    }
+
+    /**
+     * 조회 결과의 첫번째 column을 int 배열 목록으로 읽는 함수. null은 제외한다.
+     * 
+     * @param rs
+     *            조회 결과
+     * @return 아이디 목록
+     * @throws SQLException
+     *             조회 결과를 읽는 중 오류가 발생한 경우
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static IntList readIntIds(ResultSet rs) throws SQLException {
+        IntList ids = new IntList();
+
+        while (rs.next()) {
+            int id = rs.getInt(1);
+
+            if (id != 0 || !rs.wasNull()) {
+                ids.add(id);
+            }
+        }
+
+        return ids;
+    }
+
+    /**
+     * {@link ConcurrentQueryExecutor}로 실행한 작업의 결과를 기다리는 함수. 작업 중 발생한 exception은 원래 exception으로 던진다.
+     * 
+     * @param <R>
+     *            작업 결과 타입
+     * @param future
+     *            작업
+     * @return 작업 결과
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw ConcurrentQueryExecutor.unwrap(e);
+        }
     }
 
     /**
@@ -455,21 +2945,201 @@ public abstract class GenericRepository {
      * @param t
      *            GenericEntity를 상속받은 Entity 클래스
      * @return 기본 설정한 RowMapper 정보
+     * @throws IllegalArgumentException
+     *             entity의 기본 생성자에 접근할 수 없는 경우
+     * @throws IllegalStateException
+     *             entity가 RowMapper를 반환하지 않는 경우
      * 
      * @author MJ Youn
      * @since 2021. 12. 27.
+     * @see RowMapperRegistry
      */
     private <T extends GenericEntity<T>> RowMapper<T> getRowMapper(Class<T> t) {
-        RowMapper<T> rowMapper = null;
+        return RowMapperRegistry.getRowMapper(t);
+    }
 
-        try {
-            rowMapper = t.getDeclaredConstructor().newInstance().getRowMapper();
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
-                | SecurityException e) {
-            e.printStackTrace();
+    /**
+     * 원래 query에 페이지네이션 구문을 추가한 query를 생성하는 함수. <br>
+     * 페이지 번호, 크기는 parameter로 바인딩되기 때문에 생성한 query는 (원래 query, 정렬 조건) 별로 동일하며, 재사용을 위해 캐싱한다.
+     * 
+     * @param sql
+     *            원래 query
+     * @param sort
+     *            정렬 조건
+     * @param named
+     *            true면 named parameter (ex. :pagination_limit), false면 ? 형태로 생성
+     * @return 페이지네이션 query
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected String createPaginationQuery(String sql, Sort sort, boolean named) {
+        PaginationQueryKey key = new PaginationQueryKey(sql, sort, named);
+        String query = this.paginationQueries.get(key);
+
+        if (query == null) {
+            query = new StringBuilder() //
+                    .append(this.createPaginationPreFixQuery()) //
+                    .append(sql) //
+                    .append(this.createPagenationPostFixQuery(sort, named)) //
+                    .toString();
+
+            // 정렬 조건이 요청마다 다를 수 있기 때문에, 일정 개수 이상은 캐싱하지 않음
+            if (this.paginationQueries.size() < PAGINATION_QUERY_CACHE_LIMIT) {
+                this.paginationQueries.putIfAbsent(key, query);
+            }
+        }
+
+        return query;
+    }
+
+    /**
+     * 페이지네이션 구문에 사용할 parameter marker를 생성하는 함수
+     * 
+     * @param name
+     *            parameter 이름
+     * @param named
+     *            true면 named parameter, false면 ?
+     * @return parameter marker
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected String createParameterMarker(String name, boolean named) {
+        return named ? ":" + name : "?";
+    }
+
+    /**
+     * 정렬 조건으로 ORDER BY 구문을 생성하는 함수
+     * 
+     * @param orders
+     *            정렬 조건 목록
+     * @param columnFormatter
+     *            컬럼 이름을 query에 사용할 형태로 변환하는 함수 (ex. quote 처리)
+     * @return " ORDER BY ..." 구문. 정렬 조건이 없을 경우 빈 문자열
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected String createOrderByQuery(List<Order> orders, UnaryOperator<String> columnFormatter) {
+        StringBuilder sb = new StringBuilder();
+
+        if (orders.size() > 0) {
+            sb.append(" ORDER BY ");
+
+            for (int i = 0; i < orders.size(); i++) {
+                Order order = orders.get(i);
+                sb //
+                        .append(columnFormatter.apply(order.getProperty())) //
+                        .append(" ") //
+                        .append(order.getDirection().name());
+
+                if (i != orders.size() - 1) {
+                    sb.append(", ");
+                }
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * 이전 페이지의 마지막 key 값 이후의 row를 조회하기 위한 keyset 조건을 생성하는 함수. <br>
+     * 정렬 방향이 모두 같고 DB가 지원할 경우 row value 비교 (ex. (a, b) &gt; (?, ?))를, 그 이외의 경우 OR로 풀어 쓴 조건 (ex. a &gt; ? OR (a
+     * = ? AND b &gt; ?))을 생성한다.
+     * 
+     * @param orders
+     *            정렬 조건 목록
+     * @param columnFormatter
+     *            컬럼 이름을 query에 사용할 형태로 변환하는 함수 (ex. quote 처리)
+     * @return keyset 조건
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     * @see #createKeysetArgs(List, Object[])
+     */
+    protected String createKeysetPredicate(List<Order> orders, UnaryOperator<String> columnFormatter) {
+        StringBuilder sb = new StringBuilder();
+
+        if (this.isRowValueKeyset(orders)) {
+            StringBuilder columns = new StringBuilder();
+            StringBuilder markers = new StringBuilder();
+
+            for (int i = 0; i < orders.size(); i++) {
+                if (i != 0) {
+                    columns.append(", ");
+                    markers.append(", ");
+                }
+
+                columns.append(columnFormatter.apply(orders.get(i).getProperty()));
+                markers.append("?");
+            }
+
+            sb.append("(").append(columns).append(") ") //
+                    .append(orders.get(0).isAscending() ? ">" : "<") //
+                    .append(" (").append(markers).append(")");
+        } else {
+            for (int i = 0; i < orders.size(); i++) {
+                if (i != 0) {
+                    sb.append(" OR ");
+                }
+
+                sb.append("(");
+
+                for (int j = 0; j < i; j++) {
+                    sb.append(columnFormatter.apply(orders.get(j).getProperty())).append(" = ? AND ");
+                }
+
+                sb.append(columnFormatter.apply(orders.get(i).getProperty())) //
+                        .append(orders.get(i).isAscending() ? " > ?" : " < ?") //
+                        .append(")");
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * {@link #createKeysetPredicate(List, UnaryOperator)}로 생성한 조건에 바인딩할 arguments를 생성하는 함수
+     * 
+     * @param orders
+     *            정렬 조건 목록
+     * @param lastKeys
+     *            이전 페이지의 마지막 row의 정렬 key 값
+     * @return keyset 조건의 arguments
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected List<Object> createKeysetArgs(List<Order> orders, Object[] lastKeys) {
+        List<Object> args = new ArrayList<>();
+
+        if (this.isRowValueKeyset(orders)) {
+            args.addAll(Arrays.asList(lastKeys));
+        } else {
+            for (int i = 0; i < orders.size(); i++) {
+                for (int j = 0; j <= i; j++) {
+                    args.add(lastKeys[j]);
+                }
+            }
         }
 
-        return rowMapper;
+        return args;
+    }
+
+    /**
+     * keyset 조건을 row value 비교로 생성할 수 있는지 확인하는 함수
+     * 
+     * @param orders
+     *            정렬 조건 목록
+     * @return true면 row value 비교 사용
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private boolean isRowValueKeyset(List<Order> orders) {
+        return this.supportsRowValueComparison() //
+                && orders.stream().allMatch(order -> order.getDirection() == orders.get(0).getDirection());
     }
 
     /**
@@ -491,7 +3161,356 @@ public abstract class GenericRepository {
      * 
      * @author MJ Youn
      * @since 2021. 12. 27.
+     * @deprecated 페이지 번호, 크기를 query에 직접 넣지 않고 바인딩하도록 {@link #createPagenationPostFixQuery(Sort, boolean)},
+     *             {@link #createPaginationParams(Pageable)}로 변경됨. 이 함수를 재정의해도 조회 query에는 적용되지 않는다.
+     */
+    @Deprecated
+    protected String createPagenationPostFixQuery(Pageable pageable) {
+        String postFix = this.createPagenationPostFixQuery(pageable.getSort(), true);
+        List<Map.Entry<String, Object>> params = new ArrayList<>(this.createPaginationParams(pageable).entrySet());
+
+        // 이름이 다른 parameter의 앞부분과 겹치지 않도록 긴 이름부터 치환
+        params.sort(Comparator.comparingInt((Map.Entry<String, Object> param) -> param.getKey().length()).reversed());
+
+        for (Map.Entry<String, Object> param : params) {
+            postFix = postFix.replace(this.createParameterMarker(param.getKey(), true), String.valueOf(param.getValue()));
+        }
+
+        return postFix;
+    }
+
+    /**
+     * 정렬 조건을 갖고 Query를 생성하는 함수. <br>
+     * 페이지 번호, 크기는 {@link #createParameterMarker(String, boolean)}로 생성한 marker로 작성하며, 값은
+     * {@link #createPaginationParams(Pageable)}에서 생성한다. <br>
+     * 기본 구현은 LIMIT, OFFSET 구문을 사용하며, 지원하지 않는 DB는 {@link #createPaginationParams(Pageable)}와 함께 재정의해야 한다.
+     * 
+     * @param sort
+     *            정렬 조건
+     * @param named
+     *            true면 named parameter, false면 ? 형태로 생성
+     * @return 검색 조건 가장 뒤에 붙는 order, limit 정보
+     * 
+     * @author MJ Youn
+     * @since 2021. 12. 27.
+     */
+    protected String createPagenationPostFixQuery(Sort sort, boolean named) {
+        StringBuilder sb = new StringBuilder();
+
+        // order by 추가
+        if (sort != null) {
+            sb.append(this.createOrderByQuery(sort.toList(), UnaryOperator.identity()));
+        }
+
+        // pagination 정보 추가
+        sb //
+                .append(" LIMIT ") //
+                .append(this.createParameterMarker(PAGINATION_LIMIT_PARAM, named)) //
+                .append(" OFFSET ") //
+                .append(this.createParameterMarker(PAGINATION_OFFSET_PARAM, named));
+
+        return sb.toString();
+    }
+
+    /**
+     * {@link #createPagenationPostFixQuery(Sort, boolean)}로 생성한 구문에 바인딩할 값을 생성하는 함수. <br>
+     * ? 형태로 바인딩할 경우 값의 순서를 사용하기 때문에, query에 marker가 나오는 순서대로 넣어야 한다. 기본 구현은 LIMIT, OFFSET 순서로 생성한다.
+     * 
+     * @param pageable
+     *            Pageable 정보
+     * @return parameter 이름, 값 정보
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
      */
-    protected abstract String createPagenationPostFixQuery(Pageable pageable);
+    protected Map<String, Object> createPaginationParams(Pageable pageable) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put(PAGINATION_LIMIT_PARAM, pageable.getPageSize());
+        params.put(PAGINATION_OFFSET_PARAM, pageable.getOffset());
+
+        return params;
+    }
+
+    /**
+     * keyset(seek) 페이지네이션 query를 생성하는 함수. <br>
+     * 생성한 query는 원래 query의 arguments, keyset 조건의 arguments ({@link #createKeysetArgs(List, Object[])}), 조회 개수 순서로 바인딩
+     * 되어야 한다. <br>
+     * 기본 구현은 LIMIT 구문을 사용하며, LIMIT을 지원하지 않는 DB는 재정의해야 한다.
+     * 
+     * @param sql
+     *            원래 query
+     * @param orders
+     *            정렬 조건 목록
+     * @param hasLastKeys
+     *            이전 페이지의 key 값이 있는지 여부. false면 첫 페이지
+     * @return keyset 페이지네이션 query
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected String createKeysetPaginationQuery(String sql, List<Order> orders, boolean hasLastKeys) {
+        StringBuilder sb = new StringBuilder() //
+                .append("SELECT * FROM ( ") //
+                .append(sql) //
+                .append(" ) ") //
+                .append(KEYSET_TABLE_NAME);
+
+        if (hasLastKeys) {
+            sb.append(" WHERE ").append(this.createKeysetPredicate(orders, UnaryOperator.identity()));
+        }
+
+        sb //
+                .append(this.createOrderByQuery(orders, UnaryOperator.identity())) //
+                .append(" LIMIT ?");
+
+        return sb.toString();
+    }
+
+    /**
+     * row value 비교 (ex. (a, b) &gt; (?, ?))를 index를 사용하여 처리할 수 있는지 여부
+     * 
+     * @return true면 keyset 조건에 row value 비교를 사용함
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected boolean supportsRowValueComparison() {
+        return false;
+    }
+
+    /**
+     * cursor 기반 조회(fetch size 단위 조회)를 위해 autocommit이 해제되어 있어야 하는지 여부. <br>
+     * PostgreSQL 처럼 transaction 안에서만 cursor를 사용하는 DB는 true를 반환한다.
+     * 
+     * @return true면 stream 조회시 autocommit을 해제함
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected boolean requiresTransactionForCursor() {
+        return false;
+    }
+
+    /**
+     * INSERT ... VALUES (...), (...) 형태로 여러 row를 query 하나로 저장할 수 있는지 여부. <br>
+     * false일 경우 {@link #batchInsert(List, int)}는 row 하나의 INSERT query를 JDBC batch로 실행한다.
+     * 
+     * @return true면 여러 row를 query 하나로 저장함
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    /**
+     * 저장하거나 key가 같은 row가 있을 경우 변경하는 query를 생성하는 함수. <br>
+     * 생성한 query는 row 순서대로 각 row의 column 값을 바인딩 해야 한다. 기본 구현은 {@link UnsupportedOperationException}이 발생하며, upsert를 지원하는
+     * DB는 재정의해야 한다.
+     * 
+     * @param tableName
+     *            테이블 이름
+     * @param columnNames
+     *            column 이름 목록
+     * @param keyColumnNames
+     *            row를 식별하는 key column 이름 목록
+     * @param rowCount
+     *            query 하나로 처리할 row 개수
+     * @return upsert query
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected String createUpsertQuery(String tableName, String[] columnNames, String[] keyColumnNames, int rowCount) {
+        throw new UnsupportedOperationException("upsert를 지원하지 않는 DB입니다.");
+    }
+
+    /**
+     * 조회 query의 모든 column과 함께 전체 row 개수를 {@value #PAGINATION_TOTAL_COUNT_COLUMN} column으로 조회하는 query를 생성하는 함수. <br>
+     * 생성한 query에 페이지네이션을 적용하여도 전체 개수는 페이지네이션 전의 개수이다.
+     * 
+     * @param sql
+     *            조회 query
+     * @return COUNT(*) OVER() 를 추가한 query
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected String createWindowCountQuery(String sql) {
+        return new StringBuilder() //
+                .append("SELECT ") //
+                .append(WINDOW_COUNT_TABLE_NAME) //
+                .append(".*, COUNT(*) OVER() ") //
+                .append(PAGINATION_TOTAL_COUNT_COLUMN) //
+                .append(" FROM ( ") //
+                .append(sql) //
+                .append(" ) ") //
+                .append(WINDOW_COUNT_TABLE_NAME) //
+                .toString();
+    }
+
+    /**
+     * 조회 query의 전체 row 개수를 조회하는 query를 생성하는 함수
+     * 
+     * @param sql
+     *            조회 query
+     * @return 전체 개수 조회 query
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected String createCountQuery(String sql) {
+        return "SELECT COUNT(*) FROM ( " + sql + " ) " + WINDOW_COUNT_TABLE_NAME;
+    }
+
+    /**
+     * query 하나에 바인딩할 수 있는 최대 parameter 개수
+     * 
+     * @return 최대 parameter 개수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected int getMaxBindParameters() {
+        return Short.MAX_VALUE;
+    }
+
+    /**
+     * 느린 query의 실행 계획 조회를 지원하는지 여부
+     * 
+     * @return true면 {@link #setSlowQueryExplainPolicy(SlowQueryExplainPolicy)}를 사용할 수 있음
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected boolean supportsExplain() {
+        return false;
+    }
+
+    /**
+     * 조회 query의 실행 계획을 조회하는 query를 생성하는 함수. parameter 위치는 원래 query와 같아야 한다.
+     * 
+     * @param sql
+     *            조회 query
+     * @return 실행 계획 조회 query
+     * @throws UnsupportedOperationException
+     *             실행 계획 조회를 지원하지 않는 DB일 경우
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected String createExplainQuery(String sql) {
+        throw new UnsupportedOperationException("실행 계획 조회를 지원하지 않는 DB입니다.");
+    }
+
+    /**
+     * {@link #createExplainQuery(String)}로 생성하고 parameter를 설정한 statement를 실행하여 실행 계획을 가져오는 함수
+     * 
+     * @param con
+     *            실행 계획을 조회할 connection
+     * @param explain
+     *            실행 계획 조회 statement
+     * @return 실행 계획
+     * @throws SQLException
+     *             실행 계획 조회 중 오류가 발생한 경우
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected String readExplainPlan(Connection con, PreparedStatement explain) throws SQLException {
+        try (ResultSet rs = explain.executeQuery()) {
+            return this.formatExplainPlan(rs);
+        }
+    }
+
+    /**
+     * 실행 계획 조회 결과를 문자열로 변환하는 함수. <br>
+     * column이 하나일 경우 row 별 값을 줄 단위로, 여러 개일 경우 column 이름과 row 별 값을 tab으로 구분하여 줄 단위로 나열한다.
+     * 
+     * @param rs
+     *            실행 계획 조회 결과
+     * @return 실행 계획
+     * @throws SQLException
+     *             조회 결과를 읽는 중 오류가 발생한 경우
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected String formatExplainPlan(ResultSet rs) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        ResultSetMetaData metaData = rs.getMetaData();
+        int columnCount = metaData.getColumnCount();
+
+        if (columnCount > 1) {
+            for (int i = 1; i <= columnCount; i++) {
+                plan.append(i > 1 ? "\t" : "").append(metaData.getColumnLabel(i));
+            }
+        }
+
+        while (rs.next()) {
+            if (!plan.isEmpty()) {
+                plan.append('\n');
+            }
+
+            for (int i = 1; i <= columnCount; i++) {
+                plan.append(i > 1 ? "\t" : "").append(rs.getString(i));
+            }
+        }
+
+        return plan.toString();
+    }
+
+    /**
+     * 페이지네이션 query 캐싱을 위한 key
+     * 
+     * @param sql
+     *            원래 query
+     * @param sort
+     *            정렬 조건
+     * @param named
+     *            named parameter 사용 여부
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private record PaginationQueryKey(String sql, Sort sort, boolean named) {
+    }
+
+    /**
+     * query를 실행할 data source 정보
+     * 
+     * @param plainJdbcTemplate
+     *            hint를 사용하지 않는 query를 실행할 JdbcTemplate
+     * @param plainNamedParameterJdbcTemplate
+     *            hint를 사용하지 않는 named parameter query 실행을 위한 template
+     * @param hintedJdbcTemplate
+     *            hint를 사용하는 query를 실행할 JdbcTemplate
+     * @param hintedNamedParameterJdbcTemplate
+     *            hint를 사용하는 named parameter query 실행을 위한 template
+     * @param inFlight
+     *            실행 중인 query 개수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private record JdbcRoute(JdbcTemplate plainJdbcTemplate, CachingNamedParameterJdbcTemplate plainNamedParameterJdbcTemplate,
+            HintedJdbcTemplate hintedJdbcTemplate, CachingNamedParameterJdbcTemplate hintedNamedParameterJdbcTemplate, AtomicInteger inFlight) {
+
+        /**
+         * @return 현재 thread에서 실행하는 query에 사용할 JdbcTemplate
+         */
+        JdbcTemplate jdbcTemplate() {
+            return this.hintedJdbcTemplate.isActive() ? this.hintedJdbcTemplate : this.plainJdbcTemplate;
+        }
+
+        /**
+         * @return 현재 thread에서 실행하는 named parameter query에 사용할 template
+         */
+        CachingNamedParameterJdbcTemplate namedParameterJdbcTemplate() {
+            return this.hintedJdbcTemplate.isActive() ? this.hintedNamedParameterJdbcTemplate : this.plainNamedParameterJdbcTemplate;
+        }
+
+    }
 
 }
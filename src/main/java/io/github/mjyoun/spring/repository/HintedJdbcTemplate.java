@@ -0,0 +1,513 @@
+package io.github.mjyoun.spring.repository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+
+import io.github.mjyoun.spring.data.IntList;
+import io.github.mjyoun.spring.data.LongList;
+import io.github.mjyoun.spring.repository.metrics.QueryMetrics;
+
+/**
+ * 현재 thread에 설정된 {@link QueryHints}와 {@link AdaptiveFetchSize}로 계산한 fetch size, 최대 row 개수를 statement에 설정하는
+ * {@link JdbcTemplate}. 실행 시간이 기준 이상인 조회 query는 {@link SlowQueryExplainer}로 실행 계획을 조회한다. <br>
+ * fetch size, max rows, query timeout, exception translator 등의 설정은 생성시 전달받은 JdbcTemplate의 현재 설정을 사용한다. <br>
+ * 최대 row 개수는 조회 결과의 row 개수를 확인하는 query에만 statement에 설정하기 때문에, 확인 없이 결과가 잘리지 않는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class HintedJdbcTemplate extends JdbcTemplate {
+
+    /** 현재 thread에서 실행하는 query의 hint */
+    private static final ThreadLocal<QueryHints> HINTS = new ThreadLocal<>();
+    /** 현재 thread에서 실행하는 query의 계산된 fetch size */
+    private static final ThreadLocal<Integer> ADAPTIVE_FETCH_SIZE = new ThreadLocal<>();
+    /** 현재 thread에서 실행하는 repository 함수의 query 이름 */
+    private static final ThreadLocal<String> QUERY_KEY = new ThreadLocal<>();
+    /** 현재 thread에서 실행하는 query의 statement에 설정할 최대 row 개수. 결과의 row 개수를 확인하는 query만 설정함 */
+    private static final ThreadLocal<Integer> STATEMENT_MAX_ROWS = new ThreadLocal<>();
+
+    /** 설정을 가져올 JdbcTemplate */
+    private final JdbcTemplate settings;
+    /** fetch size 계산 */
+    private final AdaptiveFetchSize adaptiveFetchSize;
+    /** 느린 query의 실행 계획 조회 */
+    private final SlowQueryExplainer slowQueryExplainer;
+
+    /**
+     * @param dataSource
+     *            query를 실행할 data source
+     * @param settings
+     *            fetch size, max rows, query timeout, exception translator 등의 설정을 가져올 JdbcTemplate
+     * @param adaptiveFetchSize
+     *            fetch size 계산
+     * @param slowQueryExplainer
+     *            느린 query의 실행 계획 조회
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    HintedJdbcTemplate(DataSource dataSource, JdbcTemplate settings, AdaptiveFetchSize adaptiveFetchSize,
+            SlowQueryExplainer slowQueryExplainer) {
+        super(dataSource, true);
+        this.settings = settings;
+        this.adaptiveFetchSize = adaptiveFetchSize;
+        this.slowQueryExplainer = slowQueryExplainer;
+    }
+
+    /**
+     * 현재 thread에서 hint를 설정하고 작업을 실행하는 함수
+     *
+     * @param <R>
+     *            실행 결과 타입
+     * @param hints
+     *            설정할 hint
+     * @param task
+     *            실행할 작업
+     * @return 실행 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    static <R> R withHints(QueryHints hints, Supplier<R> task) {
+        return withThreadLocal(HINTS, hints, task);
+    }
+
+    /**
+     * 현재 thread에서 query 이름을 설정하고 작업을 실행하는 함수. 느린 query의 실행 계획을 query 이름으로 기록하기 위해 사용한다.
+     *
+     * @param <R>
+     *            실행 결과 타입
+     * @param queryKey
+     *            query 이름
+     * @param task
+     *            실행할 작업
+     * @return 실행 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    static <R> R withQueryKey(String queryKey, Supplier<R> task) {
+        return withThreadLocal(QUERY_KEY, queryKey, task);
+    }
+
+    /**
+     * thread local 값을 설정하고 작업을 실행한 뒤 이전 값으로 되돌리는 함수
+     *
+     * @param <V>
+     *            thread local 값 타입
+     * @param <R>
+     *            실행 결과 타입
+     * @param threadLocal
+     *            값을 설정할 thread local
+     * @param value
+     *            설정할 값
+     * @param task
+     *            실행할 작업
+     * @return 실행 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static <V, R> R withThreadLocal(ThreadLocal<V> threadLocal, V value, Supplier<R> task) {
+        V previous = threadLocal.get();
+        threadLocal.set(value);
+
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                threadLocal.remove();
+            } else {
+                threadLocal.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return 현재 thread에 설정된 hint. 없을 경우 null
+     */
+    static QueryHints currentHints() {
+        return HINTS.get();
+    }
+
+    /**
+     * 현재 thread에서 실행하는 query에 이 template을 사용해야 하는지 확인하는 함수
+     *
+     * @return hint가 설정되어 있거나, fetch size 계산 또는 느린 query의 실행 계획 조회를 사용할 경우 true
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    boolean isActive() {
+        return HINTS.get() != null || this.adaptiveFetchSize.isEnabled() || this.slowQueryExplainer.isEnabled();
+    }
+
+    /**
+     * @see JdbcTemplate#getFetchSize()
+     */
+    @Override
+    public int getFetchSize() {
+        return this.settings.getFetchSize();
+    }
+
+    /**
+     * @see JdbcTemplate#getMaxRows()
+     */
+    @Override
+    public int getMaxRows() {
+        return this.settings.getMaxRows();
+    }
+
+    /**
+     * @see JdbcTemplate#getQueryTimeout()
+     */
+    @Override
+    public int getQueryTimeout() {
+        return this.settings.getQueryTimeout();
+    }
+
+    /**
+     * @see JdbcTemplate#isIgnoreWarnings()
+     */
+    @Override
+    public boolean isIgnoreWarnings() {
+        return this.settings.isIgnoreWarnings();
+    }
+
+    /**
+     * @see JdbcTemplate#isSkipResultsProcessing()
+     */
+    @Override
+    public boolean isSkipResultsProcessing() {
+        return this.settings.isSkipResultsProcessing();
+    }
+
+    /**
+     * @see JdbcTemplate#isSkipUndeclaredResults()
+     */
+    @Override
+    public boolean isSkipUndeclaredResults() {
+        return this.settings.isSkipUndeclaredResults();
+    }
+
+    /**
+     * @see JdbcTemplate#isResultsMapCaseInsensitive()
+     */
+    @Override
+    public boolean isResultsMapCaseInsensitive() {
+        return this.settings.isResultsMapCaseInsensitive();
+    }
+
+    /**
+     * @see JdbcTemplate#getExceptionTranslator()
+     */
+    @Override
+    public SQLExceptionTranslator getExceptionTranslator() {
+        return this.settings.getExceptionTranslator();
+    }
+
+    /**
+     * 조회 결과의 row 크기, row 개수를 기록하고, 최대 row 개수를 넘는지 확인한다. 실행 시간이 기준 이상일 경우 실행 계획을 조회한다.
+     *
+     * @see JdbcTemplate#query(PreparedStatementCreator, PreparedStatementSetter, ResultSetExtractor)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    public <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss, ResultSetExtractor<T> rse) throws DataAccessException {
+        QueryHints hints = HINTS.get();
+        Integer maxRows = hints == null ? null : hints.maxRows();
+        String sql = psc instanceof SqlProvider provider ? provider.getSql() : null;
+        boolean adaptive = sql != null && this.adaptiveFetchSize.isEnabled();
+
+        if (sql != null && this.slowQueryExplainer.isEnabled()) {
+            long start = System.nanoTime();
+            T result = this.query(psc, pss, rse, sql, maxRows, adaptive);
+            this.onQuery(sql, System.nanoTime() - start, psc, pss);
+
+            return result;
+        }
+
+        return this.query(psc, pss, rse, sql, maxRows, adaptive);
+    }
+
+    /**
+     * parameter가 없는 query ({@link Statement}로 실행)에도 최대 row 개수, fetch size 계산을 적용하고, 실행 시간이 기준 이상일 경우 실행 계획을 조회한다.
+     *
+     * @see JdbcTemplate#query(String, ResultSetExtractor)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    public <T> T query(String sql, ResultSetExtractor<T> rse) throws DataAccessException {
+        QueryHints hints = HINTS.get();
+        Integer maxRows = hints == null ? null : hints.maxRows();
+        boolean adaptive = this.adaptiveFetchSize.isEnabled();
+
+        if (this.slowQueryExplainer.isEnabled()) {
+            long start = System.nanoTime();
+            T result = this.query(sql, rse, maxRows, adaptive);
+            // parameter가 없기 때문에 같은 query로 생성한 statement로 실행 계획을 조회함
+            this.onQuery(sql, System.nanoTime() - start, con -> con.prepareStatement(sql), null);
+
+            return result;
+        }
+
+        return this.query(sql, rse, maxRows, adaptive);
+    }
+
+    /**
+     * 최대 row 개수, fetch size 계산을 적용하여 parameter가 없는 query를 실행하는 함수
+     *
+     * @param <T>
+     *            조회 결과 타입
+     * @param sql
+     *            실행 query
+     * @param rse
+     *            조회 결과 변환 함수
+     * @param maxRows
+     *            최대 row 개수. nullable
+     * @param adaptive
+     *            fetch size 계산 여부
+     * @return 조회 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <T> T query(String sql, ResultSetExtractor<T> rse, Integer maxRows, boolean adaptive) {
+        if (maxRows == null && !adaptive) {
+            return super.query(sql, rse);
+        }
+
+        return this.withStatementSettings(sql, maxRows, adaptive, extractor -> super.query(sql, extractor), rse);
+    }
+
+    /**
+     * 실행한 query를 현재 thread의 query 이름으로 {@link SlowQueryExplainer}에 전달하는 함수
+     *
+     * @param sql
+     *            실행한 query
+     * @param elapsedNanos
+     *            실행 시간
+     * @param psc
+     *            실행한 statement 생성 함수
+     * @param pss
+     *            실행한 statement의 parameter 설정 함수. nullable
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void onQuery(String sql, long elapsedNanos, PreparedStatementCreator psc, PreparedStatementSetter pss) {
+        String queryKey = QUERY_KEY.get();
+
+        this.slowQueryExplainer.onQuery(this, queryKey == null ? QueryMetrics.fingerprint(sql) : queryKey, sql, elapsedNanos, psc, pss);
+    }
+
+    /**
+     * 최대 row 개수, fetch size 계산을 적용하여 query를 실행하는 함수
+     *
+     * @param <T>
+     *            조회 결과 타입
+     * @param psc
+     *            statement 생성 함수
+     * @param pss
+     *            statement의 parameter 설정 함수. nullable
+     * @param rse
+     *            조회 결과 변환 함수
+     * @param sql
+     *            실행 query. nullable
+     * @param maxRows
+     *            최대 row 개수. nullable
+     * @param adaptive
+     *            fetch size 계산 여부
+     * @return 조회 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss, ResultSetExtractor<T> rse, String sql, Integer maxRows,
+            boolean adaptive) {
+        if (maxRows == null && !adaptive) {
+            return super.query(psc, pss, rse);
+        }
+
+        return this.withStatementSettings(sql, maxRows, adaptive, extractor -> super.query(psc, pss, extractor), rse);
+    }
+
+    /**
+     * statement에 적용할 fetch size, 최대 row 개수를 설정하고, 조회 결과가 최대 row 개수를 넘는지 확인하는 함수. <br>
+     * 목록을 조회하는 경우 조회 결과의 개수로 확인하고, 그 이외의 경우 (ex. 하나의 값만 읽는 extractor) result set에서 읽은 row 개수로 확인한다.
+     *
+     * @param <T>
+     *            조회 결과 타입
+     * @param sql
+     *            실행 query. nullable
+     * @param maxRows
+     *            최대 row 개수. nullable
+     * @param adaptive
+     *            fetch size 계산 여부
+     * @param query
+     *            변환 함수를 받아 query를 실행하는 함수
+     * @param rse
+     *            조회 결과 변환 함수
+     * @return 조회 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <T> T withStatementSettings(String sql, Integer maxRows, boolean adaptive, Function<ResultSetExtractor<T>, T> query,
+            ResultSetExtractor<T> rse) {
+        boolean countable = rse instanceof RowMapperResultSetExtractor;
+
+        ADAPTIVE_FETCH_SIZE.set(adaptive ? this.adaptiveFetchSize.fetchSize(sql) : null);
+        // 최대 row 개수를 넘었는지 알 수 있도록 최대 row 개수보다 1개 더 조회함
+        STATEMENT_MAX_ROWS.set(maxRows == null ? null : maxRows + 1);
+
+        try {
+            return query.apply(rs -> {
+                if (adaptive) {
+                    this.adaptiveFetchSize.observeWidth(sql, rs.getMetaData());
+                }
+
+                T result = rse.extractData(maxRows == null || countable ? rs : limitRows(rs, maxRows, sql));
+                int rows = countRows(result);
+
+                if (maxRows != null && rows > maxRows) {
+                    throw exceedMaxRows(maxRows, sql);
+                }
+
+                if (adaptive && rows >= 0) {
+                    this.adaptiveFetchSize.observeRows(sql, rows);
+                }
+
+                return result;
+            });
+        } finally {
+            ADAPTIVE_FETCH_SIZE.remove();
+            STATEMENT_MAX_ROWS.remove();
+        }
+    }
+
+    /**
+     * 최대 row 개수보다 많은 row를 읽으면 오류가 발생하는 result set을 생성하는 함수
+     *
+     * @param rs
+     *            원래 result set
+     * @param maxRows
+     *            최대 row 개수
+     * @param sql
+     *            실행 query. nullable
+     * @return row 개수를 확인하는 result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static ResultSet limitRows(ResultSet rs, int maxRows, String sql) {
+        int[] rows = { 0 };
+
+        return (ResultSet) Proxy.newProxyInstance(HintedJdbcTemplate.class.getClassLoader(), //
+                new Class<?>[] { ResultSet.class }, //
+                (proxy, method, args) -> {
+                    Object result;
+
+                    try {
+                        result = method.invoke(rs, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+
+                    if (Boolean.TRUE.equals(result) && "next".equals(method.getName()) && ++rows[0] > maxRows) {
+                        throw exceedMaxRows(maxRows, sql);
+                    }
+
+                    return result;
+                });
+    }
+
+    /**
+     * 최대 row 개수를 넘었을 때 발생시킬 exception을 생성하는 함수
+     *
+     * @param maxRows
+     *            최대 row 개수
+     * @param sql
+     *            실행 query. nullable
+     * @return exception
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    static IncorrectResultSizeDataAccessException exceedMaxRows(int maxRows, String sql) {
+        return new IncorrectResultSizeDataAccessException("조회 결과가 최대 row 개수 (" + maxRows + "개)를 넘었습니다. [" + sql + "]", maxRows);
+    }
+
+    /**
+     * 조회 결과의 row 개수를 계산하는 함수
+     *
+     * @param result
+     *            조회 결과
+     * @return row 개수. 목록이 아닐 경우 -1
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static int countRows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        } else if (result instanceof LongList ids) {
+            return ids.size();
+        } else if (result instanceof IntList ids) {
+            return ids.size();
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * hint의 fetch size 또는 계산한 fetch size를 설정하고, 최대 row 개수를 확인하는 query일 경우 최대 row 개수보다 1개 더 조회하도록 설정한다. <br>
+     * stream 조회 등 row 개수를 확인하지 않는 query에는 설정하지 않는다.
+     *
+     * @see JdbcTemplate#applyStatementSettings(Statement)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+
+        QueryHints hints = HINTS.get();
+        Integer fetchSize = hints != null && hints.fetchSize() != null ? hints.fetchSize() : ADAPTIVE_FETCH_SIZE.get();
+
+        if (fetchSize != null) {
+            stmt.setFetchSize(fetchSize);
+        }
+
+        Integer maxRows = STATEMENT_MAX_ROWS.get();
+
+        if (maxRows != null) {
+            stmt.setMaxRows(maxRows);
+        }
+    }
+
+}
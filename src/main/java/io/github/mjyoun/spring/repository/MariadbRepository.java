@@ -1,11 +1,18 @@
 package io.github.mjyoun.spring.repository;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort.Order;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCallback;
+
+import io.github.mjyoun.core.data.Result;
+import io.github.mjyoun.spring.entity.PersistableEntity;
+import io.github.mjyoun.spring.repository.bulk.BulkLoadInputStream;
+import io.github.mjyoun.spring.repository.bulk.BulkRowEncoder;
 
 /**
  * Mariadb 사용을 위한 Repository
@@ -15,6 +22,9 @@ import org.springframework.jdbc.core.JdbcTemplate;
  */
 public class MariadbRepository extends GenericRepository {
 
+    /** LOAD DATA LOCAL INFILE에 사용할 파일 이름. 실제 데이터는 stream에서 읽기 때문에 사용하지 않음 */
+    private static final String BULK_LOAD_FILE_NAME = "bulk_load";
+
     /**
      * (non-javadoc)
      * 
@@ -43,44 +53,116 @@ public class MariadbRepository extends GenericRepository {
     }
 
     /**
-     * @see GenericRepository#createPagenationPostFixQuery(Pageable)
+     * Mariadb는 prepared statement 하나에 65535개의 parameter를 바인딩할 수 있다.
+     * 
+     * @see GenericRepository#getMaxBindParameters()
      * 
      * @author MJ Youn
-     * @since 2022. 03. 15.
+     * @since 2026. 10. 17.
      */
     @Override
-    protected String createPagenationPostFixQuery(Pageable pageable) {
-        StringBuffer sb = new StringBuffer();
-
-        // order by 추가
-        if (pageable.getSort() != null) {
-            List<Order> orders = pageable.getSort().toList();
-
-            if (orders.size() > 0) {
-                sb.append(" ORDER BY ");
-
-                for (int i = 0; i < orders.size(); i++) {
-                    Order order = orders.get(i);
-                    sb //
-                            .append(order.getProperty()) //
-                            .append(" ") //
-                            .append(order.getDirection().name());
-
-                    if (i != orders.size() - 1) {
-                        sb.append(", ");
-                    }
+    protected int getMaxBindParameters() {
+        return 65535;
+    }
+
+    /**
+     * entity 목록을 LOAD DATA LOCAL INFILE로 저장하는 함수. 파일 대신 메모리의 stream에서 데이터를 읽는다. <br>
+     * entity는 {@link BulkRowEncoder}로 buffer 단위로 기록하여 전송하기 때문에, 전체 데이터를 문자열로 만들지 않는다. <br>
+     * connection 설정에 allowLocalInfile=true가 있어야 한다.
+     * 
+     * @param <T>
+     *            PersistableEntity를 상속받은 Entity
+     * @param entities
+     *            저장할 entity 목록. 모두 같은 테이블, 같은 column 목록이어야 함
+     * @return 저장한 row 개수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends PersistableEntity<T>> Result<Long> bulkLoad(List<T> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return Result.ok(0L);
+        }
+
+        String[] columnNames = entities.get(0).getColumnNames();
+        String sql = new StringBuilder() //
+                .append("LOAD DATA LOCAL INFILE '") //
+                .append(BULK_LOAD_FILE_NAME) //
+                .append("' INTO TABLE ") //
+                .append(entities.get(0).getTableName()) //
+                .append(" CHARACTER SET utf8mb4 (") //
+                .append(String.join(", ", columnNames)) //
+                .append(")") //
+                .toString();
+
+        return this.instrument(sql, () -> {
+            Long count = this.getJdbcTemplate().execute((StatementCallback<Long>) statement -> {
+                // connection pool 등이 감싼 statement에서 MariaDB driver의 statement를 꺼낼 수 없을 경우 원인을 알 수 있도록 확인함
+                if (!statement.isWrapperFor(org.mariadb.jdbc.Statement.class)) {
+                    throw new InvalidDataAccessApiUsageException(
+                            "LOAD DATA LOCAL INFILE은 MariaDB driver의 statement가 필요합니다. (" + statement.getClass().getName() + ")");
                 }
-            }
+
+                statement.unwrap(org.mariadb.jdbc.Statement.class)
+                        .setLocalInfileInputStream(new BulkLoadInputStream(entities.iterator(), columnNames.length));
+
+                return statement.executeLargeUpdate(sql);
+            });
+
+            this.invalidateQueryCache(sql);
+
+            return Result.ok(count);
+        });
+    }
+
+    /**
+     * INSERT ... ON DUPLICATE KEY UPDATE column = VALUES(column) 구문을 생성한다. 중복 여부는 테이블의 primary key, unique key로 판단한다.
+     * 
+     * @see GenericRepository#createUpsertQuery(String, String[], String[], int)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected String createUpsertQuery(String tableName, String[] columnNames, String[] keyColumnNames, int rowCount) {
+        List<String> keys = Arrays.asList(keyColumnNames);
+        String updates = Arrays.stream(columnNames) //
+                .filter(column -> !keys.contains(column)) //
+                // MariaDB는 VALUES() 함수만 지원하고, MySQL 8.0.20의 row alias 구문 (AS new ... new.column)은 지원하지 않기 때문에 MySQL에서 deprecated 경고가
+                // 발생하더라도 의도적으로 VALUES()를 사용함
+                .map(column -> column + " = VALUES(" + column + ")") //
+                .collect(Collectors.joining(", "));
+
+        if (updates.isEmpty()) {
+            // 변경할 column이 없을 경우 기존 row를 그대로 둠
+            updates = keyColumnNames[0] + " = " + keyColumnNames[0];
         }
 
-        // pagination 정보 추가
-        sb //
-                .append(" LIMIT ") //
-                .append(pageable.getPageSize()) //
-                .append(" OFFSET ") //
-                .append(pageable.getPageNumber() * pageable.getPageSize());
+        return this.createInsertQuery(tableName, columnNames, rowCount) + " ON DUPLICATE KEY UPDATE " + updates;
+    }
+
+    /**
+     * @see GenericRepository#supportsExplain()
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected boolean supportsExplain() {
+        return true;
+    }
 
-        return sb.toString();
+    /**
+     * query를 실행하지 않고 실행 계획만 조회하는 EXPLAIN 구문을 생성한다.
+     * 
+     * @see GenericRepository#createExplainQuery(String)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected String createExplainQuery(String sql) {
+        return "EXPLAIN " + sql;
     }
 
 }
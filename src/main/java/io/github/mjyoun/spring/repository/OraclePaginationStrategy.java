@@ -0,0 +1,21 @@
+package io.github.mjyoun.spring.repository;
+
+/**
+ * {@link OracleRepository}의 페이지네이션 query 생성 방식
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public enum OraclePaginationStrategy {
+
+    /**
+     * Oracle 12c 이상에서 지원하는 OFFSET ... ROWS FETCH NEXT ... ROWS ONLY 구문 사용
+     */
+    OFFSET_FETCH,
+
+    /**
+     * ROWNUM을 중첩하여 사용하는 구문. 안쪽 query의 ROWNUM &lt;= 조건으로 top-N stopkey 최적화를 사용하며, 12c 이전 버전에서도 동작한다.
+     */
+    ROWNUM;
+
+}
@@ -1,22 +1,57 @@
 package io.github.mjyoun.spring.repository;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import io.github.mjyoun.spring.repository.inlist.InListStrategies;
+
 /**
- * Oracle 사용을 위한 Repository
+ * Oracle 사용을 위한 Repository. <br>
+ * IN 조건의 개수 제한 때문에 findAllInDatas 등은 데이터 목록을 1000개씩 나누어 실행하므로, 해당 query는 row를 거르기만 하는 조건이어야 한다. (ORDER BY,
+ * DISTINCT, 집계 함수, LIMIT, NOT IN 사용 불가)
  * 
  * @author MJ Youn
  * @since 2022. 05. 25.
  */
 public class OracleRepository extends GenericRepository {
 
+    /** 페이지 시작 row 번호 parameter 이름 */
+    private static final String PAGINATION_START_PARAM = "pagination_start";
+    /** 페이지 끝 row 번호 parameter 이름 */
+    private static final String PAGINATION_END_PARAM = "pagination_end";
+    /** Oracle IN 조건의 최대 개수 */
+    private static final int ORACLE_IN_LIST_LIMIT = 1000;
+    /** ROWNUM 방식에서 row 번호를 담는 컬럼 이름 */
+    private static final String PAGINATION_ROWNUM_COLUMN = "pagination_rownum";
+
+    /** MERGE 대상 테이블 alias */
+    private static final String UPSERT_TARGET_ALIAS = "upsert_target";
+    /** MERGE 데이터 alias */
+    private static final String UPSERT_SOURCE_ALIAS = "upsert_source";
+    /** 마지막으로 저장한 실행 계획을 조회하는 query */
+    private static final String EXPLAIN_PLAN_DISPLAY_QUERY = "SELECT PLAN_TABLE_OUTPUT FROM TABLE(DBMS_XPLAN.DISPLAY())";
+
     /** pagination 설정을 위한 테이블 이름 */
     private final String paginationTableName = "pagination_table";
+    /** 페이지네이션 query 생성 방식 */
+    private final OraclePaginationStrategy paginationStrategy;
+    /** FIRST_ROWS optimizer hint에 사용할 row 개수. null일 경우 hint를 사용하지 않음 */
+    private final Integer firstRowsHint;
 
     /**
      * (non-javadoc)
@@ -31,7 +66,44 @@ public class OracleRepository extends GenericRepository {
      */
     protected OracleRepository(JdbcTemplate jdbcTemplate, //
             ReloadableResourceBundleMessageSource messageSource) {
+        this(jdbcTemplate, messageSource, OraclePaginationStrategy.ROWNUM, null);
+    }
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param jdbcTemplate
+     *            {@link JdbcTemplate}
+     * @param messageSource
+     *            Query를 properties로 부터 가져오기 위한 Message Source
+     * @param paginationStrategy
+     *            페이지네이션 query 생성 방식
+     * @param firstRowsHint
+     *            페이지네이션 query에 추가할 FIRST_ROWS(n) hint의 n 값. null일 경우 hint를 사용하지 않음. <br>
+     *            query 문장이 페이지 크기마다 달라지지 않도록 고정 값을 사용한다. (보통 가장 많이 사용하는 페이지 크기)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected OracleRepository(JdbcTemplate jdbcTemplate, //
+            ReloadableResourceBundleMessageSource messageSource, //
+            OraclePaginationStrategy paginationStrategy, //
+            Integer firstRowsHint) {
         super(jdbcTemplate, messageSource);
+
+        if (paginationStrategy == null) {
+            throw new IllegalArgumentException("페이지네이션 방식이 없습니다.");
+        }
+
+        if (firstRowsHint != null && firstRowsHint < 1) {
+            throw new IllegalArgumentException("FIRST_ROWS hint는 1 이상이어야 합니다.");
+        }
+
+        this.paginationStrategy = paginationStrategy;
+        this.firstRowsHint = firstRowsHint;
+
+        // Oracle은 IN 조건에 1000개까지만 사용할 수 있음
+        this.setInListStrategy(InListStrategies.padded(ORACLE_IN_LIST_LIMIT));
     }
 
     /**
@@ -42,55 +114,251 @@ public class OracleRepository extends GenericRepository {
      */
     @Override
     protected String createPaginationPreFixQuery() {
-        return new StringBuffer() //
-                .append("SELECT ") //
-                .append(paginationTableName) //
-                .append(".*, ROWNUM FROM ( ") //
-                .toString();
+        StringBuilder sb = new StringBuilder().append("SELECT ").append(this.createFirstRowsHint());
+
+        if (this.paginationStrategy == OraclePaginationStrategy.OFFSET_FETCH) {
+            sb.append("* FROM ( ");
+        } else {
+            sb.append("* FROM ( SELECT ") //
+                    .append(paginationTableName) //
+                    .append(".*, ROWNUM ") //
+                    .append(PAGINATION_ROWNUM_COLUMN) //
+                    .append(" FROM ( ");
+        }
+
+        return sb.toString();
     }
 
     /**
-     * @see GenericRepository#createPagenationPostFixQuery(Pageable)
+     * @see GenericRepository#createPagenationPostFixQuery(Sort, boolean)
      * 
      * @author MJ Youn
      * @since 2022. 05. 25.
      */
     @Override
-    protected String createPagenationPostFixQuery(Pageable pageable) {
-        StringBuffer sb = new StringBuffer();
+    protected String createPagenationPostFixQuery(Sort sort, boolean named) {
+        StringBuilder sb = new StringBuilder();
+        String orderBy = sort == null ? "" : this.createOrderByQuery(sort.toList(), this::quote);
+
+        if (this.paginationStrategy == OraclePaginationStrategy.OFFSET_FETCH) {
+            sb.append(" ) ") //
+                    .append(paginationTableName) //
+                    .append(orderBy) //
+                    .append(" OFFSET ") //
+                    .append(this.createParameterMarker(PAGINATION_OFFSET_PARAM, named)) //
+                    .append(" ROWS FETCH NEXT ") //
+                    .append(this.createParameterMarker(PAGINATION_LIMIT_PARAM, named)) //
+                    .append(" ROWS ONLY");
+        } else {
+            // 안쪽 query에서 ROWNUM <= 끝 번호로 정렬을 멈추고 (stopkey), 바깥 query에서 시작 번호 이전 row를 제외함
+            sb.append(orderBy) //
+                    .append(" ) ") //
+                    .append(paginationTableName) //
+                    .append(" WHERE ROWNUM <= ") //
+                    .append(this.createParameterMarker(PAGINATION_END_PARAM, named)) //
+                    .append(" ) WHERE ") //
+                    .append(PAGINATION_ROWNUM_COLUMN) //
+                    .append(" > ") //
+                    .append(this.createParameterMarker(PAGINATION_START_PARAM, named));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * @see GenericRepository#createPaginationParams(Pageable)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected Map<String, Object> createPaginationParams(Pageable pageable) {
+        Map<String, Object> params = new LinkedHashMap<>();
+
+        if (this.paginationStrategy == OraclePaginationStrategy.OFFSET_FETCH) {
+            params.put(PAGINATION_OFFSET_PARAM, pageable.getOffset());
+            params.put(PAGINATION_LIMIT_PARAM, pageable.getPageSize());
+        } else {
+            params.put(PAGINATION_END_PARAM, pageable.getOffset() + pageable.getPageSize());
+            params.put(PAGINATION_START_PARAM, pageable.getOffset());
+        }
+
+        return params;
+    }
+
+    /**
+     * @see GenericRepository#createKeysetPaginationQuery(String, List, boolean)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected String createKeysetPaginationQuery(String sql, List<Order> orders, boolean hasLastKeys) {
+        StringBuilder sb = new StringBuilder().append("SELECT ").append(this.createFirstRowsHint());
+
+        if (this.paginationStrategy == OraclePaginationStrategy.OFFSET_FETCH) {
+            sb.append("* FROM ( ");
+        } else {
+            sb.append("* FROM ( SELECT ").append(KEYSET_TABLE_NAME).append(".* FROM ( ");
+        }
+
+        sb //
+                .append(sql) //
+                .append(" ) ") //
+                .append(KEYSET_TABLE_NAME);
+
+        if (hasLastKeys) {
+            sb.append(" WHERE ").append(this.createKeysetPredicate(orders, this::quote));
+        }
+
+        sb.append(this.createOrderByQuery(orders, this::quote));
+
+        if (this.paginationStrategy == OraclePaginationStrategy.OFFSET_FETCH) {
+            sb.append(" FETCH FIRST ? ROWS ONLY");
+        } else {
+            sb.append(" ) WHERE ROWNUM <= ?");
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Oracle은 INSERT ... VALUES (...), (...) 구문을 지원하지 않기 때문에, JDBC batch로 실행하여 driver의 array DML을 사용한다.
+     * 
+     * @see GenericRepository#supportsMultiRowInsert()
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected boolean supportsMultiRowInsert() {
+        return false;
+    }
 
-        // order by 추가
-        if (pageable.getSort() != null) {
-            List<Order> orders = pageable.getSort().toList();
+    /**
+     * MERGE INTO table USING (SELECT ? column, ... FROM dual) ON (key) WHEN MATCHED THEN UPDATE ... WHEN NOT MATCHED THEN INSERT ... 구문을
+     * 생성한다. row가 여러 개일 경우 데이터를 UNION ALL로 연결한다.
+     * 
+     * @see GenericRepository#createUpsertQuery(String, String[], String[], int)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected String createUpsertQuery(String tableName, String[] columnNames, String[] keyColumnNames, int rowCount) {
+        List<String> keys = Arrays.asList(keyColumnNames);
+        String firstRow = Arrays.stream(columnNames) //
+                .map(column -> "? " + column) //
+                .collect(Collectors.joining(", ", "SELECT ", " FROM dual"));
+        String otherRow = " UNION ALL SELECT " + String.join(", ", Collections.nCopies(columnNames.length, "?")) + " FROM dual";
+        String updates = Arrays.stream(columnNames) //
+                .filter(column -> !keys.contains(column)) //
+                .map(column -> UPSERT_TARGET_ALIAS + "." + column + " = " + UPSERT_SOURCE_ALIAS + "." + column) //
+                .collect(Collectors.joining(", "));
 
-            if (orders.size() > 0) {
-                sb.append(" ORDER BY ");
+        StringBuilder sb = new StringBuilder() //
+                .append("MERGE INTO ") //
+                .append(tableName) //
+                .append(" ") //
+                .append(UPSERT_TARGET_ALIAS) //
+                .append(" USING ( ") //
+                .append(firstRow);
 
-                for (int i = 0; i < orders.size(); i++) {
-                    Order order = orders.get(i);
+        for (int i = 1; i < rowCount; i++) {
+            sb.append(otherRow);
+        }
 
-                    sb.append("\"").append(order.getProperty()).append("\"") //
-                            .append(" ") //
-                            .append(order.getDirection().name());
+        sb //
+                .append(" ) ") //
+                .append(UPSERT_SOURCE_ALIAS) //
+                .append(" ON (") //
+                .append(keys.stream() //
+                        .map(column -> UPSERT_TARGET_ALIAS + "." + column + " = " + UPSERT_SOURCE_ALIAS + "." + column) //
+                        .collect(Collectors.joining(" AND "))) //
+                .append(")");
 
-                    if (i != orders.size() - 1) {
-                        sb.append(", ");
-                    }
-                }
-            }
+        if (!updates.isEmpty()) {
+            sb.append(" WHEN MATCHED THEN UPDATE SET ").append(updates);
         }
 
-        // pagination 정보 추가
-        sb.append(" ) ") //
-                .append(paginationTableName) //
-                .append(" WHERE ") //
-                .append("ROWNUM >= ") //
-                .append(pageable.getPageNumber() * pageable.getPageSize()) //
-                .append(" AND ") //
-                .append("ROWNUM < ") //
-                .append((pageable.getPageNumber() + 1) * pageable.getPageSize());
+        sb //
+                .append(" WHEN NOT MATCHED THEN INSERT (") //
+                .append(String.join(", ", columnNames)) //
+                .append(") VALUES (") //
+                .append(Arrays.stream(columnNames) //
+                        .map(column -> UPSERT_SOURCE_ALIAS + "." + column) //
+                        .collect(Collectors.joining(", "))) //
+                .append(")");
 
         return sb.toString();
     }
 
+    /**
+     * @see GenericRepository#supportsExplain()
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected boolean supportsExplain() {
+        return true;
+    }
+
+    /**
+     * 실행 계획을 PLAN_TABLE에 저장하는 EXPLAIN PLAN FOR 구문을 생성한다.
+     * 
+     * @see GenericRepository#createExplainQuery(String)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected String createExplainQuery(String sql) {
+        return "EXPLAIN PLAN FOR " + sql;
+    }
+
+    /**
+     * EXPLAIN PLAN을 실행한 뒤, 같은 session에서 DBMS_XPLAN.DISPLAY로 마지막 실행 계획을 조회한다.
+     * 
+     * @see GenericRepository#readExplainPlan(Connection, PreparedStatement)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected String readExplainPlan(Connection con, PreparedStatement explain) throws SQLException {
+        explain.execute();
+
+        try (Statement statement = con.createStatement(); //
+                ResultSet rs = statement.executeQuery(EXPLAIN_PLAN_DISPLAY_QUERY)) {
+            return this.formatExplainPlan(rs);
+        }
+    }
+
+    /**
+     * FIRST_ROWS optimizer hint를 생성하는 함수
+     * 
+     * @return hint 구문. hint를 사용하지 않을 경우 빈 문자열
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private String createFirstRowsHint() {
+        return this.firstRowsHint == null ? "" : "/*+ FIRST_ROWS(" + this.firstRowsHint + ") */ ";
+    }
+
+    /**
+     * 컬럼 이름을 quote 처리하는 함수
+     * 
+     * @param column
+     *            컬럼 이름
+     * @return quote 처리한 컬럼 이름
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private String quote(String column) {
+        return "\"" + column + "\"";
+    }
+
 }
@@ -1,12 +1,23 @@
 package io.github.mjyoun.spring.repository;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort.Order;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import io.github.mjyoun.core.data.Result;
+import io.github.mjyoun.spring.entity.PersistableEntity;
+import io.github.mjyoun.spring.repository.bulk.BulkLoadInputStream;
+import io.github.mjyoun.spring.repository.bulk.BulkRowEncoder;
+
 /**
  * PostgreSQL 사용을 위한 Repository
  * 
@@ -39,44 +50,122 @@ public class PostgreSQLRepository extends GenericRepository {
     }
 
     /**
-     * @see GenericRepository#createPagenationPostFixQuery(Pageable)
+     * PostgreSQL JDBC driver는 autocommit이 해제된 상태에서만 fetch size 단위로 cursor 조회를 한다.
+     * 
+     * @see GenericRepository#requiresTransactionForCursor()
      * 
      * @author MJ Youn
-     * @since 2021. 12. 27.
+     * @since 2026. 10. 17.
      */
     @Override
-    protected String createPagenationPostFixQuery(Pageable pageable) {
-        StringBuffer sb = new StringBuffer();
-
-        // order by 추가
-        if (pageable.getSort() != null) {
-            List<Order> orders = pageable.getSort().toList();
-
-            if (orders.size() > 0) {
-                sb.append(" ORDER BY ");
-
-                for (int i = 0; i < orders.size(); i++) {
-                    Order order = orders.get(i);
-                    sb //
-                            .append(order.getProperty()) //
-                            .append(" ") //
-                            .append(order.getDirection().name());
-
-                    if (i != orders.size() - 1) {
-                        sb.append(", ");
-                    }
-                }
-            }
+    protected boolean requiresTransactionForCursor() {
+        return true;
+    }
+
+    /**
+     * PostgreSQL은 row value 비교 (ex. (a, b) &gt; (?, ?))에 index를 사용할 수 있다.
+     * 
+     * @see GenericRepository#supportsRowValueComparison()
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected boolean supportsRowValueComparison() {
+        return true;
+    }
+
+    /**
+     * entity 목록을 COPY ... FROM STDIN (text 형식)으로 저장하는 함수. <br>
+     * entity는 {@link BulkRowEncoder}로 buffer 단위로 기록하여 전송하기 때문에, 전체 데이터를 문자열로 만들지 않는다.
+     * 
+     * @param <T>
+     *            PersistableEntity를 상속받은 Entity
+     * @param entities
+     *            저장할 entity 목록. 모두 같은 테이블, 같은 column 목록이어야 함
+     * @return 저장한 row 개수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    protected <T extends PersistableEntity<T>> Result<Long> bulkLoad(List<T> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return Result.ok(0L);
         }
 
-        // pagination 정보 추가
-        sb //
-                .append(" LIMIT ") //
-                .append(pageable.getPageSize()) //
-                .append(" OFFSET ") //
-                .append(pageable.getPageNumber() * pageable.getPageSize());
+        String[] columnNames = entities.get(0).getColumnNames();
+        String sql = "COPY " + entities.get(0).getTableName() + " (" + String.join(", ", columnNames) + ") FROM STDIN";
+
+        return this.instrument(sql, () -> {
+            Long count = this.getJdbcTemplate().execute((ConnectionCallback<Long>) con -> {
+                // connection pool 등이 감싼 connection에서 PostgreSQL driver의 connection을 꺼낼 수 없을 경우 원인을 알 수 있도록 확인함
+                if (!con.isWrapperFor(PGConnection.class)) {
+                    throw new InvalidDataAccessApiUsageException(
+                            "COPY는 PostgreSQL driver의 connection이 필요합니다. (" + con.getClass().getName() + ")");
+                }
+
+                CopyManager copyManager = con.unwrap(PGConnection.class).getCopyAPI();
+
+                try {
+                    return copyManager.copyIn(sql, new BulkLoadInputStream(entities.iterator(), columnNames.length));
+                } catch (IOException e) {
+                    throw new DataAccessResourceFailureException("COPY 데이터 전송 중 오류가 발생했습니다.", e);
+                }
+            });
+
+            this.invalidateQueryCache(sql);
 
-        return sb.toString();
+            return Result.ok(count);
+        });
+    }
+
+    /**
+     * INSERT ... ON CONFLICT (key) DO UPDATE SET column = EXCLUDED.column 구문을 생성한다. key column은 unique 제약 조건이어야 하며, query 하나에
+     * key가 같은 row가 여러 개 있을 경우 오류가 발생한다.
+     * 
+     * @see GenericRepository#createUpsertQuery(String, String[], String[], int)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected String createUpsertQuery(String tableName, String[] columnNames, String[] keyColumnNames, int rowCount) {
+        List<String> keys = Arrays.asList(keyColumnNames);
+        String updates = Arrays.stream(columnNames) //
+                .filter(column -> !keys.contains(column)) //
+                .map(column -> column + " = EXCLUDED." + column) //
+                .collect(Collectors.joining(", "));
+
+        return new StringBuilder(this.createInsertQuery(tableName, columnNames, rowCount)) //
+                .append(" ON CONFLICT (") //
+                .append(String.join(", ", keyColumnNames)) //
+                .append(") ") //
+                .append(updates.isEmpty() ? "DO NOTHING" : "DO UPDATE SET " + updates) //
+                .toString();
+    }
+
+    /**
+     * @see GenericRepository#supportsExplain()
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected boolean supportsExplain() {
+        return true;
+    }
+
+    /**
+     * query를 실행하지 않고 실행 계획만 JSON 형태로 조회하는 EXPLAIN (FORMAT JSON) 구문을 생성한다.
+     * 
+     * @see GenericRepository#createExplainQuery(String)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    protected String createExplainQuery(String sql) {
+        return "EXPLAIN (FORMAT JSON) " + sql;
     }
 
 }
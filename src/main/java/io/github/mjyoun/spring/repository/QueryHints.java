@@ -0,0 +1,63 @@
+package io.github.mjyoun.spring.repository;
+
+/**
+ * query 실행시 statement에 설정할 값
+ *
+ * @param fetchSize
+ *            DB에서 한번에 가져올 row 개수. null일 경우 설정하지 않음
+ * @param maxRows
+ *            조회할 수 있는 최대 row 개수. 조회 결과가 최대 개수를 넘을 경우 오류가 발생함. null일 경우 제한하지 않음
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public record QueryHints(Integer fetchSize, Integer maxRows) {
+
+    /**
+     * @param fetchSize
+     *            DB에서 한번에 가져올 row 개수. null일 경우 설정하지 않음
+     * @param maxRows
+     *            조회할 수 있는 최대 row 개수. null일 경우 제한하지 않음
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public QueryHints {
+        if (fetchSize != null && fetchSize < 1) {
+            throw new IllegalArgumentException("fetch size는 1 이상이어야 합니다.");
+        }
+
+        if (maxRows != null && (maxRows < 1 || maxRows == Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("최대 row 개수는 1 이상, " + Integer.MAX_VALUE + " 미만이어야 합니다.");
+        }
+    }
+
+    /**
+     * fetch size만 설정하는 함수
+     *
+     * @param fetchSize
+     *            DB에서 한번에 가져올 row 개수
+     * @return {@link QueryHints}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static QueryHints fetchSize(int fetchSize) {
+        return new QueryHints(fetchSize, null);
+    }
+
+    /**
+     * 최대 row 개수만 설정하는 함수
+     *
+     * @param maxRows
+     *            조회할 수 있는 최대 row 개수
+     * @return {@link QueryHints}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static QueryHints maxRows(int maxRows) {
+        return new QueryHints(null, maxRows);
+    }
+
+}
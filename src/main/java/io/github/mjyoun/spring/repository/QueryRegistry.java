@@ -0,0 +1,233 @@
+package io.github.mjyoun.spring.repository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+
+/**
+ * properties에 정의된 query를 한번에 읽어 code 별로 보관하는 registry. <br>
+ * 매 호출마다 {@link ReloadableResourceBundleMessageSource#getMessage(String, Object[], Locale)}를 거치지 않고, 불변 map에서 바로 query를
+ * 가져온다. {@link #reload()} 호출시 새로 읽은 map으로 한번에 교체한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public final class QueryRegistry {
+
+    /** Query를 properties로 부터 가져오기 위한 Message Source */
+    private final ReloadableResourceBundleMessageSource messageSource;
+    /** query를 가져올 locale */
+    private final Locale locale;
+    /** code 별 query */
+    private volatile Map<String, String> queries;
+    /** query 별 code. 같은 query의 code가 여러 개일 경우 그 중 하나 */
+    private volatile Map<String, String> codes;
+
+    /**
+     * {@link Locale#getDefault()}에 해당하는 query를 읽어 registry를 생성한다.
+     *
+     * @param messageSource
+     *            Query를 properties로 부터 가져오기 위한 Message Source
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public QueryRegistry(@NotNull ReloadableResourceBundleMessageSource messageSource) {
+        this(messageSource, Locale.getDefault());
+    }
+
+    /**
+     * @param messageSource
+     *            Query를 properties로 부터 가져오기 위한 Message Source
+     * @param locale
+     *            query를 가져올 locale
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public QueryRegistry(@NotNull ReloadableResourceBundleMessageSource messageSource, @NotNull Locale locale) {
+        if (messageSource == null) {
+            throw new IllegalArgumentException("Message Source가 없습니다.");
+        }
+
+        if (locale == null) {
+            throw new IllegalArgumentException("locale이 없습니다.");
+        }
+
+        this.messageSource = messageSource;
+        this.locale = locale;
+        this.reload();
+    }
+
+    /**
+     * code에 해당하는 query를 가져오는 함수
+     *
+     * @param code
+     *            가져오고자 하는 code
+     * @return code에 해당하는 query
+     * @throws NoSuchMessageException
+     *             code에 해당하는 query가 없을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public String get(String code) {
+        String query = this.queries.get(code);
+
+        if (query == null) {
+            // basename 이외의 경로(parent message source 등)에 정의된 query일 수 있으므로 Message Source에서 한번 더 찾음
+            query = this.messageSource.getMessage(code, null, this.locale);
+        }
+
+        return query;
+    }
+
+    /**
+     * registry에 code가 있는지 확인하는 함수
+     *
+     * @param code
+     *            확인할 code
+     * @return registry에 있을 경우 true
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public boolean contains(String code) {
+        return this.queries.containsKey(code);
+    }
+
+    /**
+     * code 목록이 모두 registry에 있는지 확인하는 함수. repository 생성시 사용하는 query를 미리 확인하기 위해 사용한다.
+     *
+     * @param codes
+     *            확인할 code 목록
+     * @throws NoSuchMessageException
+     *             code에 해당하는 query가 없을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void require(String... codes) {
+        if (codes != null) {
+            for (String code : codes) {
+                this.get(code);
+            }
+        }
+    }
+
+    /**
+     * properties에서 query를 다시 읽어 registry를 교체하는 함수. <br>
+     * 읽는 중 오류가 발생할 경우 기존 query를 그대로 사용한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public synchronized void reload() {
+        this.messageSource.clearCacheIncludingAncestors();
+
+        Map<String, String> loaded = this.load();
+        Map<String, String> reversed = new HashMap<>(loaded.size() * 4 / 3 + 1);
+        loaded.forEach((code, query) -> reversed.putIfAbsent(query, code));
+
+        this.codes = Collections.unmodifiableMap(reversed);
+        this.queries = loaded;
+    }
+
+    /**
+     * query에 해당하는 code를 찾는 함수
+     *
+     * @param query
+     *            query
+     * @return query에 해당하는 code. registry에 없는 query일 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public String findCode(String query) {
+        return query == null ? null : this.codes.get(query);
+    }
+
+    /**
+     * @return registry에 있는 code 목록
+     */
+    public Set<String> getCodes() {
+        return this.queries.keySet();
+    }
+
+    /**
+     * @return registry에 있는 query 개수
+     */
+    public int size() {
+        return this.queries.size();
+    }
+
+    /**
+     * Message Source의 basename에 해당하는 properties를 모두 읽어 code 별 query map을 생성하는 함수. <br>
+     * query 값은 {@link ReloadableResourceBundleMessageSource#getMessage(String, Object[], Locale)}로 가져오기 때문에 encoding, locale 처리가
+     * 기존과 동일하다.
+     *
+     * @return code 별 query
+     * @throws IllegalStateException
+     *             query를 파싱할 수 없을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private Map<String, String> load() {
+        Properties properties = new PropertiesLoader(this.messageSource).load(this.locale);
+        Map<String, String> loaded = new HashMap<>(properties.size() * 4 / 3 + 1);
+
+        for (String code : properties.stringPropertyNames()) {
+            String query = this.messageSource.getMessage(code, null, this.locale);
+
+            try {
+                NamedParameterUtils.parseSqlStatement(query);
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("[" + code + "] query를 파싱할 수 없습니다.", e);
+            }
+
+            loaded.put(code, query);
+        }
+
+        return Collections.unmodifiableMap(loaded);
+    }
+
+    /**
+     * Message Source와 같은 basename의 properties를 모두 읽기 위한 class
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static final class PropertiesLoader extends ReloadableResourceBundleMessageSource {
+
+        /**
+         * @param messageSource
+         *            basename을 가져올 Message Source
+         */
+        PropertiesLoader(ReloadableResourceBundleMessageSource messageSource) {
+            this.setBasenames(messageSource.getBasenameSet().toArray(String[]::new));
+            this.setFallbackToSystemLocale(false);
+        }
+
+        /**
+         * @param locale
+         *            properties를 읽을 locale
+         * @return locale 및 상위 locale의 properties를 합친 결과
+         */
+        Properties load(Locale locale) {
+            Properties properties = this.getMergedProperties(locale).getProperties();
+            return properties == null ? new Properties() : properties;
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package io.github.mjyoun.spring.repository;
+
+/**
+ * 조회 query를 실행할 read replica를 선택하는 방식
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public enum ReplicaSelection {
+
+    /**
+     * read replica를 순서대로 돌아가며 사용
+     */
+    ROUND_ROBIN,
+
+    /**
+     * 실행 중인 query가 가장 적은 read replica를 사용
+     */
+    LEAST_IN_FLIGHT;
+
+}
@@ -0,0 +1,72 @@
+package io.github.mjyoun.spring.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * {@link ResultSet}을 한 row씩 읽어 {@link RowMapper}로 변환하는 {@link Spliterator}. <br>
+ * 읽은 row를 보관하지 않기 때문에 결과 크기와 관계없이 driver의 fetch size 만큼의 메모리만 사용한다.
+ *
+ * @param <T>
+ *            변환 결과 타입
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    /** 조회 결과 */
+    private final ResultSet resultSet;
+    /** row 변환 함수 */
+    private final RowMapper<T> rowMapper;
+    /** {@link SQLException}을 spring의 {@link DataAccessException}으로 변환하는 함수 */
+    private final Function<SQLException, DataAccessException> exceptionTranslator;
+    /** 현재 row 번호 */
+    private int rowNum = 0;
+
+    /**
+     * @param resultSet
+     *            조회 결과
+     * @param rowMapper
+     *            row 변환 함수
+     * @param exceptionTranslator
+     *            {@link SQLException} 변환 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    ResultSetSpliterator(ResultSet resultSet, RowMapper<T> rowMapper, Function<SQLException, DataAccessException> exceptionTranslator) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.resultSet = resultSet;
+        this.rowMapper = rowMapper;
+        this.exceptionTranslator = exceptionTranslator;
+    }
+
+    /**
+     * @see Spliterator#tryAdvance(Consumer)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        try {
+            if (!this.resultSet.next()) {
+                return false;
+            }
+
+            action.accept(this.rowMapper.mapRow(this.resultSet, this.rowNum++));
+            return true;
+        } catch (SQLException e) {
+            throw this.exceptionTranslator.apply(e);
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+package io.github.mjyoun.spring.repository;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.RowMapper;
+
+import io.github.mjyoun.spring.entity.GenericEntity;
+import io.github.mjyoun.spring.entity.annotation.GeneratedRowMapper;
+import io.github.mjyoun.spring.entity.annotation.ThreadSafeRowMapper;
+import io.github.mjyoun.spring.entity.processor.RowMapperProcessor;
+
+/**
+ * entity class 별 {@link RowMapper} 생성 정보를 보관하는 registry. <br>
+ * entity의 기본 생성자는 class 당 한번만 조회하여 {@link LambdaMetafactory}로 컴파일하고, {@link ThreadSafeRowMapper}가 설정된 entity는
+ * RowMapper 자체를 공유한다. {@link GeneratedRowMapper}가 설정된 entity는 entity를 생성하지 않고 compile 시 생성된 RowMapper를 사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+final class RowMapperRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RowMapperRegistry.class);
+
+    /** entity class 별 RowMapper 생성 함수 */
+    private static final ClassValue<Supplier<RowMapper<?>>> ROW_MAPPERS = new ClassValue<>() {
+        @Override
+        protected Supplier<RowMapper<?>> computeValue(Class<?> type) {
+            return RowMapperRegistry.createRowMapperSupplier(type);
+        }
+    };
+
+    private RowMapperRegistry() {
+    }
+
+    /**
+     * entity class에 해당하는 {@link RowMapper}를 가져오는 함수
+     *
+     * @param <T>
+     *            GenericEntity를 상속받은 Entity
+     * @param t
+     *            GenericEntity를 상속받은 Entity 클래스
+     * @return 기본 설정한 RowMapper 정보
+     * @throws IllegalArgumentException
+     *             entity를 생성할 수 없는 경우
+     * @throws IllegalStateException
+     *             entity가 RowMapper를 반환하지 않는 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends GenericEntity<T>> RowMapper<T> getRowMapper(Class<T> t) {
+        return (RowMapper<T>) ROW_MAPPERS.get(t).get();
+    }
+
+    /**
+     * entity class의 RowMapper 생성 함수를 만드는 함수
+     *
+     * @param type
+     *            entity class
+     * @return RowMapper 생성 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static Supplier<RowMapper<?>> createRowMapperSupplier(Class<?> type) {
+        if (!GenericEntity.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(type.getName() + "은(는) GenericEntity를 구현하지 않았습니다.");
+        }
+
+        if (type.isAnnotationPresent(GeneratedRowMapper.class)) {
+            Supplier<RowMapper<?>> generated = RowMapperRegistry.findGeneratedRowMapper(type);
+
+            if (generated != null) {
+                return generated;
+            }
+        }
+
+        Supplier<Object> constructor = RowMapperRegistry.compileConstructor(type);
+
+        if (type.isAnnotationPresent(ThreadSafeRowMapper.class)) {
+            RowMapper<?> shared = RowMapperRegistry.newRowMapper(type, constructor);
+            return () -> shared;
+        } else {
+            return () -> RowMapperRegistry.newRowMapper(type, constructor);
+        }
+    }
+
+    /**
+     * compile 시 생성된 RowMapper의 생성 함수를 만드는 함수. 생성된 RowMapper는 조회 결과 별 column 위치를 보관하기 때문에 매번 새로 생성한다.
+     *
+     * @param type
+     *            {@link GeneratedRowMapper}가 설정된 entity class
+     * @return RowMapper 생성 함수. 생성된 RowMapper가 없을 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static Supplier<RowMapper<?>> findGeneratedRowMapper(Class<?> type) {
+        Class<?> mapperType;
+
+        try {
+            mapperType = Class.forName(RowMapperProcessor.toRowMapperName(type.getName()), true, type.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            logger.warn("{}의 생성된 RowMapper가 없어 entity의 RowMapper를 사용합니다. annotation processor 설정을 확인하세요.", type.getName());
+            return null;
+        }
+
+        if (!RowMapper.class.isAssignableFrom(mapperType)) {
+            throw new IllegalStateException(mapperType.getName() + "은(는) RowMapper가 아닙니다.");
+        }
+
+        Supplier<Object> constructor = RowMapperRegistry.compileConstructor(mapperType);
+
+        return () -> (RowMapper<?>) constructor.get();
+    }
+
+    /**
+     * entity를 생성하여 RowMapper를 가져오는 함수
+     *
+     * @param type
+     *            entity class
+     * @param constructor
+     *            entity 생성 함수
+     * @return entity가 반환한 RowMapper
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static RowMapper<?> newRowMapper(Class<?> type, Supplier<Object> constructor) {
+        RowMapper<?> rowMapper = ((GenericEntity<?>) constructor.get()).getRowMapper();
+
+        if (rowMapper == null) {
+            throw new IllegalStateException(type.getName() + "#getRowMapper()가 null을 반환하였습니다.");
+        }
+
+        return rowMapper;
+    }
+
+    /**
+     * entity의 기본 생성자를 {@link Supplier}로 컴파일하는 함수. {@link LambdaMetafactory}를 사용할 수 없는 경우 {@link MethodHandle}을
+     * 직접 호출한다.
+     *
+     * @param type
+     *            entity class
+     * @return entity 생성 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> compileConstructor(Class<?> type) {
+        MethodHandles.Lookup lookup;
+        MethodHandle constructor;
+
+        try {
+            try {
+                lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            } catch (IllegalAccessException e) { // module에서 열려있지 않은 package일 경우 public 생성자만 사용
+                lookup = MethodHandles.publicLookup();
+            }
+
+            constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(type.getName() + "에 접근 가능한 기본 생성자가 없습니다.", e);
+        }
+
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, //
+                    "get", //
+                    MethodType.methodType(Supplier.class), //
+                    MethodType.methodType(Object.class), //
+                    constructor, //
+                    MethodType.methodType(type));
+
+            return (Supplier<Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            logger.debug("{}의 생성자를 lambda로 변환하지 못하여 MethodHandle을 사용합니다. ({})", type.getName(), e.toString());
+
+            MethodHandle generic = constructor.asType(MethodType.methodType(Object.class));
+
+            return () -> {
+                try {
+                    return generic.invokeExact();
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new IllegalStateException(type.getName() + "을(를) 생성하지 못하였습니다.", ex);
+                }
+            };
+        }
+    }
+
+}
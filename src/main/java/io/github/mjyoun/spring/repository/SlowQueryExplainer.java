@@ -0,0 +1,175 @@
+package io.github.mjyoun.spring.repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.util.ConcurrentLruCache;
+
+import io.github.mjyoun.spring.repository.explain.ExplainPlan;
+import io.github.mjyoun.spring.repository.explain.SlowQueryExplainPolicy;
+
+/**
+ * 실행 시간이 기준 이상인 query의 실행 계획을 같은 parameter로 조회하여 기록하는 class. <br>
+ * 기준 이상인 query 중 일부만 (sample), query 별 최소 간격마다, 한번에 하나씩 virtual thread에서 조회하기 때문에 query 실행에는 영향을 주지 않는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+final class SlowQueryExplainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryExplainer.class);
+
+    /** 보관할 실행 계획의 최대 개수 */
+    private static final int PLAN_LIMIT = 1024;
+
+    /** 실행 계획 조회 함수 */
+    private final PlanLoader planLoader;
+    /** 실행 계획 조회 정책. null일 경우 조회하지 않음 */
+    private volatile SlowQueryExplainPolicy policy;
+    /** query 별 마지막 실행 계획 조회 시각 (ms) */
+    private final ConcurrentLruCache<String, AtomicLong> lastCapturedAt = new ConcurrentLruCache<>(PLAN_LIMIT, key -> new AtomicLong());
+    /** query 별 마지막 실행 계획 */
+    private final Map<String, ExplainPlan> plans = new ConcurrentHashMap<>();
+    /** 동시에 조회하는 실행 계획 개수 제한 */
+    private final Semaphore permits = new Semaphore(1);
+
+    /**
+     * @param planLoader
+     *            실행 계획 조회 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    SlowQueryExplainer(PlanLoader planLoader) {
+        this.planLoader = planLoader;
+    }
+
+    /**
+     * @param policy
+     *            실행 계획 조회 정책. null일 경우 조회하지 않음
+     */
+    void setPolicy(SlowQueryExplainPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * @return 실행 계획 조회 여부
+     */
+    boolean isEnabled() {
+        return this.policy != null;
+    }
+
+    /**
+     * @return query 별 마지막 실행 계획. query 이름 순으로 정렬
+     */
+    Map<String, ExplainPlan> getPlans() {
+        return Collections.unmodifiableMap(new TreeMap<>(this.plans));
+    }
+
+    /**
+     * query 실행 후 실행 시간이 기준 이상일 경우 실행 계획 조회를 시작하는 함수
+     *
+     * @param template
+     *            query를 실행한 JdbcTemplate. 같은 data source에서 실행 계획을 조회함
+     * @param queryKey
+     *            query 이름
+     * @param sql
+     *            실행한 query
+     * @param elapsedNanos
+     *            실행 시간
+     * @param psc
+     *            실행한 statement 생성 함수
+     * @param pss
+     *            실행한 statement의 parameter 설정 함수. nullable
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    void onQuery(JdbcTemplate template, String queryKey, String sql, long elapsedNanos, PreparedStatementCreator psc,
+            PreparedStatementSetter pss) {
+        SlowQueryExplainPolicy current = this.policy;
+
+        if (current == null || elapsedNanos < current.threshold().toNanos()) {
+            return;
+        }
+
+        if (current.sampleRate() < 1 && ThreadLocalRandom.current().nextDouble() >= current.sampleRate()) {
+            return;
+        }
+
+        AtomicLong last = this.lastCapturedAt.get(queryKey);
+        long now = System.currentTimeMillis();
+        long previous = last.get();
+
+        if (previous != 0 && now - previous < current.minInterval().toMillis()) {
+            return;
+        }
+
+        if (!last.compareAndSet(previous, now)) {
+            return;
+        }
+
+        if (!this.permits.tryAcquire()) {
+            // 다른 실행 계획을 조회 중일 경우 다음 기회에 조회할 수 있도록 시각을 되돌림
+            last.compareAndSet(now, previous);
+            return;
+        }
+
+        Thread.ofVirtual().name("slow-query-explain").start(() -> {
+            try {
+                String plan = template.execute((ConnectionCallback<String>) con -> this.planLoader.load(con, psc, pss));
+                ExplainPlan explainPlan = new ExplainPlan(queryKey, sql, plan, Duration.ofNanos(elapsedNanos), Instant.now());
+
+                if (this.plans.size() < PLAN_LIMIT || this.plans.containsKey(queryKey)) {
+                    this.plans.put(queryKey, explainPlan);
+                }
+
+                logger.warn("[{}] 느린 query의 실행 계획 ({}ms)\n{}", queryKey, Duration.ofNanos(elapsedNanos).toMillis(), plan);
+            } catch (RuntimeException e) {
+                logger.warn("[" + queryKey + "] 느린 query의 실행 계획을 조회하지 못하였습니다.", e);
+            } finally {
+                this.permits.release();
+            }
+        });
+    }
+
+    /**
+     * 실행한 statement와 같은 parameter로 실행 계획을 조회하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @FunctionalInterface
+    interface PlanLoader {
+
+        /**
+         * @param con
+         *            실행 계획을 조회할 connection
+         * @param psc
+         *            실행한 statement 생성 함수
+         * @param pss
+         *            실행한 statement의 parameter 설정 함수. nullable
+         * @return 실행 계획
+         * @throws SQLException
+         *             실행 계획 조회 중 오류가 발생한 경우
+         */
+        String load(Connection con, PreparedStatementCreator psc, PreparedStatementSetter pss) throws SQLException;
+
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.github.mjyoun.spring.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * COUNT(*) OVER() 로 조회한 전체 개수를 첫번째 row에서 읽고, 나머지는 원래 {@link RowMapper}로 변환하는 RowMapper. <br>
+ * 조회 한번에만 사용한다.
+ *
+ * @param <T>
+ *            변환 결과 타입
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class WindowCountRowMapper<T> implements RowMapper<T> {
+
+    /** 원래 RowMapper */
+    private final RowMapper<T> delegate;
+    /** 전체 개수 column 이름 */
+    private final String totalCountColumn;
+    /** 전체 개수. 조회한 row가 없을 경우 null */
+    private Long totalCount;
+
+    /**
+     * @param delegate
+     *            원래 RowMapper
+     * @param totalCountColumn
+     *            전체 개수 column 이름
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    WindowCountRowMapper(RowMapper<T> delegate, String totalCountColumn) {
+        this.delegate = delegate;
+        this.totalCountColumn = totalCountColumn;
+    }
+
+    @Override
+    public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (this.totalCount == null) {
+            this.totalCount = rs.getLong(this.totalCountColumn);
+        }
+
+        return this.delegate.mapRow(rs, rowNum);
+    }
+
+    /**
+     * @return 전체 개수. 조회한 row가 없을 경우 null
+     */
+    Long getTotalCount() {
+        return this.totalCount;
+    }
+
+}
@@ -0,0 +1,130 @@
+package io.github.mjyoun.spring.repository.bulk;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Objects;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import io.github.mjyoun.spring.entity.PersistableEntity;
+
+/**
+ * entity 목록을 {@link BulkRowEncoder} 형식으로 읽는 input stream. <br>
+ * 전체 데이터를 한번에 만들지 않고, buffer가 비었을 때 다음 entity들을 buffer 크기만큼 기록한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public final class BulkLoadInputStream extends InputStream {
+
+    /** 한번에 기록할 데이터 크기 */
+    private static final int FLUSH_SIZE = 64 * 1024;
+
+    /** 기록할 entity 목록 */
+    private final Iterator<? extends PersistableEntity<?>> entities;
+    /** column 개수 */
+    private final int columnCount;
+    /** row encoder */
+    private final BulkRowEncoder encoder = new BulkRowEncoder(FLUSH_SIZE + 1024);
+    /** encoder buffer에서 다음에 읽을 위치 */
+    private int position = 0;
+    /** 기록한 row 개수 */
+    private long rowCount = 0;
+
+    /**
+     * @param entities
+     *            기록할 entity 목록
+     * @param columnCount
+     *            column 개수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public BulkLoadInputStream(@NotNull Iterator<? extends PersistableEntity<?>> entities, @Min(1) int columnCount) {
+        if (entities == null) {
+            throw new IllegalArgumentException("entity 목록이 없습니다.");
+        }
+
+        if (columnCount < 1) {
+            throw new IllegalArgumentException("column 개수는 1 이상이어야 합니다.");
+        }
+
+        this.entities = entities;
+        this.columnCount = columnCount;
+    }
+
+    @Override
+    public int read() {
+        if (!this.fill()) {
+            return -1;
+        }
+
+        return this.encoder.get(this.position++) & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        Objects.checkFromIndexSize(off, len, b.length);
+
+        if (len == 0) {
+            return 0;
+        }
+
+        if (!this.fill()) {
+            return -1;
+        }
+
+        int length = Math.min(len, this.encoder.size() - this.position);
+        this.encoder.copyTo(this.position, b, off, length);
+        this.position += length;
+
+        return length;
+    }
+
+    @Override
+    public int available() {
+        return this.encoder.size() - this.position;
+    }
+
+    /**
+     * @return 지금까지 기록한 row 개수
+     */
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * buffer를 모두 읽었을 경우 다음 entity들을 기록하는 함수
+     *
+     * @return 읽을 데이터가 있을 경우 true
+     * @throws IllegalArgumentException
+     *             column 값의 개수가 column 개수와 다를 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private boolean fill() {
+        if (this.position < this.encoder.size()) {
+            return true;
+        }
+
+        this.encoder.reset();
+        this.position = 0;
+
+        while (this.encoder.size() < FLUSH_SIZE && this.entities.hasNext()) {
+            PersistableEntity<?> entity = this.entities.next();
+            Object[] values = entity.getColumnValues();
+
+            if (values == null || values.length != this.columnCount) {
+                throw new IllegalArgumentException("column 값의 개수가 column 개수와 다릅니다. [" + entity + "]");
+            }
+
+            this.encoder.encodeRow(values);
+            this.rowCount++;
+        }
+
+        return this.encoder.size() > 0;
+    }
+
+}
@@ -0,0 +1,284 @@
+package io.github.mjyoun.spring.repository.bulk;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * bulk load용 text 형식으로 row를 재사용하는 byte buffer에 바로 기록하는 encoder. <br>
+ * column은 tab, row는 줄바꿈으로 구분하고, null은 \N, 값의 \, tab, 줄바꿈은 \로 escape 한다. <br>
+ * PostgreSQL COPY의 text 형식, Mariadb LOAD DATA의 기본 형식과 동일하며, 문자열은 UTF-8로 기록한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public final class BulkRowEncoder {
+
+    /** column 구분자 */
+    private static final byte COLUMN_SEPARATOR = '\t';
+    /** row 구분자 */
+    private static final byte ROW_SEPARATOR = '\n';
+    /** escape 문자 */
+    private static final byte ESCAPE = '\\';
+
+    /** 기록한 데이터 */
+    private byte[] buffer;
+    /** 기록한 데이터 크기 */
+    private int size = 0;
+
+    /**
+     * @param initialCapacity
+     *            buffer의 초기 크기
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public BulkRowEncoder(@Min(1) int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("buffer 크기는 1 이상이어야 합니다.");
+        }
+
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * row 하나를 buffer에 기록하는 함수
+     *
+     * @param values
+     *            column 값 목록
+     * @throws IllegalArgumentException
+     *             기록할 수 없는 타입의 값이 있을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void encodeRow(Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                this.write(COLUMN_SEPARATOR);
+            }
+
+            this.encodeValue(values[i]);
+        }
+
+        this.write(ROW_SEPARATOR);
+    }
+
+    /**
+     * buffer에 기록한 데이터를 output stream에 쓰는 함수
+     *
+     * @param out
+     *            output stream
+     * @throws IOException
+     *             쓰는 중 오류가 발생한 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(this.buffer, 0, this.size);
+    }
+
+    /**
+     * 기록한 데이터를 비우는 함수. buffer는 다시 사용한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void reset() {
+        this.size = 0;
+    }
+
+    /**
+     * @return 기록한 데이터 크기
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * buffer의 데이터를 복사하는 함수
+     *
+     * @param position
+     *            복사를 시작할 buffer 위치
+     * @param dest
+     *            복사할 배열
+     * @param offset
+     *            복사할 배열의 시작 위치
+     * @param length
+     *            복사할 길이
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    void copyTo(int position, byte[] dest, int offset, int length) {
+        System.arraycopy(this.buffer, position, dest, offset, length);
+    }
+
+    /**
+     * @param position
+     *            buffer 위치
+     * @return buffer 위치의 데이터
+     */
+    byte get(int position) {
+        return this.buffer[position];
+    }
+
+    /**
+     * 값 하나를 기록하는 함수
+     *
+     * @param value
+     *            값
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void encodeValue(Object value) {
+        if (value == null) {
+            this.write(ESCAPE);
+            this.write((byte) 'N');
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            this.encodeLong(((Number) value).longValue());
+        } else if (value instanceof Boolean bool) {
+            // PostgreSQL boolean, Mariadb tinyint 모두 1/0으로 읽을 수 있음
+            this.write(bool ? (byte) '1' : (byte) '0');
+        } else if (value instanceof CharSequence chars) {
+            this.encodeChars(chars);
+        } else if (value instanceof Enum<?> e) {
+            this.encodeChars(e.name());
+        } else if (value instanceof Date date && !(value instanceof java.sql.Date) && !(value instanceof java.sql.Time)
+                && !(value instanceof Timestamp)) {
+            this.encodeChars(new Timestamp(date.getTime()).toString());
+        } else if (value instanceof byte[]) {
+            throw new IllegalArgumentException("byte[] 값은 bulk load 할 수 없습니다.");
+        } else {
+            this.encodeChars(value.toString());
+        }
+    }
+
+    /**
+     * 정수 값을 문자열을 생성하지 않고 기록하는 함수
+     *
+     * @param value
+     *            정수 값
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void encodeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            this.encodeChars(Long.toString(value));
+            return;
+        }
+
+        if (value < 0) {
+            this.write((byte) '-');
+            value = -value;
+        }
+
+        // long의 최대 자리수는 19
+        this.ensureCapacity(19);
+
+        int start = this.size;
+
+        do {
+            this.buffer[this.size++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value > 0);
+
+        // 낮은 자리부터 기록했기 때문에 뒤집음
+        for (int i = start, j = this.size - 1; i < j; i++, j--) {
+            byte tmp = this.buffer[i];
+            this.buffer[i] = this.buffer[j];
+            this.buffer[j] = tmp;
+        }
+    }
+
+    /**
+     * 문자열을 escape 처리하여 UTF-8로 기록하는 함수
+     *
+     * @param chars
+     *            문자열
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void encodeChars(CharSequence chars) {
+        int length = chars.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = chars.charAt(i);
+
+            // 한 문자는 최대 4 byte
+            this.ensureCapacity(4);
+
+            switch (c) {
+                case '\\' -> this.writeEscaped('\\');
+                case '\t' -> this.writeEscaped('t');
+                case '\n' -> this.writeEscaped('n');
+                case '\r' -> this.writeEscaped('r');
+                default -> {
+                    if (c < 0x80) {
+                        this.buffer[this.size++] = (byte) c;
+                    } else if (c < 0x800) {
+                        this.buffer[this.size++] = (byte) (0xC0 | (c >> 6));
+                        this.buffer[this.size++] = (byte) (0x80 | (c & 0x3F));
+                    } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                        this.buffer[this.size++] = (byte) (0xF0 | (codePoint >> 18));
+                        this.buffer[this.size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                        this.buffer[this.size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        this.buffer[this.size++] = (byte) (0x80 | (codePoint & 0x3F));
+                    } else if (Character.isSurrogate(c)) {
+                        // 짝이 맞지 않는 surrogate는 String#getBytes와 동일하게 ?로 기록함
+                        this.buffer[this.size++] = (byte) '?';
+                    } else {
+                        this.buffer[this.size++] = (byte) (0xE0 | (c >> 12));
+                        this.buffer[this.size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                        this.buffer[this.size++] = (byte) (0x80 | (c & 0x3F));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * escape 문자와 함께 기록하는 함수
+     *
+     * @param c
+     *            escape 문자 뒤에 기록할 문자
+     */
+    private void writeEscaped(char c) {
+        this.buffer[this.size++] = ESCAPE;
+        this.buffer[this.size++] = (byte) c;
+    }
+
+    /**
+     * @param b
+     *            기록할 byte
+     */
+    private void write(byte b) {
+        this.ensureCapacity(1);
+        this.buffer[this.size++] = b;
+    }
+
+    /**
+     * buffer에 기록할 공간이 있도록 buffer 크기를 늘리는 함수
+     *
+     * @param length
+     *            기록할 길이
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void ensureCapacity(int length) {
+        if (this.size + length > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.size + length));
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package io.github.mjyoun.spring.repository.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * query 결과 캐싱 정책
+ *
+ * @param ttl
+ *            캐싱 유지 시간
+ * @param tables
+ *            query가 조회하는 테이블 목록. 해당 테이블을 변경하는 query가 실행되면 캐시를 삭제함
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public record QueryCachePolicy(Duration ttl, Set<String> tables) {
+
+    /**
+     * @param ttl
+     *            캐싱 유지 시간
+     * @param tables
+     *            query가 조회하는 테이블 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public QueryCachePolicy {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("캐싱 유지 시간은 0보다 커야 합니다.");
+        }
+
+        Set<String> normalized = new LinkedHashSet<>();
+
+        if (tables != null) {
+            tables.forEach(table -> normalized.add(QueryResultCache.normalizeTableName(table)));
+        }
+
+        tables = Collections.unmodifiableSet(normalized);
+    }
+
+    /**
+     * 캐싱 정책을 생성하는 함수
+     *
+     * @param ttl
+     *            캐싱 유지 시간
+     * @param tables
+     *            query가 조회하는 테이블 목록. 해당 테이블을 변경하는 query가 실행되면 캐시를 삭제함
+     * @return 캐싱 정책
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static QueryCachePolicy of(@NotNull Duration ttl, String... tables) {
+        return new QueryCachePolicy(ttl, tables == null ? Set.of() : new LinkedHashSet<>(Arrays.asList(tables)));
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.github.mjyoun.spring.repository.cache;
+
+/**
+ * query 결과 캐시 통계 정보
+ *
+ * @param hitCount
+ *            캐시에서 결과를 찾은 횟수
+ * @param missCount
+ *            캐시에 결과가 없어 query를 실행한 횟수
+ * @param evictionCount
+ *            크기 제한, 유지 시간 만료로 삭제한 개수
+ * @param invalidationCount
+ *            변경 query 실행으로 삭제한 개수
+ * @param size
+ *            현재 캐싱하고 있는 결과 개수
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public record QueryCacheStatistics(long hitCount, long missCount, long evictionCount, long invalidationCount, int size) {
+
+    /**
+     * 캐시 hit 비율
+     *
+     * @return 0 ~ 1 사이의 hit 비율. 요청이 없었을 경우 0
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public double hitRate() {
+        long requestCount = this.hitCount + this.missCount;
+        return requestCount == 0 ? 0 : (double) this.hitCount / requestCount;
+    }
+
+}
@@ -0,0 +1,320 @@
+package io.github.mjyoun.spring.repository.cache;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.validation.constraints.Min;
+
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * query 결과를 (query, 결과 타입, arguments) 별로 캐싱하는 캐시. <br>
+ * 최대 개수를 넘으면 가장 오래 사용하지 않은 결과부터 삭제 (LRU)하고, 정책의 유지 시간이 지난 결과는 사용하지 않는다. <br>
+ * 변경 query (INSERT, UPDATE, DELETE, MERGE 등)가 실행되면 해당 테이블을 조회하는 결과를 사용하지 않는다. 테이블 별 변경 횟수를 결과와 함께 저장하고, 조회할 때
+ * 변경 횟수가 다르면 삭제하기 때문에 변경 query 실행시 전체 결과를 확인하지 않는다. <br>
+ * 캐싱한 결과 객체는 모든 호출에서 공유하기 때문에 변경하면 안 된다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public class QueryResultCache {
+
+    /** 변경 query에서 테이블 이름을 찾기 위한 pattern */
+    private static final Pattern WRITE_TABLE_PATTERN = Pattern.compile(
+            "^\\s*(?:INSERT\\s+(?:IGNORE\\s+)?INTO|REPLACE\\s+INTO|UPDATE|DELETE\\s+FROM|MERGE\\s+INTO|TRUNCATE\\s+(?:TABLE\\s+)?|COPY"
+                    + "|LOAD\\s+DATA\\s+(?:LOCAL\\s+)?INFILE\\s+'[^']*'\\s+(?:REPLACE\\s+|IGNORE\\s+)?INTO\\s+TABLE)\\s*([\\w.\"`]+)",
+            Pattern.CASE_INSENSITIVE);
+
+    /** 캐싱한 결과. 가장 오래 사용하지 않은 결과부터 삭제 */
+    private final ConcurrentLruCache<Key, Slot> entries;
+    /** 전체 삭제 횟수 */
+    private final AtomicLong clearVersion = new AtomicLong();
+    /** 변경 query 실행 횟수. 조회 테이블 정보가 없는 결과는 어떤 테이블이 변경되어도 사용하지 않음 */
+    private final AtomicLong writeVersion = new AtomicLong();
+    /** 테이블 별 변경 query 실행 횟수 */
+    private final Map<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+
+    /** 캐시 hit 횟수 */
+    private final LongAdder hitCount = new LongAdder();
+    /** 캐시 miss 횟수 */
+    private final LongAdder missCount = new LongAdder();
+    /** 유지 시간 만료로 삭제한 개수 */
+    private final LongAdder expirationCount = new LongAdder();
+    /** 변경 query 실행으로 삭제한 개수 */
+    private final LongAdder invalidationCount = new LongAdder();
+    /** 캐시에 추가한 개수. 크기 제한으로 삭제한 개수를 계산하기 위해 사용 */
+    private final LongAdder addedCount = new LongAdder();
+    /** 직접 삭제한 개수. 크기 제한으로 삭제한 개수를 계산하기 위해 사용 */
+    private final LongAdder removedCount = new LongAdder();
+
+    /**
+     * @param maxSize
+     *            최대 캐싱 개수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public QueryResultCache(@Min(1) int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("최대 캐싱 개수는 1 이상이어야 합니다.");
+        }
+
+        this.entries = new ConcurrentLruCache<>(maxSize, key -> {
+            this.addedCount.increment();
+            return new Slot();
+        });
+    }
+
+    /**
+     * 캐싱된 결과를 가져오는 함수. 캐싱된 결과가 없거나, 유지 시간이 지났거나, 조회 이후 테이블이 변경된 경우 loader로 조회하여 캐싱한다. <br>
+     * 캐싱된 결과는 복사하지 않고 그대로 반환하기 때문에, 호출한 쪽에서 변경하면 안 된다.
+     *
+     * @param <R>
+     *            결과 타입
+     * @param sql
+     *            실행 query
+     * @param type
+     *            결과 타입 class
+     * @param args
+     *            query 실행시 필요한 arguments
+     * @param policy
+     *            캐싱 정책
+     * @param loader
+     *            query 실행 함수
+     * @return query 실행 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R get(String sql, Class<?> type, Object[] args, QueryCachePolicy policy, Supplier<R> loader) {
+        Key key = new Key(sql, type, args == null ? new Object[0] : args.clone());
+        Slot slot = this.entries.get(key);
+        Entry entry = slot.entry;
+
+        if (entry != null) {
+            if (!this.isCurrent(entry)) {
+                slot.clear(entry);
+                this.invalidationCount.increment();
+            } else if (entry.expiresAt() - System.nanoTime() <= 0) {
+                slot.clear(entry);
+                this.expirationCount.increment();
+            } else {
+                this.hitCount.increment();
+                return (R) entry.value();
+            }
+        }
+
+        this.missCount.increment();
+
+        // 조회 중 테이블이 변경되면 다음 조회에서 사용하지 않도록, 조회 전의 변경 횟수를 저장함
+        long[] versions = this.currentVersions(policy.tables());
+        R value = loader.get();
+        slot.entry = new Entry(value, policy.tables(), versions, System.nanoTime() + policy.ttl().toNanos());
+
+        return value;
+    }
+
+    /**
+     * 변경 query가 변경하는 테이블을 조회하는 결과를 사용하지 않도록 하는 함수. 변경 테이블을 알 수 없는 경우 전체를 삭제한다.
+     *
+     * @param writeSql
+     *            실행한 변경 query
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void invalidate(String writeSql) {
+        Matcher matcher = WRITE_TABLE_PATTERN.matcher(writeSql == null ? "" : writeSql);
+
+        if (!matcher.find()) {
+            this.invalidateAll();
+            return;
+        }
+
+        String table = QueryResultCache.normalizeTableName(matcher.group(1));
+
+        this.tableVersions.computeIfAbsent(table, name -> new AtomicLong()).incrementAndGet();
+        this.writeVersion.incrementAndGet();
+    }
+
+    /**
+     * 캐싱된 결과를 모두 삭제하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void invalidateAll() {
+        // clear 중 저장된 결과도 사용하지 않도록 먼저 변경 횟수를 증가시킴
+        this.clearVersion.incrementAndGet();
+
+        int size = this.entries.size();
+        this.entries.clear();
+        this.invalidationCount.add(size);
+        this.removedCount.add(size);
+    }
+
+    /**
+     * 캐시 통계 정보를 가져오는 함수
+     *
+     * @return 캐시 통계 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public QueryCacheStatistics getStatistics() {
+        int size = this.entries.size();
+        // 크기 제한으로 삭제한 개수는 추가한 개수에서 직접 삭제한 개수와 현재 개수를 빼서 계산함
+        long sizeEvictionCount = Math.max(this.addedCount.sum() - this.removedCount.sum() - size, 0);
+
+        return new QueryCacheStatistics(this.hitCount.sum(), this.missCount.sum(), this.expirationCount.sum() + sizeEvictionCount,
+                this.invalidationCount.sum(), size);
+    }
+
+    /**
+     * 테이블 이름을 비교할 수 있도록 변환하는 함수. quote, schema를 제거하고 소문자로 변환한다.
+     *
+     * @param table
+     *            테이블 이름
+     * @return 변환한 테이블 이름
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    static String normalizeTableName(String table) {
+        String name = table.replace("\"", "").replace("`", "").trim();
+        int schemaIndex = name.lastIndexOf('.');
+
+        return (schemaIndex < 0 ? name : name.substring(schemaIndex + 1)).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 조회하는 테이블의 현재 변경 횟수를 가져오는 함수
+     *
+     * @param tables
+     *            조회하는 테이블 목록
+     * @return 전체 삭제 횟수, (테이블 정보가 없을 경우) 변경 query 실행 횟수 또는 (있을 경우) 테이블 별 변경 횟수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private long[] currentVersions(Set<String> tables) {
+        long[] versions = new long[tables.isEmpty() ? 2 : tables.size() + 1];
+        int i = 0;
+
+        versions[i++] = this.clearVersion.get();
+
+        if (tables.isEmpty()) {
+            versions[i] = this.writeVersion.get();
+        } else {
+            for (String table : tables) {
+                versions[i++] = this.tableVersions.computeIfAbsent(table, name -> new AtomicLong()).get();
+            }
+        }
+
+        return versions;
+    }
+
+    /**
+     * 캐싱한 이후 조회하는 테이블이 변경되지 않았는지 확인하는 함수
+     *
+     * @param entry
+     *            캐싱된 결과
+     * @return 변경되지 않았을 경우 true
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private boolean isCurrent(Entry entry) {
+        return Arrays.equals(entry.versions(), this.currentVersions(entry.tables()));
+    }
+
+    /**
+     * 캐시 key 별로 결과를 저장하는 공간. {@link ConcurrentLruCache}는 값을 직접 변경할 수 없기 때문에 사용한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static final class Slot {
+
+        /** 캐싱된 결과. 없을 경우 null */
+        private volatile Entry entry;
+
+        /**
+         * 다른 thread가 새로 저장한 결과가 아닐 경우에만 결과를 삭제하는 함수
+         *
+         * @param expected
+         *            삭제할 결과
+         */
+        synchronized void clear(Entry expected) {
+            if (this.entry == expected) {
+                this.entry = null;
+            }
+        }
+
+    }
+
+    /**
+     * 캐싱된 결과
+     *
+     * @param value
+     *            query 실행 결과
+     * @param tables
+     *            query가 조회하는 테이블 목록
+     * @param versions
+     *            조회 전의 변경 횟수 ({@link #currentVersions(Set)})
+     * @param expiresAt
+     *            만료 시간 ({@link System#nanoTime()} 기준)
+     */
+    private record Entry(Object value, Set<String> tables, long[] versions, long expiresAt) {
+    }
+
+    /**
+     * 캐시 key. arguments에 배열이 포함되어 있을 수 있어 deepEquals로 비교한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static final class Key {
+
+        /** 실행 query */
+        private final String sql;
+        /** 결과 타입 class */
+        private final Class<?> type;
+        /** query 실행시 필요한 arguments */
+        private final Object[] args;
+        /** hash code */
+        private final int hash;
+
+        Key(String sql, Class<?> type, Object[] args) {
+            this.sql = sql;
+            this.type = type;
+            this.args = args;
+            this.hash = 31 * (31 * sql.hashCode() + type.hashCode()) + Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key other //
+                    && this.hash == other.hash //
+                    && this.type == other.type //
+                    && this.sql.equals(other.sql) //
+                    && Arrays.deepEquals(this.args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package io.github.mjyoun.spring.repository.explain;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 느린 query의 실행 계획
+ *
+ * @param queryKey
+ *            query code. code를 알 수 없는 경우 literal 값을 제거한 query
+ * @param sql
+ *            실행한 query
+ * @param plan
+ *            DB에서 조회한 실행 계획
+ * @param elapsed
+ *            query 실행 시간
+ * @param capturedAt
+ *            실행 계획 조회 시각
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public record ExplainPlan(String queryKey, String sql, String plan, Duration elapsed, Instant capturedAt) {
+}
@@ -0,0 +1,62 @@
+package io.github.mjyoun.spring.repository.explain;
+
+import java.time.Duration;
+
+/**
+ * 느린 query의 실행 계획 조회 정책
+ *
+ * @param threshold
+ *            실행 계획을 조회할 실행 시간 기준. 실행 시간이 기준 이상인 query의 실행 계획을 조회함
+ * @param sampleRate
+ *            기준 이상인 query 중 실행 계획을 조회할 비율 (0 초과 1 이하)
+ * @param minInterval
+ *            같은 query의 실행 계획을 다시 조회하기 위한 최소 간격
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public record SlowQueryExplainPolicy(Duration threshold, double sampleRate, Duration minInterval) {
+
+    /** 같은 query의 실행 계획을 다시 조회하기 위한 기본 최소 간격 */
+    public static final Duration DEFAULT_MIN_INTERVAL = Duration.ofMinutes(10);
+
+    /**
+     * @param threshold
+     *            실행 계획을 조회할 실행 시간 기준
+     * @param sampleRate
+     *            기준 이상인 query 중 실행 계획을 조회할 비율 (0 초과 1 이하)
+     * @param minInterval
+     *            같은 query의 실행 계획을 다시 조회하기 위한 최소 간격
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public SlowQueryExplainPolicy {
+        if (threshold == null || threshold.isNegative()) {
+            throw new IllegalArgumentException("실행 시간 기준은 0 이상이어야 합니다.");
+        }
+
+        if (!(sampleRate > 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("실행 계획 조회 비율은 0 초과 1 이하여야 합니다.");
+        }
+
+        if (minInterval == null || minInterval.isNegative()) {
+            throw new IllegalArgumentException("실행 계획 조회 최소 간격은 0 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * 실행 시간 기준 이상인 모든 query의 실행 계획을 {@link #DEFAULT_MIN_INTERVAL} 간격으로 조회하는 정책을 생성하는 함수
+     *
+     * @param threshold
+     *            실행 계획을 조회할 실행 시간 기준
+     * @return 실행 계획 조회 정책
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static SlowQueryExplainPolicy of(Duration threshold) {
+        return new SlowQueryExplainPolicy(threshold, 1, DEFAULT_MIN_INTERVAL);
+    }
+
+}
@@ -0,0 +1,34 @@
+package io.github.mjyoun.spring.repository.inlist;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 데이터 목록 전체를 하나의 "IN (?, ?, ...)" 조건으로 펼치는 방식. 데이터 개수마다 다른 query가 생성된다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class ExpandInListStrategy implements InListStrategy {
+
+    /**
+     * @see InListStrategy#createQueries(String, String, List)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    public <P> List<InListQuery> createQueries(String sql, String dataColumn, List<P> datas) {
+        if (datas == null || datas.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put(dataColumn, datas);
+
+        return List.of(new InListQuery(sql, params));
+    }
+
+}
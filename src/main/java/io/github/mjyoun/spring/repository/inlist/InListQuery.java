@@ -0,0 +1,18 @@
+package io.github.mjyoun.spring.repository.inlist;
+
+import java.util.Map;
+
+/**
+ * {@link InListStrategy}가 생성한, 실제로 실행할 named parameter query 정보
+ *
+ * @param sql
+ *            실행 query
+ * @param params
+ *            query 실행시 필요한 parameter map
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public record InListQuery(String sql, Map<String, Object> params) {
+
+}
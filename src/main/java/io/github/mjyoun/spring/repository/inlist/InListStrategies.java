@@ -0,0 +1,73 @@
+package io.github.mjyoun.spring.repository.inlist;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * 기본 제공하는 {@link InListStrategy} 생성 함수 모음
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public final class InListStrategies {
+
+    /** 데이터 목록 전체를 하나의 IN 조건으로 펼치는 방식 */
+    private static final InListStrategy EXPAND = new ExpandInListStrategy();
+
+    private InListStrategies() {
+    }
+
+    /**
+     * 데이터 목록 전체를 하나의 "IN (?, ?, ...)" 조건으로 펼치는 방식. (기본 방식)
+     *
+     * @return {@link InListStrategy}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static InListStrategy expand() {
+        return EXPAND;
+    }
+
+    /**
+     * 데이터 목록을 최대 크기 단위로 나누어 실행하고, 각 목록의 크기를 2의 제곱수로 맞추는 방식. <br>
+     * Oracle처럼 IN 조건의 개수 제한 (1000개)이 있는 경우에도 사용한다. <br>
+     * 나눈 query의 결과를 이어 붙이기 때문에 query는 row를 거르기만 하는 조건이어야 하며, "NOT IN (:dataColumn)" 조건은 사용할 수 없다.
+     *
+     * @param chunkSize
+     *            하나의 query에 바인딩할 최대 데이터 개수
+     * @return {@link InListStrategy}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static InListStrategy padded(@Min(1) int chunkSize) {
+        return new PaddedInListStrategy(chunkSize);
+    }
+
+    /**
+     * PostgreSQL에서 데이터 목록을 "= ANY(?)" 조건의 배열 하나로 바인딩하는 방식. 배열 원소의 타입은 첫번째 데이터의 java 타입으로 결정한다.
+     *
+     * @return {@link InListStrategy}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static InListStrategy postgreSQLArray() {
+        return new PostgreSQLArrayInListStrategy(null);
+    }
+
+    /**
+     * PostgreSQL에서 데이터 목록을 "= ANY(?)" 조건의 배열 하나로 바인딩하는 방식
+     *
+     * @param elementTypeName
+     *            배열 원소의 DB 타입 이름 (ex. bigint, varchar, uuid)
+     * @return {@link InListStrategy}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static InListStrategy postgreSQLArray(String elementTypeName) {
+        return new PostgreSQLArrayInListStrategy(elementTypeName);
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.github.mjyoun.spring.repository.inlist;
+
+import java.util.List;
+
+/**
+ * "IN (:dataColumn)" 형태의 query에 데이터 목록을 바인딩하는 방식. <br>
+ * 데이터 목록의 크기에 따라 query를 나누거나, query 모양을 고정하거나, 배열 하나로 바인딩하는 등의 처리를 한다.
+ *
+ * @see InListStrategies
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public interface InListStrategy {
+
+    /**
+     * 데이터 목록을 바인딩한 query 목록을 생성하는 함수. 생성한 query를 모두 실행한 결과를 합친 것이 전체 결과가 된다. <br>
+     * 여러 query로 나누는 방식은 query가 row를 거르기만 하는 조건일 때만 결과가 같다. (ORDER BY, DISTINCT, GROUP BY, 집계 함수, LIMIT, NOT IN 사용 불가)
+     *
+     * @param <P>
+     *            데이터 타입
+     * @param sql
+     *            실행 query. "IN (:dataColumn)" 형태의 조건을 포함
+     * @param dataColumn
+     *            조회할 data column 이름. query 상에 ":dataColumn"으로 설정되어 있는 이름
+     * @param datas
+     *            조회할 data 목록
+     * @return 실행할 query 목록. 데이터 목록이 비어있을 경우 빈 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    <P> List<InListQuery> createQueries(String sql, String dataColumn, List<P> datas);
+
+}
@@ -0,0 +1,106 @@
+package io.github.mjyoun.spring.repository.inlist;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 데이터 목록의 중복을 제거하고, 최대 크기 단위로 나눈 뒤, 각 목록의 크기를 2의 제곱수로 맞추는 방식. <br>
+ * 마지막 데이터를 반복해서 채우기 때문에 조회 결과는 같으며, 데이터 개수가 달라도 query 모양이 몇 가지로 고정되어 statement/plan cache를 재사용할 수 있다. <br>
+ * 나눈 query의 결과를 이어 붙이기 때문에 query는 row를 거르기만 하는 조건이어야 한다. ORDER BY, DISTINCT, GROUP BY, 집계 함수, LIMIT 등은 query 단위로
+ * 적용되어 전체 결과와 달라지고, "NOT IN (:dataColumn)" 조건은 다른 query의 데이터를 제외하지 못하므로 사용할 수 없다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class PaddedInListStrategy implements InListStrategy {
+
+    /** data column 이름별 "NOT IN (:dataColumn)" 조건 pattern */
+    private static final Map<String, Pattern> NOT_IN_PATTERNS = new ConcurrentHashMap<>();
+
+    /** 하나의 query에 바인딩할 최대 데이터 개수 */
+    private final int chunkSize;
+
+    /**
+     * @param chunkSize
+     *            하나의 query에 바인딩할 최대 데이터 개수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    PaddedInListStrategy(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk 크기는 1 이상이어야 합니다.");
+        }
+
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @see InListStrategy#createQueries(String, String, List)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    public <P> List<InListQuery> createQueries(String sql, String dataColumn, List<P> datas) {
+        Pattern notInPattern = NOT_IN_PATTERNS.computeIfAbsent(dataColumn,
+                column -> Pattern.compile("(?i)\\bNOT\\s+IN\\s*\\(\\s*:" + Pattern.quote(column) + "\\s*\\)"));
+
+        // 데이터 개수에 따라 결과가 틀려지지 않도록 데이터 개수와 관계없이 거부함
+        if (notInPattern.matcher(sql).find()) {
+            throw new IllegalArgumentException("나누어 실행하는 query에는 \"NOT IN (:" + dataColumn + ")\" 조건을 사용할 수 없습니다.");
+        }
+
+        List<InListQuery> queries = new ArrayList<>();
+
+        if (datas == null || datas.isEmpty()) {
+            return queries;
+        }
+
+        // 여러 query로 나누었을 때 같은 row가 중복 조회되지 않도록 중복 제거
+        List<P> distinctDatas = new ArrayList<>(new LinkedHashSet<>(datas));
+
+        for (int from = 0; from < distinctDatas.size(); from += this.chunkSize) {
+            List<P> chunk = distinctDatas.subList(from, Math.min(from + this.chunkSize, distinctDatas.size()));
+            Map<String, Object> params = new HashMap<>();
+            params.put(dataColumn, this.pad(chunk));
+
+            queries.add(new InListQuery(sql, params));
+        }
+
+        return queries;
+    }
+
+    /**
+     * 데이터 목록의 크기를 2의 제곱수 (최대 chunk 크기)로 맞추는 함수
+     *
+     * @param <P>
+     *            데이터 타입
+     * @param chunk
+     *            데이터 목록
+     * @return 마지막 데이터를 반복하여 크기를 맞춘 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private <P> List<P> pad(List<P> chunk) {
+        int size = chunk.size();
+        int bucket = Math.min(size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1, this.chunkSize);
+        List<P> padded = new ArrayList<>(bucket);
+        padded.addAll(chunk);
+
+        P last = chunk.get(size - 1);
+
+        while (padded.size() < bucket) {
+            padded.add(last);
+        }
+
+        return padded;
+    }
+
+}
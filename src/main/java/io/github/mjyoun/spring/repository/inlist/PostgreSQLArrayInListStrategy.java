@@ -0,0 +1,131 @@
+package io.github.mjyoun.spring.repository.inlist;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+
+/**
+ * PostgreSQL에서 데이터 목록을 하나의 배열 parameter로 바인딩하는 방식. <br>
+ * query의 "IN (:dataColumn)" 조건을 "= ANY(:dataColumn)"으로, "NOT IN (:dataColumn)" 조건을 "&lt;&gt; ALL(:dataColumn)"으로 변경하기 때문에, 데이터
+ * 개수와 관계없이 하나의 query 모양만 사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class PostgreSQLArrayInListStrategy implements InListStrategy {
+
+    /** data column 이름별 "[NOT] IN (:dataColumn)" 조건 pattern */
+    private static final Map<String, Pattern> IN_PATTERNS = new ConcurrentHashMap<>();
+
+    /** 배열 원소의 DB 타입 이름. null일 경우 첫번째 데이터의 타입으로 결정 */
+    private final String elementTypeName;
+
+    /**
+     * @param elementTypeName
+     *            배열 원소의 DB 타입 이름 (ex. bigint, varchar, uuid). null일 경우 첫번째 데이터의 타입으로 결정
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    PostgreSQLArrayInListStrategy(String elementTypeName) {
+        this.elementTypeName = elementTypeName;
+    }
+
+    /**
+     * @see InListStrategy#createQueries(String, String, List)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    public <P> List<InListQuery> createQueries(String sql, String dataColumn, List<P> datas) {
+        if (datas == null || datas.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Object[] values = new LinkedHashSet<>(datas).toArray();
+        String typeName = this.elementTypeName != null ? this.elementTypeName : this.resolveTypeName(values[0]);
+        Map<String, Object> params = new HashMap<>();
+        params.put(dataColumn, new AbstractSqlTypeValue() {
+            @Override
+            protected Object createTypeValue(Connection con, int sqlType, String sqlTypeName) throws SQLException {
+                return con.createArrayOf(typeName, values);
+            }
+        });
+
+        return List.of(new InListQuery(this.toAnyQuery(sql, dataColumn), params));
+    }
+
+    /**
+     * "IN (:dataColumn)" 조건을 "= ANY(:dataColumn)"으로, "NOT IN (:dataColumn)" 조건을 "&lt;&gt; ALL(:dataColumn)"으로 변경하는 함수
+     *
+     * @param sql
+     *            실행 query
+     * @param dataColumn
+     *            조회할 data column 이름
+     * @return 변경한 query
+     * @throws IllegalArgumentException
+     *             query에 "IN (:dataColumn)" 조건이 없는 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    String toAnyQuery(String sql, String dataColumn) {
+        Pattern pattern = IN_PATTERNS.computeIfAbsent(dataColumn,
+                column -> Pattern.compile("(?i)\\b(NOT\\s+)?IN\\s*\\(\\s*:" + Pattern.quote(column) + "\\s*\\)"));
+        Matcher matcher = pattern.matcher(sql);
+        StringBuilder sb = new StringBuilder();
+        boolean replaced = false;
+
+        while (matcher.find()) {
+            // NOT = ANY(...)는 문법 오류이기 때문에 NOT IN은 <> ALL(...)로 변경
+            String replacement = (matcher.group(1) != null ? "<> ALL(:" : "= ANY(:") + dataColumn + ")";
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+            replaced = true;
+        }
+
+        if (!replaced) {
+            // 변경하지 않으면 배열 parameter가 IN 조건이 아닌 곳에 바인딩됨
+            throw new IllegalArgumentException("query에 \"IN (:" + dataColumn + ")\" 조건이 없습니다.");
+        }
+
+        matcher.appendTail(sb);
+
+        return sb.toString();
+    }
+
+    /**
+     * java 타입에 해당하는 PostgreSQL 타입 이름을 가져오는 함수
+     *
+     * @param value
+     *            데이터
+     * @return PostgreSQL 타입 이름
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private String resolveTypeName(Object value) {
+        if (value instanceof Long) {
+            return "bigint";
+        } else if (value instanceof Integer) {
+            return "integer";
+        } else if (value instanceof Short) {
+            return "smallint";
+        } else if (value instanceof UUID) {
+            return "uuid";
+        } else {
+            return "varchar";
+        }
+    }
+
+}
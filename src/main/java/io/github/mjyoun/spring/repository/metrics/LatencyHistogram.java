@@ -0,0 +1,110 @@
+package io.github.mjyoun.spring.repository.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 실행 시간 분포를 기록하는 histogram. <br>
+ * 2의 제곱수 구간을 다시 {@value #SUB_BUCKET_COUNT}개로 나눈 bucket에 개수만 기록하기 때문에, 기록 비용이 일정하고 percentile 오차는 12.5% 이내이다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+final class LatencyHistogram {
+
+    /** 2의 제곱수 구간을 나누는 bit 수 */
+    private static final int SUB_BUCKET_BITS = 3;
+    /** 2의 제곱수 구간 하나의 bucket 개수 */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** bucket 별 개수 */
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE << SUB_BUCKET_BITS);
+
+    /**
+     * 값을 기록하는 함수
+     *
+     * @param value
+     *            기록할 값. 0 미만일 경우 0으로 기록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    void record(long value) {
+        this.buckets.incrementAndGet(LatencyHistogram.indexOf(Math.max(0, value)));
+    }
+
+    /**
+     * percentile 값을 계산하는 함수
+     *
+     * @param percentile
+     *            0 ~ 1 사이의 percentile
+     * @param max
+     *            기록된 최대 값. 계산 결과가 최대 값을 넘지 않도록 사용
+     * @return percentile에 해당하는 bucket의 최대 값. 기록된 값이 없을 경우 0
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    long percentile(double percentile, long max) {
+        long[] counts = new long[this.buckets.length()];
+        long total = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long accumulated = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            accumulated += counts[i];
+
+            if (accumulated >= rank) {
+                return Math.min(LatencyHistogram.upperBoundOf(i), max);
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * 값에 해당하는 bucket 위치를 계산하는 함수
+     *
+     * @param value
+     *            값
+     * @return bucket 위치
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) ((value >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+
+        return ((highestBit - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    /**
+     * bucket의 최대 값을 계산하는 함수
+     *
+     * @param index
+     *            bucket 위치
+     * @return bucket의 최대 값
+     */
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + (index & (SUB_BUCKET_COUNT - 1))) << shift;
+
+        return lowerBound + (1L << shift) - 1;
+    }
+
+}
@@ -0,0 +1,235 @@
+package io.github.mjyoun.spring.repository.metrics;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * scope 안에서 같은 query (query code 또는 literal 값을 제거한 query)가 기준 횟수보다 많이 실행되는 것 (N+1 조회)을 찾는 class. <br>
+ * repository에 설정하고 {@link #openScope()}로 연 scope 안에서 실행한 repository 함수만 기록한다. scope를 닫을 때 기준 횟수를 넘은 query의 실행 횟수,
+ * 실행 시간, 호출 위치를 reporter로 전달한다. <br>
+ * scope는 자동으로 열리지 않기 때문에, request 단위로 확인할 경우 filter나 interceptor에서 {@link #inScope(Supplier)}로 처리를 감싸거나 직접 scope를 열고
+ * 닫아야 한다. scope가 중첩된 경우 가장 안쪽의 scope에만 기록하므로, 바깥 scope는 안쪽 scope에서 실행한 query를 세지 않는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public class NPlusOneDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(NPlusOneDetector.class);
+
+    /** repository package */
+    private static final String REPOSITORY_PACKAGE = "io.github.mjyoun.spring.repository";
+    /** 호출 위치 확인시 제외할 package (repository, proxy 및 reflection 호출) */
+    private static final List<String> EXCLUDED_PACKAGES = List.of(REPOSITORY_PACKAGE + ".", "org.springframework.", "java.", "jdk.");
+
+    /** 현재 thread에서 열린 가장 안쪽의 scope */
+    private final ThreadLocal<QueryScope> currentScope = new ThreadLocal<>();
+    /** scope 안에서 같은 query를 실행할 수 있는 최대 횟수 */
+    private final int threshold;
+    /** 기준 횟수를 넘은 query를 전달받을 함수 */
+    private final Consumer<List<NPlusOneReport>> reporter;
+
+    /**
+     * 기준 횟수를 넘은 query를 warn log로 남기는 detector를 생성한다.
+     *
+     * @param threshold
+     *            scope 안에서 같은 query를 실행할 수 있는 최대 횟수. 1 이상
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public NPlusOneDetector(@Min(1) int threshold) {
+        this(threshold, NPlusOneDetector::log);
+    }
+
+    /**
+     * @param threshold
+     *            scope 안에서 같은 query를 실행할 수 있는 최대 횟수. 1 이상
+     * @param reporter
+     *            scope를 닫을 때 기준 횟수를 넘은 query 목록을 전달받을 함수. 넘은 query가 없을 경우 호출하지 않음
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public NPlusOneDetector(@Min(1) int threshold, Consumer<List<NPlusOneReport>> reporter) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("기준 횟수는 1 이상이어야 합니다.");
+        }
+
+        if (reporter == null) {
+            throw new IllegalArgumentException("reporter가 없습니다.");
+        }
+
+        this.threshold = threshold;
+        this.reporter = reporter;
+    }
+
+    /**
+     * 현재 thread에서 scope를 여는 함수. 이미 열린 scope가 있을 경우 새로운 scope를 닫을 때까지 새로운 scope에만 기록하며, 바깥 scope에는 기록하지 않는다.
+     *
+     * @return 새로운 scope
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public QueryScope openScope() {
+        QueryScope scope = new QueryScope(this, this.currentScope.get());
+        this.currentScope.set(scope);
+
+        return scope;
+    }
+
+    /**
+     * 현재 thread에서 scope를 열고 작업을 실행한 뒤 scope를 닫는 함수. request 단위로 확인할 경우 filter나 interceptor에서 request 처리를 감싸는 데 사용한다.
+     *
+     * @param <R>
+     *            실행 결과 타입
+     * @param task
+     *            실행할 작업
+     * @return 실행 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public <R> R inScope(@NotNull Supplier<R> task) {
+        try (QueryScope scope = this.openScope()) {
+            return task.get();
+        }
+    }
+
+    /**
+     * @return 현재 thread에서 열린 가장 안쪽의 scope. 없을 경우 null
+     */
+    public QueryScope getCurrentScope() {
+        return this.currentScope.get();
+    }
+
+    /**
+     * repository 함수의 실행을 현재 thread의 scope에 기록하는 함수. 열린 scope가 없을 경우 기록하지 않는다.
+     *
+     * @param queryKey
+     *            query code. code를 알 수 없는 경우 literal 값을 제거한 query
+     * @param elapsedNanos
+     *            실행 시간
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void record(String queryKey, long elapsedNanos) {
+        QueryScope scope = this.currentScope.get();
+
+        if (scope != null) {
+            scope.record(queryKey, elapsedNanos);
+        }
+    }
+
+    /**
+     * @return scope 안에서 같은 query를 실행할 수 있는 최대 횟수
+     */
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * scope를 닫고 기준 횟수를 넘은 query를 전달하는 함수
+     *
+     * @param scope
+     *            닫을 scope
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    void close(QueryScope scope) {
+        // 안쪽 scope를 닫지 않고 바깥 scope를 먼저 닫은 경우, 현재 scope는 안쪽 scope를 닫을 때 되돌림
+        if (this.currentScope.get() == scope) {
+            QueryScope parent = scope.getParent();
+
+            // 이미 닫힌 상위 scope는 건너뜀
+            while (parent != null && parent.isClosed()) {
+                parent = parent.getParent();
+            }
+
+            if (parent == null) {
+                this.currentScope.remove();
+            } else {
+                this.currentScope.set(parent);
+            }
+        }
+
+        List<NPlusOneReport> reports = scope.getReports();
+
+        if (!reports.isEmpty()) {
+            try {
+                this.reporter.accept(reports);
+            } catch (RuntimeException e) {
+                logger.warn("N+1 조회 정보를 전달하지 못하였습니다.", e);
+            }
+        }
+    }
+
+    /**
+     * repository 함수를 호출한 위치를 찾는 함수. repository package, spring proxy, repository를 상속받은 class를 제외한 첫번째 위치를 찾는다.
+     *
+     * @return 호출 위치 (class.method(file:line)). 찾을 수 없을 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    static String findCallSite() {
+        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE) //
+                .walk(frames -> frames //
+                        .filter(frame -> EXCLUDED_PACKAGES.stream().noneMatch(frame.getClassName()::startsWith)) //
+                        .filter(frame -> !isRepository(frame.getDeclaringClass())) //
+                        .findFirst() //
+                        .map(frame -> frame.toStackTraceElement().toString()) //
+                        .orElse(null));
+    }
+
+    /**
+     * repository를 상속받은 class인지 확인하는 함수
+     *
+     * @param type
+     *            확인할 class
+     * @return repository package의 class를 상속받은 class일 경우 true
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static boolean isRepository(Class<?> type) {
+        for (Class<?> current = type.getSuperclass(); current != null; current = current.getSuperclass()) {
+            if (current.getName().startsWith(REPOSITORY_PACKAGE + ".")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 기준 횟수를 넘은 query를 warn log로 남기는 함수
+     *
+     * @param reports
+     *            기준 횟수를 넘은 query 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static void log(List<NPlusOneReport> reports) {
+        for (NPlusOneReport report : reports) {
+            logger.warn("[{}] N+1 조회가 의심됩니다. 실행 횟수: {}, 실행 시간: {}ms, 낭비된 실행 시간: {}ms, 호출 위치: {}", //
+                    report.queryKey(), //
+                    report.count(), //
+                    report.totalNanos() / 1_000_000, //
+                    report.wastedNanos() / 1_000_000, //
+                    report.callSite());
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.github.mjyoun.spring.repository.metrics;
+
+/**
+ * scope 안에서 같은 query가 기준 횟수보다 많이 실행된 정보
+ *
+ * @param queryKey
+ *            query code. code를 알 수 없는 경우 literal 값을 제거한 query
+ * @param count
+ *            실행 횟수
+ * @param totalNanos
+ *            실행 시간의 합 (nanoseconds)
+ * @param callSite
+ *            기준 횟수를 넘었을 때 repository 함수를 호출한 위치 (class.method(file:line))
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public record NPlusOneReport(String queryKey, long count, long totalNanos, String callSite) {
+
+    /**
+     * 한번의 query로 조회했을 경우 줄일 수 있었던 실행 시간. 첫번째를 제외한 실행의 실행 시간 합으로 계산한다.
+     *
+     * @return 낭비된 실행 시간 (nanoseconds)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public long wastedNanos() {
+        return this.count == 0 ? 0 : this.totalNanos - this.totalNanos / this.count;
+    }
+
+}
@@ -0,0 +1,154 @@
+package io.github.mjyoun.spring.repository.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * query 별 실행 횟수, 실행 시간 분포, row 개수, 오류 횟수를 메모리에 기록하는 {@link QueryMetricsSink}. <br>
+ * 기록은 lock 없이 counter만 증가시키기 때문에, 운영 환경에서 항상 사용할 수 있다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public class QueryMetrics implements QueryMetricsSink {
+
+    /** 문자열 literal pattern */
+    private static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("'(?:[^']|'')*'");
+    /** 숫자 literal pattern */
+    private static final Pattern NUMBER_LITERAL_PATTERN = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    /** 공백 pattern */
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    /** query 별 실행 정보 */
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+    /**
+     * @see QueryMetricsSink#record(String, long, long, boolean)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    public void record(String queryKey, long elapsedNanos, long rows, boolean error) {
+        Recorder recorder = this.recorders.get(queryKey);
+
+        if (recorder == null) {
+            recorder = this.recorders.computeIfAbsent(queryKey, key -> new Recorder());
+        }
+
+        recorder.record(elapsedNanos, rows, error);
+    }
+
+    /**
+     * query code를 알 수 없는 query의 이름으로 사용하기 위해, literal 값을 ?로 바꾸고 공백을 정리한 query를 생성하는 함수
+     *
+     * @param sql
+     *            query
+     * @return literal 값을 제거한 query
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static String fingerprint(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        String fingerprint = STRING_LITERAL_PATTERN.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL_PATTERN.matcher(fingerprint).replaceAll("?");
+
+        return WHITESPACE_PATTERN.matcher(fingerprint).replaceAll(" ").trim();
+    }
+
+    /**
+     * 현재까지 기록한 query 별 실행 통계 정보를 가져오는 함수
+     *
+     * @return query 별 실행 통계 정보. query 이름 순으로 정렬
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Map<String, QueryMetricsSnapshot> snapshot() {
+        Map<String, QueryMetricsSnapshot> snapshots = new TreeMap<>();
+        this.recorders.forEach((queryKey, recorder) -> snapshots.put(queryKey, recorder.snapshot(queryKey)));
+
+        return snapshots;
+    }
+
+    /**
+     * 기록한 정보를 모두 삭제하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void reset() {
+        this.recorders.clear();
+    }
+
+    /**
+     * query 하나의 실행 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static final class Recorder {
+
+        /** 실행 횟수 */
+        private final LongAdder count = new LongAdder();
+        /** 오류 발생 횟수 */
+        private final LongAdder errorCount = new LongAdder();
+        /** row 개수의 합 */
+        private final LongAdder rows = new LongAdder();
+        /** 실행 시간의 합 */
+        private final LongAdder totalNanos = new LongAdder();
+        /** 최대 실행 시간 */
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        /** 실행 시간 분포 */
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        /**
+         * @param elapsedNanos
+         *            실행 시간
+         * @param rows
+         *            row 개수
+         * @param error
+         *            오류 발생 여부
+         */
+        void record(long elapsedNanos, long rows, boolean error) {
+            this.count.increment();
+            this.totalNanos.add(elapsedNanos);
+            this.maxNanos.accumulate(elapsedNanos);
+            this.histogram.record(elapsedNanos);
+
+            if (error) {
+                this.errorCount.increment();
+            } else {
+                this.rows.add(rows);
+            }
+        }
+
+        /**
+         * @param queryKey
+         *            query 이름
+         * @return 실행 통계 정보
+         */
+        QueryMetricsSnapshot snapshot(String queryKey) {
+            long max = this.maxNanos.get();
+
+            return new QueryMetricsSnapshot(queryKey, //
+                    this.count.sum(), //
+                    this.errorCount.sum(), //
+                    this.rows.sum(), //
+                    this.totalNanos.sum(), //
+                    this.histogram.percentile(0.5, max), //
+                    this.histogram.percentile(0.99, max), //
+                    max);
+        }
+
+    }
+
+}
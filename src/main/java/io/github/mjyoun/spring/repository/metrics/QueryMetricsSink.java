@@ -0,0 +1,30 @@
+package io.github.mjyoun.spring.repository.metrics;
+
+/**
+ * repository에서 실행한 query의 실행 정보를 전달받는 interface. <br>
+ * query를 실행한 thread에서 바로 호출하기 때문에, 구현체는 blocking 작업 없이 빠르게 처리해야 한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+@FunctionalInterface
+public interface QueryMetricsSink {
+
+    /**
+     * query 실행 정보를 기록하는 함수
+     *
+     * @param queryKey
+     *            query code. code를 알 수 없는 경우 literal 값을 제거한 query
+     * @param elapsedNanos
+     *            실행 시간 (nanoseconds)
+     * @param rows
+     *            조회한 row 개수 또는 변경한 row 개수
+     * @param error
+     *            실행 중 오류가 발생했는지 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public void record(String queryKey, long elapsedNanos, long rows, boolean error);
+
+}
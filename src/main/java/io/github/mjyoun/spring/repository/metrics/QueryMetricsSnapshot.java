@@ -0,0 +1,41 @@
+package io.github.mjyoun.spring.repository.metrics;
+
+/**
+ * query 하나의 실행 통계 정보
+ *
+ * @param queryKey
+ *            query code. code를 알 수 없는 경우 literal 값을 제거한 query
+ * @param count
+ *            실행 횟수
+ * @param errorCount
+ *            오류 발생 횟수
+ * @param rows
+ *            조회한 row 개수 또는 변경한 row 개수의 합
+ * @param totalNanos
+ *            실행 시간의 합 (nanoseconds)
+ * @param p50Nanos
+ *            실행 시간 50 percentile (nanoseconds)
+ * @param p99Nanos
+ *            실행 시간 99 percentile (nanoseconds)
+ * @param maxNanos
+ *            최대 실행 시간 (nanoseconds)
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public record QueryMetricsSnapshot(String queryKey, long count, long errorCount, long rows, long totalNanos, long p50Nanos, long p99Nanos,
+        long maxNanos) {
+
+    /**
+     * 평균 실행 시간
+     *
+     * @return 평균 실행 시간 (nanoseconds). 실행한 적이 없을 경우 0
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public long meanNanos() {
+        return this.count == 0 ? 0 : this.totalNanos / this.count;
+    }
+
+}
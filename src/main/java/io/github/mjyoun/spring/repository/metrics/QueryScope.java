@@ -0,0 +1,149 @@
+package io.github.mjyoun.spring.repository.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link NPlusOneDetector}가 query 실행 횟수를 세는 범위. 생성한 thread에서만 기록하며, 닫을 때 기준 횟수를 넘은 query를 전달한다. <br>
+ * request 단위로 확인할 경우 filter나 interceptor에서 scope를 열고 닫는다. ({@link NPlusOneDetector#inScope(java.util.function.Supplier)}) <br>
+ * 안쪽 scope가 열려 있는 동안 실행한 query는 안쪽 scope에만 기록된다.
+ *
+ * <pre>
+ * try (QueryScope scope = detector.openScope()) {
+ *     // repository 함수 호출
+ * }
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public final class QueryScope implements AutoCloseable {
+
+    /** scope를 생성한 detector */
+    private final NPlusOneDetector detector;
+    /** 상위 scope. nullable */
+    private final QueryScope parent;
+    /** scope를 생성한 thread */
+    private final Thread owner;
+    /** query 별 실행 정보 */
+    private final Map<String, Counter> counters = new HashMap<>();
+    /** 닫혔는지 여부 */
+    private boolean closed = false;
+
+    /**
+     * @param detector
+     *            scope를 생성한 detector
+     * @param parent
+     *            상위 scope. nullable
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    QueryScope(NPlusOneDetector detector, QueryScope parent) {
+        this.detector = detector;
+        this.parent = parent;
+        this.owner = Thread.currentThread();
+    }
+
+    /**
+     * query 실행을 기록하는 함수
+     *
+     * @param queryKey
+     *            query 이름
+     * @param elapsedNanos
+     *            실행 시간
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    void record(String queryKey, long elapsedNanos) {
+        Counter counter = this.counters.computeIfAbsent(queryKey, key -> new Counter());
+        counter.count++;
+        counter.totalNanos += elapsedNanos;
+
+        // 호출 위치는 기준 횟수를 처음 넘었을 때만 확인함
+        if (counter.count == this.detector.getThreshold() + 1) {
+            counter.callSite = NPlusOneDetector.findCallSite();
+        }
+    }
+
+    /**
+     * 현재까지 기준 횟수를 넘은 query 목록을 가져오는 함수
+     *
+     * @return 기준 횟수를 넘은 query 목록. 낭비된 실행 시간이 큰 순으로 정렬
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public List<NPlusOneReport> getReports() {
+        List<NPlusOneReport> reports = new ArrayList<>();
+
+        this.counters.forEach((queryKey, counter) -> {
+            if (counter.count > this.detector.getThreshold()) {
+                reports.add(new NPlusOneReport(queryKey, counter.count, counter.totalNanos, counter.callSite));
+            }
+        });
+
+        reports.sort(Comparator.comparingLong(NPlusOneReport::wastedNanos).reversed());
+
+        return reports;
+    }
+
+    /**
+     * @return 상위 scope. nullable
+     */
+    QueryScope getParent() {
+        return this.parent;
+    }
+
+    /**
+     * @return 닫힌 scope인지 여부
+     */
+    boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * scope를 닫고 기준 횟수를 넘은 query를 detector의 reporter로 전달한다. 생성한 thread에서 닫아야 한다.
+     *
+     * @throws IllegalStateException
+     *             생성한 thread가 아닌 thread에서 닫을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+
+        if (Thread.currentThread() != this.owner) {
+            throw new IllegalStateException("scope를 생성한 thread에서 닫아야 합니다.");
+        }
+
+        this.closed = true;
+        this.detector.close(this);
+    }
+
+    /**
+     * query 하나의 실행 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static final class Counter {
+
+        /** 실행 횟수 */
+        private long count = 0;
+        /** 실행 시간의 합 */
+        private long totalNanos = 0;
+        /** 기준 횟수를 처음 넘었을 때의 호출 위치 */
+        private String callSite;
+
+    }
+
+}
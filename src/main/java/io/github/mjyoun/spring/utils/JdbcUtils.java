@@ -18,7 +18,8 @@ import org.apache.commons.lang3.Strings;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
- * {@link JdbcTemplate} 관련된 유틸 클래스
+ * {@link JdbcTemplate} 관련된 유틸 클래스. <br>
+ * 컬럼 이름으로 값을 가져오는 함수는 매번 컬럼을 찾기 때문에, 여러 row를 조회할 경우 {@link ResultSetColumns}로 찾은 위치를 사용한다.
  * 
  * @author MJ Youn
  * @since 2021. 12. 27.
@@ -209,7 +210,7 @@ public class JdbcUtils {
 
             // 특정 문자열로 시작하는 column을 모음
             if (Strings.CI.startsWith(columnName, startsWith)) {
-                datas.put(columnName, JdbcUtils.getString(rs, columnName));
+                datas.put(columnName, rs.getString(i + 1));
             }
         }
 
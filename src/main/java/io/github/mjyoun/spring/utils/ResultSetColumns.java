@@ -0,0 +1,421 @@
+package io.github.mjyoun.spring.utils;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * {@link ResultSet}의 column 이름 별 위치를 한번만 찾아두고, 위치로 nullable한 값을 가져오는 클래스. <br>
+ * {@link JdbcUtils#getString(ResultSet, String)} 등은 row 마다 column 이름으로 조회하고 없는 column을 {@link SQLException}으로 확인하지만,
+ * 이 클래스는 조회 결과 당 한번 metadata로 위치를 찾고, 없는 column은 위치 0으로 표시하여 exception 없이 null을 반환한다.
+ *
+ * <pre>
+ * private ResultSetColumns columns;
+ * private int idIndex;
+ *
+ * public User mapRow(ResultSet rs, int rowNum) throws SQLException {
+ *     if (this.columns == null || !this.columns.isFor(rs)) {
+ *         this.columns = ResultSetColumns.of(rs);
+ *         this.idIndex = this.columns.indexOf("id");
+ *     }
+ *
+ *     return new User(this.columns.getLong(this.idIndex), this.columns.getString("user_nm"));
+ * }
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+public final class ResultSetColumns {
+
+    /** column 위치를 찾은 조회 결과 */
+    private final ResultSet resultSet;
+    /** 소문자 column 이름 별 위치. 같은 이름의 column이 여러 개일 경우 첫번째 위치 */
+    private final Map<String, Integer> indexes;
+    /** 조회 결과 순서의 column 이름 */
+    private final List<String> labels;
+
+    /**
+     * @param resultSet
+     *            column 위치를 찾은 조회 결과
+     * @param indexes
+     *            소문자 column 이름 별 위치
+     * @param labels
+     *            조회 결과 순서의 column 이름
+     */
+    private ResultSetColumns(ResultSet resultSet, Map<String, Integer> indexes, List<String> labels) {
+        this.resultSet = resultSet;
+        this.indexes = indexes;
+        this.labels = labels;
+    }
+
+    /**
+     * 조회 결과의 metadata로 column 이름 별 위치를 찾는 함수. column 이름은 {@link ResultSetMetaData#getColumnLabel(int)} (alias)를 사용하며
+     * 대/소문자를 구분하지 않는다.
+     *
+     * @param rs
+     *            {@link ResultSet}
+     * @return column 위치 정보
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public static ResultSetColumns of(@NotNull ResultSet rs) throws SQLException {
+        if (rs == null) {
+            throw new IllegalArgumentException("ResultSet이 없습니다.");
+        }
+
+        ResultSetMetaData meta = rs.getMetaData();
+        int columnCount = meta.getColumnCount();
+        Map<String, Integer> indexes = new HashMap<>(columnCount * 4 / 3 + 1);
+        List<String> labels = new ArrayList<>(columnCount);
+
+        for (int i = 1; i <= columnCount; i++) {
+            String label = meta.getColumnLabel(i);
+
+            labels.add(label);
+            indexes.putIfAbsent(label.toLowerCase(Locale.ROOT), i);
+        }
+
+        return new ResultSetColumns(rs, indexes, Collections.unmodifiableList(labels));
+    }
+
+    /**
+     * 이 column 위치 정보가 해당 조회 결과의 정보인지 확인하는 함수. RowMapper에서 조회 결과가 바뀌었는지 확인하기 위해 사용한다.
+     *
+     * @param rs
+     *            {@link ResultSet}
+     * @return 같은 조회 결과일 경우 true
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public boolean isFor(ResultSet rs) {
+        return this.resultSet == rs;
+    }
+
+    /**
+     * column 이름의 위치를 가져오는 함수
+     *
+     * @param columnName
+     *            조회할 컬럼 이름. 대/소문자 구분하지 않음
+     * @return column 위치. 1부터 시작하며, 존재하지 않는 컬럼일 경우 0
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public int indexOf(String columnName) {
+        if (columnName == null) {
+            return 0;
+        }
+
+        Integer index = this.indexes.get(columnName.toLowerCase(Locale.ROOT));
+
+        return index == null ? 0 : index;
+    }
+
+    /**
+     * @param columnName
+     *            확인할 컬럼 이름. 대/소문자 구분하지 않음
+     * @return 조회 결과에 컬럼이 있을 경우 true
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public boolean contains(String columnName) {
+        return this.indexOf(columnName) > 0;
+    }
+
+    /**
+     * 조회 결과에 없는 컬럼 목록을 가져오는 함수. query와 RowMapper의 컬럼이 맞는지 확인하기 위해 사용한다.
+     *
+     * @param columnNames
+     *            확인할 컬럼 이름 목록
+     * @return 조회 결과에 없는 컬럼 이름 목록. 모두 있을 경우 빈 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public List<String> findMissing(String... columnNames) {
+        List<String> missing = new ArrayList<>();
+
+        if (columnNames != null) {
+            for (String columnName : columnNames) {
+                if (!this.contains(columnName)) {
+                    missing.add(columnName);
+                }
+            }
+        }
+
+        return missing;
+    }
+
+    /**
+     * @return 조회 결과 순서의 column 이름 목록
+     */
+    public List<String> getLabels() {
+        return this.labels;
+    }
+
+    /**
+     * 위치에 해당하는 String을 가져오는 함수
+     *
+     * @param index
+     *            {@link #indexOf(String)}로 찾은 column 위치
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public String getString(int index) throws SQLException {
+        return index > 0 ? this.resultSet.getString(index) : null;
+    }
+
+    /**
+     * 위치에 해당하는 nullable한 {@link Long}을 가져오는 함수
+     *
+     * @param index
+     *            {@link #indexOf(String)}로 찾은 column 위치
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Long getLong(int index) throws SQLException {
+        if (index < 1) {
+            return null;
+        }
+
+        long data = this.resultSet.getLong(index);
+        return this.resultSet.wasNull() ? null : data;
+    }
+
+    /**
+     * 위치에 해당하는 nullable한 {@link Integer}를 가져오는 함수
+     *
+     * @param index
+     *            {@link #indexOf(String)}로 찾은 column 위치
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Integer getInteger(int index) throws SQLException {
+        if (index < 1) {
+            return null;
+        }
+
+        int data = this.resultSet.getInt(index);
+        return this.resultSet.wasNull() ? null : data;
+    }
+
+    /**
+     * 위치에 해당하는 nullable한 {@link Boolean}을 가져오는 함수
+     *
+     * @param index
+     *            {@link #indexOf(String)}로 찾은 column 위치
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Boolean getBoolean(int index) throws SQLException {
+        if (index < 1) {
+            return null;
+        }
+
+        boolean data = this.resultSet.getBoolean(index);
+        return this.resultSet.wasNull() ? null : data;
+    }
+
+    /**
+     * 위치에 해당하는 nullable한 {@link Float}을 가져오는 함수
+     *
+     * @param index
+     *            {@link #indexOf(String)}로 찾은 column 위치
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Float getFloat(int index) throws SQLException {
+        if (index < 1) {
+            return null;
+        }
+
+        float data = this.resultSet.getFloat(index);
+        return this.resultSet.wasNull() ? null : data;
+    }
+
+    /**
+     * 위치에 해당하는 nullable한 {@link Double}을 가져오는 함수
+     *
+     * @param index
+     *            {@link #indexOf(String)}로 찾은 column 위치
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Double getDouble(int index) throws SQLException {
+        if (index < 1) {
+            return null;
+        }
+
+        double data = this.resultSet.getDouble(index);
+        return this.resultSet.wasNull() ? null : data;
+    }
+
+    /**
+     * 위치에 해당하는 {@link BigDecimal}을 가져오는 함수
+     *
+     * @param index
+     *            {@link #indexOf(String)}로 찾은 column 위치
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public BigDecimal getBigDecimal(int index) throws SQLException {
+        return index > 0 ? this.resultSet.getBigDecimal(index) : null;
+    }
+
+    /**
+     * 위치에 해당하는 nullable한 {@link LocalDateTime}을 가져오는 함수. {@link java.sql.Timestamp}를 거치지 않고 driver에서 바로 변환한다.
+     *
+     * @param index
+     *            {@link #indexOf(String)}로 찾은 column 위치
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public LocalDateTime getLocalDateTime(int index) throws SQLException {
+        return index > 0 ? this.resultSet.getObject(index, LocalDateTime.class) : null;
+    }
+
+    /**
+     * 컬럼 이름에 해당하는 String을 가져오는 함수. 여러 row를 조회할 경우 {@link #indexOf(String)}로 찾은 위치를 사용한다.
+     *
+     * @param columnName
+     *            조회할 컬럼 이름. 대/소문자 구분하지 않음
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public String getString(String columnName) throws SQLException {
+        return this.getString(this.indexOf(columnName));
+    }
+
+    /**
+     * 컬럼 이름에 해당하는 nullable한 {@link Long}을 가져오는 함수
+     *
+     * @param columnName
+     *            조회할 컬럼 이름. 대/소문자 구분하지 않음
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Long getLong(String columnName) throws SQLException {
+        return this.getLong(this.indexOf(columnName));
+    }
+
+    /**
+     * 컬럼 이름에 해당하는 nullable한 {@link Integer}를 가져오는 함수
+     *
+     * @param columnName
+     *            조회할 컬럼 이름. 대/소문자 구분하지 않음
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Integer getInteger(String columnName) throws SQLException {
+        return this.getInteger(this.indexOf(columnName));
+    }
+
+    /**
+     * 컬럼 이름에 해당하는 nullable한 {@link Boolean}을 가져오는 함수
+     *
+     * @param columnName
+     *            조회할 컬럼 이름. 대/소문자 구분하지 않음
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Boolean getBoolean(String columnName) throws SQLException {
+        return this.getBoolean(this.indexOf(columnName));
+    }
+
+    /**
+     * 컬럼 이름에 해당하는 nullable한 {@link Float}을 가져오는 함수
+     *
+     * @param columnName
+     *            조회할 컬럼 이름. 대/소문자 구분하지 않음
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public Float getFloat(String columnName) throws SQLException {
+        return this.getFloat(this.indexOf(columnName));
+    }
+
+    /**
+     * 컬럼 이름에 해당하는 nullable한 {@link LocalDateTime}을 가져오는 함수
+     *
+     * @param columnName
+     *            조회할 컬럼 이름. 대/소문자 구분하지 않음
+     * @return 컬럼에 해당하는 값. 존재하지 않는 컬럼일 경우 Null
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed result set
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    public LocalDateTime getLocalDateTime(String columnName) throws SQLException {
+        return this.getLocalDateTime(this.indexOf(columnName));
+    }
+
+}
@@ -0,0 +1,63 @@
+package io.github.mjyoun.spring.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+/**
+ * {@link KeysetPageRequest} test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class KeysetPageRequestTest {
+
+    private static final Sort SORT = Sort.by("createdAt", "id");
+
+    @Test
+    @DisplayName("token으로 정렬 key 값을 전달한다")
+    void token() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 9, 30);
+        KeysetPageRequest request = KeysetPageRequest.of(20, SORT).next(createdAt, 42L);
+
+        KeysetPageRequest restored = KeysetPageRequest.fromToken(request.toToken(), 20, SORT);
+
+        assertEquals(20, restored.getSize());
+        assertArrayEquals(new Object[] { createdAt, 42L }, restored.getLastKeys());
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 token이 아닌 서버의 값을 사용한다")
+    void sizeFromServer() {
+        String token = KeysetPageRequest.of(1000, SORT).next("a", 1L).toToken();
+
+        assertEquals(20, KeysetPageRequest.fromToken(token, 20, SORT).getSize());
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.fromToken(token, 0, SORT));
+    }
+
+    @Test
+    @DisplayName("첫 페이지의 token은 첫 페이지 요청으로 변환한다")
+    void firstPageToken() {
+        String token = KeysetPageRequest.of(20, SORT).toToken();
+
+        assertTrue(KeysetPageRequest.fromToken(token, 20, SORT).isFirst());
+    }
+
+    @Test
+    @DisplayName("잘못된 token은 사용하지 않는다")
+    void invalidToken() {
+        String token = KeysetPageRequest.of(20, SORT).next("a", 1L).toToken();
+
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.fromToken("not a token", 20, SORT));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.fromToken(token + "AA", 20, SORT));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.fromToken(token, 20, Sort.by("id")));
+    }
+
+}
@@ -0,0 +1,88 @@
+package io.github.mjyoun.spring.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link LongList} test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class LongListTest {
+
+    @Test
+    @DisplayName("추가한 순서대로 값을 가져온다")
+    void addAndGet() {
+        LongList list = new LongList(0);
+
+        assertTrue(list.isEmpty());
+
+        for (long value = 0; value < 100; value++) {
+            list.add(value * 2);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(0L, list.get(0));
+        assertEquals(198L, list.get(99));
+        assertEquals(9900L, list.stream().sum());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    @DisplayName("다른 목록의 값을 모두 뒤에 추가한다")
+    void addAll() {
+        LongList list = new LongList(1);
+        list.add(1L);
+
+        LongList other = new LongList();
+        other.add(2L);
+        other.add(3L);
+
+        list.addAll(other);
+        list.addAll(new LongList(0));
+
+        assertArrayEquals(new long[] { 1L, 2L, 3L }, list.toArray());
+        assertEquals("[1, 2, 3]", list.toString());
+    }
+
+    @Test
+    @DisplayName("크기를 줄여도 값은 유지한다")
+    void trimToSize() {
+        LongList list = new LongList(64);
+        list.add(5L);
+        list.add(7L);
+        list.trimToSize();
+        list.add(9L);
+
+        assertArrayEquals(new long[] { 5L, 7L, 9L }, list.toArray());
+    }
+
+    @Test
+    @DisplayName("중복을 제거한 set으로 변환한다")
+    void toSet() {
+        LongList list = new LongList();
+        list.add(3L);
+        list.add(0L);
+        list.add(3L);
+
+        LongSet set = list.toSet();
+
+        assertEquals(2, set.size());
+        assertTrue(set.contains(0L));
+        assertTrue(set.contains(3L));
+    }
+
+    @Test
+    @DisplayName("초기 크기는 0 이상이어야 한다")
+    void invalidInitialCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LongList(-1));
+    }
+
+}
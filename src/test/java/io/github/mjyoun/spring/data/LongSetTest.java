@@ -0,0 +1,99 @@
+package io.github.mjyoun.spring.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link LongSet} test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class LongSetTest {
+
+    @Test
+    @DisplayName("같은 값은 한번만 추가한다")
+    void addDistinct() {
+        LongSet set = new LongSet();
+
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(1L));
+        assertTrue(set.add(-1L));
+        assertFalse(set.add(1L));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(1L));
+        assertTrue(set.contains(-1L));
+        assertFalse(set.contains(2L));
+    }
+
+    @Test
+    @DisplayName("빈 칸을 나타내는 0도 값으로 추가할 수 있다")
+    void addZero() {
+        LongSet set = new LongSet();
+
+        assertFalse(set.contains(0L));
+        assertTrue(set.add(0L));
+        assertFalse(set.add(0L));
+        assertTrue(set.contains(0L));
+        assertEquals(1, set.size());
+        assertArrayEquals(new long[] { 0L }, set.toArray());
+    }
+
+    @Test
+    @DisplayName("예상 크기를 넘으면 크기를 늘린다")
+    void grow() {
+        LongSet set = new LongSet(0);
+
+        for (long value = -5000; value < 5000; value++) {
+            set.add(value * 31);
+        }
+
+        assertEquals(10000, set.size());
+
+        for (long value = -5000; value < 5000; value++) {
+            assertTrue(set.contains(value * 31));
+            assertFalse(set.contains(value * 31 + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("모든 값을 한번씩 전달한다")
+    void forEachAndToArray() {
+        LongSet set = new LongSet(4);
+        set.add(Long.MIN_VALUE);
+        set.add(Long.MAX_VALUE);
+        set.add(0L);
+        set.add(42L);
+        set.add(42L);
+
+        long[] values = set.toArray();
+        Arrays.sort(values);
+
+        assertArrayEquals(new long[] { Long.MIN_VALUE, 0L, 42L, Long.MAX_VALUE }, values);
+
+        long[] sum = { 0 };
+        int[] count = { 0 };
+        set.forEach(value -> {
+            sum[0] += value;
+            count[0]++;
+        });
+
+        assertEquals(4, count[0]);
+        assertEquals(Long.MIN_VALUE + Long.MAX_VALUE + 42L, sum[0]);
+    }
+
+    @Test
+    @DisplayName("예상 크기는 0 이상이어야 한다")
+    void invalidExpectedSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LongSet(-1));
+    }
+
+}
@@ -0,0 +1,268 @@
+package io.github.mjyoun.spring.entity.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * {@link RowMapperProcessor} test. entity source를 processor와 함께 compile하여 생성한 RowMapper를 확인한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class RowMapperProcessorTest {
+
+    private static final String USER_SOURCE = """
+            package sample;
+
+            import io.github.mjyoun.spring.entity.annotation.Column;
+            import io.github.mjyoun.spring.entity.annotation.GeneratedRowMapper;
+
+            @GeneratedRowMapper
+            public class User {
+
+                public enum Status { ACTIVE, DELETED }
+
+                Long id;
+                String userName;
+                @Column("mail")
+                String email;
+                int age;
+                @Column(ignore = true)
+                String password;
+                private boolean active;
+                Status status;
+
+                public boolean isActive() {
+                    return this.active;
+                }
+
+                public void setActive(boolean active) {
+                    this.active = active;
+                }
+
+            }
+            """;
+
+    private static final String FINAL_FIELD_SOURCE = """
+            package sample;
+
+            import io.github.mjyoun.spring.entity.annotation.GeneratedRowMapper;
+
+            @GeneratedRowMapper
+            public class Broken {
+
+                final String name = null;
+
+            }
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("column 이름 순서대로 index를 찾고 필드 타입에 맞게 값을 읽는 RowMapper를 생성한다")
+    void generateSource() throws IOException {
+        Compilation compilation = this.compile("sample.User", USER_SOURCE);
+
+        assertTrue(compilation.success(), compilation.diagnostics().toString());
+
+        String source = Files.readString(this.directory.resolve("generated/sample/UserRowMapper.java"), StandardCharsets.UTF_8);
+
+        assertTrue(source.contains("public final class UserRowMapper implements RowMapper<sample.User>"), source);
+        assertTrue(source.contains("private static final String[] COLUMNS = { \"id\", \"user_name\", \"mail\", \"age\", \"active\", \"status\" };"),
+                source);
+        assertTrue(source.contains("entity.id = rs.wasNull() ? null : value;"), source);
+        assertTrue(source.contains("entity.setActive(rs.getBoolean(index));"), source);
+        assertTrue(source.contains("entity.status = value == null ? null : sample.User.Status.valueOf(value);"), source);
+        assertFalse(source.contains("password"), source);
+    }
+
+    @Test
+    @DisplayName("생성한 RowMapper는 label로 찾은 column 값을 entity에 설정한다")
+    void mapRow() throws Exception {
+        Compilation compilation = this.compile("sample.User", USER_SOURCE);
+
+        assertTrue(compilation.success(), compilation.diagnostics().toString());
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { this.directory.resolve("classes").toUri().toURL() },
+                RowMapperProcessorTest.class.getClassLoader())) {
+            RowMapper<?> rowMapper = (RowMapper<?>) classLoader.loadClass("sample.UserRowMapper").getDeclaredConstructor().newInstance();
+            ResultSet rs = resultSet(new String[] { "EXTRA", "ID", "USER_NAME", "MAIL", "AGE", "ACTIVE", "STATUS" },
+                    new Object[] { "x", null, "kim", "kim@example.com", 30, true, "DELETED" });
+            Object entity = rowMapper.mapRow(rs, 0);
+
+            assertNull(field(entity, "id"));
+            assertEquals("kim", field(entity, "userName"));
+            assertEquals("kim@example.com", field(entity, "email"));
+            assertEquals(30, field(entity, "age"));
+            assertEquals(true, field(entity, "active"));
+            assertEquals("DELETED", ((Enum<?>) field(entity, "status")).name());
+            assertNull(field(entity, "password"));
+        }
+    }
+
+    @Test
+    @DisplayName("값을 설정할 수 없는 필드는 compile 오류가 발생한다")
+    void rejectFinalField() throws IOException {
+        Compilation compilation = this.compile("sample.Broken", FINAL_FIELD_SOURCE);
+
+        assertFalse(compilation.success());
+        assertTrue(compilation.diagnostics().stream() //
+                .anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR
+                        && diagnostic.getMessage(Locale.ROOT).contains("값을 설정할 수 없는 필드입니다.")),
+                compilation.diagnostics().toString());
+    }
+
+    @Test
+    @DisplayName("RowMapper 이름과 column 이름을 변환한다")
+    void naming() {
+        assertEquals("sample.UserRowMapper", RowMapperProcessor.toRowMapperName("sample.User"));
+        assertEquals("sample.User_AddressRowMapper", RowMapperProcessor.toRowMapperName("sample.User$Address"));
+        assertEquals("UserRowMapper", RowMapperProcessor.toRowMapperName("User"));
+        assertEquals("user_name", RowMapperProcessor.toSnakeCase("userName"));
+        assertEquals("html_parser", RowMapperProcessor.toSnakeCase("HTMLParser"));
+        assertEquals("id2_name", RowMapperProcessor.toSnakeCase("id2Name"));
+    }
+
+    /**
+     * entity source를 {@link RowMapperProcessor}와 함께 compile하는 함수. class는 "classes", 생성한 source는 "generated" 경로에 저장한다.
+     *
+     * @param className
+     *            entity class 이름
+     * @param source
+     *            entity source
+     * @return compile 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private Compilation compile(String className, String source) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Path classes = Files.createDirectories(this.directory.resolve("classes"));
+        Path generated = Files.createDirectories(this.directory.resolve("generated"));
+        // surefire는 test classpath를 별도 property로 전달할 수 있음
+        String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+
+        };
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, //
+                    List.of("-classpath", classpath, "-d", classes.toString(), "-s", generated.toString()), //
+                    null, List.of(file));
+            task.setProcessors(List.of(new RowMapperProcessor()));
+
+            return new Compilation(task.call(), diagnostics.getDiagnostics());
+        }
+    }
+
+    /**
+     * row 하나를 갖는 {@link ResultSet}을 생성하는 함수. column label과 getXXX(int), wasNull만 지원한다.
+     *
+     * @param labels
+     *            column label 목록
+     * @param row
+     *            column 값 목록
+     * @return ResultSet
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static ResultSet resultSet(String[] labels, Object[] row) {
+        ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(RowMapperProcessorTest.class.getClassLoader(),
+                new Class<?>[] { ResultSetMetaData.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> labels.length;
+                    case "getColumnLabel" -> labels[(Integer) args[0] - 1];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        boolean[] wasNull = { false };
+
+        return (ResultSet) Proxy.newProxyInstance(RowMapperProcessorTest.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getMetaData")) {
+                        return metaData;
+                    } else if (method.getName().equals("wasNull")) {
+                        return wasNull[0];
+                    } else if (method.getName().startsWith("get") && args != null && args.length == 1 && args[0] instanceof Integer index) {
+                        Object value = row[index - 1];
+                        wasNull[0] = value == null;
+
+                        // null인 primitive 값은 JDBC처럼 기본값을 반환함
+                        return value == null && method.getReturnType().isPrimitive() ? Array.get(Array.newInstance(method.getReturnType(), 1), 0)
+                                : value;
+                    }
+
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * entity의 필드 값을 가져오는 함수
+     *
+     * @param entity
+     *            entity
+     * @param name
+     *            필드 이름
+     * @return 필드 값
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private static Object field(Object entity, String name) throws ReflectiveOperationException {
+        Field field = entity.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+
+        return field.get(entity);
+    }
+
+    /**
+     * compile 결과
+     *
+     * @param success
+     *            compile 성공 여부
+     * @param diagnostics
+     *            compile 오류, 경고 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private record Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+    }
+
+}
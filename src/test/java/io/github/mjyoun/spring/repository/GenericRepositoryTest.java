@@ -0,0 +1,100 @@
+package io.github.mjyoun.spring.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * {@link GenericRepository}의 기본 query 생성 함수 test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class GenericRepositoryTest {
+
+    private static final String SQL = "SELECT * FROM users";
+
+    /** DB 연결 없이 query 생성만 확인하는 repository */
+    private final GenericRepository repository = new GenericRepository(new JdbcTemplate(new DriverManagerDataSource(), true), null) {
+
+        @Override
+        protected String createPaginationPreFixQuery() {
+            return "";
+        }
+
+    };
+
+    @Test
+    @DisplayName("페이지네이션 query는 LIMIT, OFFSET을 바인딩한다")
+    void createPaginationQuery() {
+        Sort sort = Sort.by(Order.asc("name"), Order.desc("id"));
+
+        assertEquals(SQL + " ORDER BY name ASC, id DESC LIMIT ? OFFSET ?", this.repository.createPaginationQuery(SQL, sort, false));
+        assertEquals(SQL + " ORDER BY name ASC, id DESC LIMIT :pagination_limit OFFSET :pagination_offset",
+                this.repository.createPaginationQuery(SQL, sort, true));
+        assertEquals(SQL + " LIMIT ? OFFSET ?", this.repository.createPaginationQuery(SQL, Sort.unsorted(), false));
+    }
+
+    @Test
+    @DisplayName("페이지네이션 parameter는 LIMIT, OFFSET 순서로 생성한다")
+    void createPaginationParams() {
+        Map<String, Object> params = this.repository.createPaginationParams(PageRequest.of(2, 10));
+
+        assertEquals(List.of("pagination_limit", "pagination_offset"), List.copyOf(params.keySet()));
+        assertEquals(10, params.get("pagination_limit"));
+        assertEquals(20L, params.get("pagination_offset"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    @DisplayName("이전 페이지네이션 함수는 값을 query에 직접 넣는다")
+    void createPagenationPostFixQueryWithPageable() {
+        assertEquals(" ORDER BY name ASC LIMIT 10 OFFSET 20", this.repository.createPagenationPostFixQuery(PageRequest.of(2, 10, Sort.by("name"))));
+    }
+
+    @Test
+    @DisplayName("row value 비교를 지원하지 않을 경우 keyset 조건을 OR로 풀어 쓴다")
+    void createKeysetPredicate() {
+        List<Order> orders = List.of(Order.asc("name"), Order.desc("id"));
+
+        assertEquals("(name > ?) OR (name = ? AND id < ?)", this.repository.createKeysetPredicate(orders, UnaryOperator.identity()));
+        assertEquals(List.of("kim", "kim", 7L), this.repository.createKeysetArgs(orders, new Object[] { "kim", 7L }));
+    }
+
+    @Test
+    @DisplayName("keyset 페이지네이션 query는 첫 페이지에 keyset 조건을 넣지 않는다")
+    void createKeysetPaginationQuery() {
+        List<Order> orders = List.of(Order.asc("name"), Order.desc("id"));
+
+        assertEquals("SELECT * FROM ( " + SQL + " ) keyset_table ORDER BY name ASC, id DESC LIMIT ?",
+                this.repository.createKeysetPaginationQuery(SQL, orders, false));
+        assertEquals("SELECT * FROM ( " + SQL + " ) keyset_table WHERE (name > ?) OR (name = ? AND id < ?) ORDER BY name ASC, id DESC LIMIT ?",
+                this.repository.createKeysetPaginationQuery(SQL, orders, true));
+    }
+
+    @Test
+    @DisplayName("여러 row의 INSERT query를 생성한다")
+    void createInsertQuery() {
+        assertEquals("INSERT INTO users (id, name) VALUES (?, ?), (?, ?), (?, ?)",
+                this.repository.createInsertQuery("users", new String[] { "id", "name" }, 3));
+    }
+
+    @Test
+    @DisplayName("upsert를 재정의하지 않은 DB는 지원하지 않는다")
+    void createUpsertQuery() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> this.repository.createUpsertQuery("users", new String[] { "id", "name" }, new String[] { "id" }, 1));
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.github.mjyoun.spring.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * {@link MariadbRepository}의 query 생성 함수 test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class MariadbRepositoryTest {
+
+    /** DB 연결 없이 query 생성만 확인하는 repository */
+    private final MariadbRepository repository = new MariadbRepository(new JdbcTemplate(new DriverManagerDataSource(), true), null);
+
+    @Test
+    @DisplayName("upsert는 ON DUPLICATE KEY UPDATE 구문으로 key 이외의 column을 변경한다")
+    void createUpsertQuery() {
+        assertEquals("INSERT INTO users (id, name, email) VALUES (?, ?, ?), (?, ?, ?) ON DUPLICATE KEY UPDATE name = VALUES(name), email = VALUES(email)",
+                this.repository.createUpsertQuery("users", new String[] { "id", "name", "email" }, new String[] { "id" }, 2));
+    }
+
+    @Test
+    @DisplayName("변경할 column이 없을 경우 upsert는 기존 row를 그대로 둔다")
+    void createUpsertQueryWithKeysOnly() {
+        assertEquals("INSERT INTO users (id) VALUES (?) ON DUPLICATE KEY UPDATE id = id",
+                this.repository.createUpsertQuery("users", new String[] { "id" }, new String[] { "id" }, 1));
+    }
+
+}
@@ -0,0 +1,100 @@
+package io.github.mjyoun.spring.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * {@link OracleRepository}의 query 생성 함수 test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class OracleRepositoryTest {
+
+    private static final String SQL = "SELECT * FROM users";
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(), true);
+    /** ROWNUM 방식 repository */
+    private final OracleRepository rownumRepository = new OracleRepository(this.jdbcTemplate, null);
+    /** OFFSET FETCH 방식, FIRST_ROWS hint를 사용하는 repository */
+    private final OracleRepository offsetFetchRepository = new OracleRepository(this.jdbcTemplate, null, OraclePaginationStrategy.OFFSET_FETCH, 50);
+
+    @Test
+    @DisplayName("ROWNUM 페이지네이션 query는 안쪽 query에서 끝 번호까지만 조회한다")
+    void createRownumPaginationQuery() {
+        assertEquals("SELECT * FROM ( SELECT pagination_table.*, ROWNUM pagination_rownum FROM ( " + SQL
+                + " ORDER BY \"name\" ASC ) pagination_table WHERE ROWNUM <= :pagination_end ) WHERE pagination_rownum > :pagination_start",
+                this.rownumRepository.createPaginationQuery(SQL, Sort.by(Order.asc("name")), true));
+    }
+
+    @Test
+    @DisplayName("ROWNUM 페이지네이션 parameter는 끝 번호, 시작 번호 순서로 생성한다")
+    void createRownumPaginationParams() {
+        Map<String, Object> params = this.rownumRepository.createPaginationParams(PageRequest.of(2, 10));
+
+        assertEquals(List.of("pagination_end", "pagination_start"), List.copyOf(params.keySet()));
+        assertEquals(30L, params.get("pagination_end"));
+        assertEquals(20L, params.get("pagination_start"));
+    }
+
+    @Test
+    @DisplayName("OFFSET FETCH 페이지네이션 query는 FIRST_ROWS hint와 OFFSET, FETCH를 사용한다")
+    void createOffsetFetchPaginationQuery() {
+        assertEquals("SELECT /*+ FIRST_ROWS(50) */ * FROM ( " + SQL
+                + " ) pagination_table ORDER BY \"name\" ASC OFFSET ? ROWS FETCH NEXT ? ROWS ONLY",
+                this.offsetFetchRepository.createPaginationQuery(SQL, Sort.by(Order.asc("name")), false));
+
+        Map<String, Object> params = this.offsetFetchRepository.createPaginationParams(PageRequest.of(2, 10));
+
+        assertEquals(List.of("pagination_offset", "pagination_limit"), List.copyOf(params.keySet()));
+        assertEquals(20L, params.get("pagination_offset"));
+        assertEquals(10, params.get("pagination_limit"));
+    }
+
+    @Test
+    @DisplayName("ROWNUM keyset 페이지네이션 query는 정렬 후 ROWNUM으로 개수를 제한한다")
+    void createRownumKeysetPaginationQuery() {
+        List<Order> orders = List.of(Order.asc("name"), Order.desc("id"));
+
+        assertEquals("SELECT * FROM ( SELECT keyset_table.* FROM ( " + SQL
+                + " ) keyset_table WHERE (\"name\" > ?) OR (\"name\" = ? AND \"id\" < ?) ORDER BY \"name\" ASC, \"id\" DESC ) WHERE ROWNUM <= ?",
+                this.rownumRepository.createKeysetPaginationQuery(SQL, orders, true));
+    }
+
+    @Test
+    @DisplayName("OFFSET FETCH keyset 페이지네이션 query는 FETCH FIRST로 개수를 제한한다")
+    void createOffsetFetchKeysetPaginationQuery() {
+        List<Order> orders = List.of(Order.asc("name"));
+
+        assertEquals("SELECT /*+ FIRST_ROWS(50) */ * FROM ( " + SQL + " ) keyset_table ORDER BY \"name\" ASC FETCH FIRST ? ROWS ONLY",
+                this.offsetFetchRepository.createKeysetPaginationQuery(SQL, orders, false));
+    }
+
+    @Test
+    @DisplayName("upsert는 dual 테이블의 row를 MERGE 한다")
+    void createUpsertQuery() {
+        assertEquals("MERGE INTO users upsert_target USING ( SELECT ? id, ? name FROM dual UNION ALL SELECT ?, ? FROM dual ) upsert_source"
+                + " ON (upsert_target.id = upsert_source.id) WHEN MATCHED THEN UPDATE SET upsert_target.name = upsert_source.name"
+                + " WHEN NOT MATCHED THEN INSERT (id, name) VALUES (upsert_source.id, upsert_source.name)",
+                this.rownumRepository.createUpsertQuery("users", new String[] { "id", "name" }, new String[] { "id" }, 2));
+    }
+
+    @Test
+    @DisplayName("변경할 column이 없을 경우 upsert는 없는 row만 저장한다")
+    void createUpsertQueryWithKeysOnly() {
+        assertEquals("MERGE INTO users upsert_target USING ( SELECT ? id FROM dual ) upsert_source ON (upsert_target.id = upsert_source.id)"
+                + " WHEN NOT MATCHED THEN INSERT (id) VALUES (upsert_source.id)",
+                this.rownumRepository.createUpsertQuery("users", new String[] { "id" }, new String[] { "id" }, 1));
+    }
+
+}
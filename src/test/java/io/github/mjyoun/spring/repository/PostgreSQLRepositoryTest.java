@@ -0,0 +1,57 @@
+package io.github.mjyoun.spring.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * {@link PostgreSQLRepository}의 query 생성 함수 test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class PostgreSQLRepositoryTest {
+
+    /** DB 연결 없이 query 생성만 확인하는 repository */
+    private final PostgreSQLRepository repository = new PostgreSQLRepository(new JdbcTemplate(new DriverManagerDataSource(), true), null);
+
+    @Test
+    @DisplayName("정렬 방향이 모두 같을 경우 keyset 조건을 row value 비교로 생성한다")
+    void createRowValueKeysetPredicate() {
+        List<Order> orders = List.of(Order.desc("created_at"), Order.desc("id"));
+
+        assertEquals("(created_at, id) < (?, ?)", this.repository.createKeysetPredicate(orders, UnaryOperator.identity()));
+        assertEquals(List.of("2026-10-17", 7L), this.repository.createKeysetArgs(orders, new Object[] { "2026-10-17", 7L }));
+    }
+
+    @Test
+    @DisplayName("정렬 방향이 다를 경우 keyset 조건을 OR로 풀어 쓴다")
+    void createMixedKeysetPredicate() {
+        List<Order> orders = List.of(Order.desc("created_at"), Order.asc("id"));
+
+        assertEquals("(created_at < ?) OR (created_at = ? AND id > ?)", this.repository.createKeysetPredicate(orders, UnaryOperator.identity()));
+        assertEquals(List.of("2026-10-17", "2026-10-17", 7L), this.repository.createKeysetArgs(orders, new Object[] { "2026-10-17", 7L }));
+    }
+
+    @Test
+    @DisplayName("upsert는 ON CONFLICT 구문으로 key 이외의 column을 변경한다")
+    void createUpsertQuery() {
+        assertEquals("INSERT INTO users (id, name, email) VALUES (?, ?, ?), (?, ?, ?) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, email = EXCLUDED.email",
+                this.repository.createUpsertQuery("users", new String[] { "id", "name", "email" }, new String[] { "id" }, 2));
+    }
+
+    @Test
+    @DisplayName("변경할 column이 없을 경우 upsert는 기존 row를 그대로 둔다")
+    void createUpsertQueryWithKeysOnly() {
+        assertEquals("INSERT INTO users (id) VALUES (?) ON CONFLICT (id) DO NOTHING",
+                this.repository.createUpsertQuery("users", new String[] { "id" }, new String[] { "id" }, 1));
+    }
+
+}
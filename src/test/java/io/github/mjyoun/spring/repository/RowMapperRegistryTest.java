@@ -0,0 +1,116 @@
+package io.github.mjyoun.spring.repository;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.ResultSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+
+import io.github.mjyoun.spring.entity.GenericEntity;
+import io.github.mjyoun.spring.entity.annotation.GeneratedRowMapper;
+import io.github.mjyoun.spring.entity.annotation.ThreadSafeRowMapper;
+
+/**
+ * {@link RowMapperRegistry} test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class RowMapperRegistryTest {
+
+    @Test
+    @DisplayName("기본 entity는 조회할 때마다 entity가 반환한 새로운 RowMapper를 사용한다")
+    void perCallRowMapper() {
+        RowMapper<PerCallEntity> first = RowMapperRegistry.getRowMapper(PerCallEntity.class);
+        RowMapper<PerCallEntity> second = RowMapperRegistry.getRowMapper(PerCallEntity.class);
+
+        assertTrue(first instanceof EntityRowMapper);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    @DisplayName("@ThreadSafeRowMapper가 설정된 entity는 RowMapper를 공유한다")
+    void sharedRowMapper() {
+        RowMapper<SharedEntity> first = RowMapperRegistry.getRowMapper(SharedEntity.class);
+
+        assertTrue(first instanceof EntityRowMapper);
+        assertSame(first, RowMapperRegistry.getRowMapper(SharedEntity.class));
+    }
+
+    @Test
+    @DisplayName("생성된 RowMapper가 없을 경우 entity가 반환한 RowMapper를 사용한다")
+    void fallbackWithoutGeneratedRowMapper() {
+        RowMapper<MissingGeneratedEntity> first = RowMapperRegistry.getRowMapper(MissingGeneratedEntity.class);
+
+        assertTrue(first instanceof EntityRowMapper);
+        assertNotSame(first, RowMapperRegistry.getRowMapper(MissingGeneratedEntity.class));
+    }
+
+    @Test
+    @DisplayName("entity가 RowMapper를 반환하지 않을 경우 오류가 발생한다")
+    void nullRowMapper() {
+        assertThrows(IllegalStateException.class, () -> RowMapperRegistry.getRowMapper(NullRowMapperEntity.class));
+    }
+
+    /**
+     * entity가 반환하는 RowMapper. 생성한 instance를 구분하기 위해 class로 정의한다.
+     *
+     * @param <T>
+     *            entity 타입
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    static class EntityRowMapper<T> implements RowMapper<T> {
+
+        @Override
+        public T mapRow(ResultSet rs, int rowNum) {
+            return null;
+        }
+
+    }
+
+    static class PerCallEntity implements GenericEntity<PerCallEntity> {
+
+        @Override
+        public RowMapper<PerCallEntity> getRowMapper() {
+            return new EntityRowMapper<>();
+        }
+
+    }
+
+    @ThreadSafeRowMapper
+    static class SharedEntity implements GenericEntity<SharedEntity> {
+
+        @Override
+        public RowMapper<SharedEntity> getRowMapper() {
+            return new EntityRowMapper<>();
+        }
+
+    }
+
+    @GeneratedRowMapper
+    static class MissingGeneratedEntity implements GenericEntity<MissingGeneratedEntity> {
+
+        @Override
+        public RowMapper<MissingGeneratedEntity> getRowMapper() {
+            return new EntityRowMapper<>();
+        }
+
+    }
+
+    static class NullRowMapperEntity implements GenericEntity<NullRowMapperEntity> {
+
+        @Override
+        public RowMapper<NullRowMapperEntity> getRowMapper() {
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+package io.github.mjyoun.spring.repository.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link QueryResultCache} test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class QueryResultCacheTest {
+
+    private static final String USERS_SQL = "SELECT * FROM users WHERE id = ?";
+    private static final String ORDERS_SQL = "SELECT * FROM orders WHERE id = ?";
+    private static final QueryCachePolicy USERS_POLICY = QueryCachePolicy.of(Duration.ofMinutes(1), "users");
+    private static final QueryCachePolicy ORDERS_POLICY = QueryCachePolicy.of(Duration.ofMinutes(1), "orders");
+
+    private final QueryResultCache cache = new QueryResultCache(100);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 query, arguments는 캐싱된 결과를 사용한다")
+    void hit() {
+        assertEquals(1, this.get(USERS_SQL, 1L, USERS_POLICY));
+        assertEquals(1, this.get(USERS_SQL, 1L, USERS_POLICY));
+        assertEquals(2, this.get(USERS_SQL, 2L, USERS_POLICY));
+
+        QueryCacheStatistics statistics = this.cache.getStatistics();
+
+        assertEquals(1, statistics.hitCount());
+        assertEquals(2, statistics.missCount());
+        assertEquals(2, statistics.size());
+    }
+
+    @Test
+    @DisplayName("변경 query는 변경한 테이블을 조회한 결과만 사용하지 않도록 한다")
+    void invalidateTable() {
+        this.get(USERS_SQL, 1L, USERS_POLICY);
+        this.get(ORDERS_SQL, 1L, ORDERS_POLICY);
+
+        this.cache.invalidate("UPDATE \"app\".\"USERS\" SET name = ? WHERE id = ?");
+
+        assertEquals(3, this.get(USERS_SQL, 1L, USERS_POLICY));
+        assertEquals(2, this.get(ORDERS_SQL, 1L, ORDERS_POLICY));
+        assertEquals(1, this.cache.getStatistics().invalidationCount());
+    }
+
+    @Test
+    @DisplayName("테이블 정보가 없는 결과는 어떤 테이블이 변경되어도 사용하지 않는다")
+    void invalidateWithoutTables() {
+        QueryCachePolicy policy = QueryCachePolicy.of(Duration.ofMinutes(1));
+
+        this.get(USERS_SQL, 1L, policy);
+        this.cache.invalidate("DELETE FROM orders WHERE id = ?");
+
+        assertEquals(2, this.get(USERS_SQL, 1L, policy));
+    }
+
+    @Test
+    @DisplayName("변경 테이블을 알 수 없는 query는 전체를 삭제한다")
+    void invalidateUnknownTable() {
+        this.get(USERS_SQL, 1L, USERS_POLICY);
+        this.get(ORDERS_SQL, 1L, ORDERS_POLICY);
+
+        this.cache.invalidate("CALL refresh_statistics()");
+
+        assertEquals(0, this.cache.getStatistics().size());
+        assertEquals(3, this.get(USERS_SQL, 1L, USERS_POLICY));
+        assertEquals(4, this.get(ORDERS_SQL, 1L, ORDERS_POLICY));
+    }
+
+    @Test
+    @DisplayName("조회 중 테이블이 변경된 결과는 다음 조회에서 사용하지 않는다")
+    void invalidateWhileLoading() {
+        this.cache.get(USERS_SQL, Integer.class, new Object[] { 1L }, USERS_POLICY, () -> {
+            this.cache.invalidate("INSERT INTO users (id) VALUES (?)");
+            return this.loadCount.incrementAndGet();
+        });
+
+        assertEquals(2, this.get(USERS_SQL, 1L, USERS_POLICY));
+        assertEquals(2, this.get(USERS_SQL, 1L, USERS_POLICY));
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지난 결과는 사용하지 않는다")
+    void expire() throws InterruptedException {
+        QueryCachePolicy policy = QueryCachePolicy.of(Duration.ofMillis(1), "users");
+
+        this.get(USERS_SQL, 1L, policy);
+        Thread.sleep(10);
+
+        assertEquals(2, this.get(USERS_SQL, 1L, policy));
+        assertEquals(1, this.cache.getStatistics().evictionCount());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 결과를 삭제한다")
+    void evict() {
+        QueryResultCache cache = new QueryResultCache(1);
+
+        cache.get(USERS_SQL, Integer.class, new Object[] { 1L }, USERS_POLICY, this.loadCount::incrementAndGet);
+        cache.get(USERS_SQL, Integer.class, new Object[] { 2L }, USERS_POLICY, this.loadCount::incrementAndGet);
+
+        assertEquals(1, cache.getStatistics().size());
+        assertEquals(1, cache.getStatistics().evictionCount());
+    }
+
+    /**
+     * 조회할 때마다 조회 횟수를 결과로 반환하는 loader로 캐싱된 결과를 가져오는 함수
+     *
+     * @param sql
+     *            실행 query
+     * @param id
+     *            query 실행시 필요한 argument
+     * @param policy
+     *            캐싱 정책
+     * @return 결과를 조회한 순서
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private int get(String sql, long id, QueryCachePolicy policy) {
+        return this.cache.get(sql, Integer.class, new Object[] { id }, policy, this.loadCount::incrementAndGet);
+    }
+
+}
@@ -0,0 +1,96 @@
+package io.github.mjyoun.spring.repository.inlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link PaddedInListStrategy} test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class PaddedInListStrategyTest {
+
+    private static final String SQL = "SELECT * FROM users WHERE id IN (:ids)";
+
+    @Test
+    @DisplayName("데이터 개수를 2의 제곱수로 맞추도록 마지막 값을 반복한다")
+    void padToPowerOfTwo() {
+        InListStrategy strategy = new PaddedInListStrategy(8);
+
+        assertEquals(List.of(1L), this.values(strategy.createQueries(SQL, "ids", List.of(1L)).get(0)));
+        assertEquals(List.of(1L, 2L), this.values(strategy.createQueries(SQL, "ids", List.of(1L, 2L)).get(0)));
+        assertEquals(List.of(1L, 2L, 3L, 3L), this.values(strategy.createQueries(SQL, "ids", List.of(1L, 2L, 3L)).get(0)));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 5L, 5L, 5L),
+                this.values(strategy.createQueries(SQL, "ids", List.of(1L, 2L, 3L, 4L, 5L)).get(0)));
+    }
+
+    @Test
+    @DisplayName("중복을 제거하고 chunk 크기로 나눈다")
+    void splitIntoChunks() {
+        InListStrategy strategy = new PaddedInListStrategy(4);
+        List<InListQuery> queries = strategy.createQueries(SQL, "ids", List.of(1L, 2L, 3L, 2L, 5L, 6L));
+
+        assertEquals(2, queries.size());
+        assertEquals(SQL, queries.get(0).sql());
+        assertEquals(List.of(1L, 2L, 3L, 5L), this.values(queries.get(0)));
+        assertEquals(List.of(6L), this.values(queries.get(1)));
+    }
+
+    @Test
+    @DisplayName("padding은 chunk 크기를 넘지 않는다")
+    void padNotOverChunkSize() {
+        InListStrategy strategy = new PaddedInListStrategy(6);
+        List<InListQuery> queries = strategy.createQueries(SQL, "ids", List.of(1L, 2L, 3L, 4L, 5L));
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 5L), this.values(queries.get(0)));
+    }
+
+    @Test
+    @DisplayName("데이터가 없을 경우 query를 생성하지 않는다")
+    void emptyDatas() {
+        InListStrategy strategy = new PaddedInListStrategy(4);
+
+        assertTrue(strategy.createQueries(SQL, "ids", List.of()).isEmpty());
+        assertTrue(strategy.createQueries(SQL, "ids", null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("나누어 실행하면 결과가 틀려지는 NOT IN 조건은 사용할 수 없다")
+    void rejectNotIn() {
+        InListStrategy strategy = new PaddedInListStrategy(4);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> strategy.createQueries("SELECT * FROM users WHERE id NOT IN (:ids)", "ids", List.of(1L)));
+        assertThrows(IllegalArgumentException.class,
+                () -> strategy.createQueries("SELECT * FROM users WHERE id not  in( :ids )", "ids", List.of(1L, 2L, 3L, 4L, 5L)));
+        assertEquals(1, strategy.createQueries("SELECT * FROM users WHERE id IN (:ids) AND status NOT IN (:statuses)", "ids", List.of(1L)).size());
+    }
+
+    @Test
+    @DisplayName("chunk 크기는 1 이상이어야 한다")
+    void invalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new PaddedInListStrategy(0));
+    }
+
+    /**
+     * query에 바인딩할 데이터 목록을 가져오는 함수
+     *
+     * @param query
+     *            IN 조건 query
+     * @return 바인딩할 데이터 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private List<?> values(InListQuery query) {
+        return (List<?>) query.params().get("ids");
+    }
+
+}
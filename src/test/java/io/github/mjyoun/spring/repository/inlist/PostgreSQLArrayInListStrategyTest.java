@@ -0,0 +1,56 @@
+package io.github.mjyoun.spring.repository.inlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link PostgreSQLArrayInListStrategy} test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class PostgreSQLArrayInListStrategyTest {
+
+    private final PostgreSQLArrayInListStrategy strategy = new PostgreSQLArrayInListStrategy(null);
+
+    @Test
+    @DisplayName("IN 조건을 = ANY 조건으로 변경한다")
+    void rewriteIn() {
+        assertEquals("SELECT * FROM users WHERE id = ANY(:ids)", this.strategy.toAnyQuery("SELECT * FROM users WHERE id IN (:ids)", "ids"));
+        assertEquals("SELECT * FROM users WHERE id = ANY(:ids) AND deleted = false",
+                this.strategy.toAnyQuery("SELECT * FROM users WHERE id in ( :ids ) AND deleted = false", "ids"));
+    }
+
+    @Test
+    @DisplayName("NOT IN 조건을 <> ALL 조건으로 변경한다")
+    void rewriteNotIn() {
+        assertEquals("SELECT * FROM users WHERE id <> ALL(:ids)", this.strategy.toAnyQuery("SELECT * FROM users WHERE id NOT IN (:ids)", "ids"));
+        assertEquals("SELECT * FROM users WHERE id <> ALL(:ids) OR parent_id = ANY(:ids)",
+                this.strategy.toAnyQuery("SELECT * FROM users WHERE id not  in (:ids) OR parent_id IN (:ids)", "ids"));
+    }
+
+    @Test
+    @DisplayName("이름이 같은 부분만 있는 parameter는 변경하지 않는다")
+    void rejectOtherParameter() {
+        assertThrows(IllegalArgumentException.class, () -> this.strategy.toAnyQuery("SELECT * FROM users WHERE id IN (:idsx)", "ids"));
+        assertThrows(IllegalArgumentException.class, () -> this.strategy.toAnyQuery("SELECT * FROM users WHERE id = :ids", "ids"));
+    }
+
+    @Test
+    @DisplayName("데이터 목록을 배열 하나로 바인딩하는 query 하나를 생성한다")
+    void createQueries() {
+        List<InListQuery> queries = this.strategy.createQueries("SELECT * FROM users WHERE id IN (:ids)", "ids", List.of(1L, 2L, 2L, 3L));
+
+        assertEquals(1, queries.size());
+        assertEquals("SELECT * FROM users WHERE id = ANY(:ids)", queries.get(0).sql());
+        assertTrue(queries.get(0).params().containsKey("ids"));
+        assertTrue(this.strategy.createQueries("SELECT * FROM users WHERE id IN (:ids)", "ids", List.of()).isEmpty());
+    }
+
+}
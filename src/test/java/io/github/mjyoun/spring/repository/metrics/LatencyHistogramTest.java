@@ -0,0 +1,91 @@
+package io.github.mjyoun.spring.repository.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link LatencyHistogram} test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("기록한 값이 없을 경우 0을 반환한다")
+    void empty() {
+        assertEquals(0, new LatencyHistogram().percentile(0.99, 100));
+    }
+
+    @Test
+    @DisplayName("작은 값은 정확한 percentile을 계산한다")
+    void exactSmallValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long value = 0; value < 8; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(0, histogram.percentile(0, 7));
+        assertEquals(3, histogram.percentile(0.5, 7));
+        assertEquals(7, histogram.percentile(1, 7));
+    }
+
+    @Test
+    @DisplayName("percentile은 실제 값 이상, 실제 값의 12.5% 오차 이내이다")
+    void percentileError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        this.assertWithinError(500, histogram.percentile(0.5, 1000));
+        this.assertWithinError(990, histogram.percentile(0.99, 1000));
+        assertEquals(1000, histogram.percentile(1, 1000));
+    }
+
+    @Test
+    @DisplayName("모든 bucket에서 오차는 12.5% 이내이다")
+    void bucketError() {
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 2; value = value * 3 / 2 + 1) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+
+            this.assertWithinError(value, histogram.percentile(1, Long.MAX_VALUE));
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE, histogram.percentile(1, Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("0 미만의 값은 0으로 기록한다")
+    void negative() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        assertEquals(0, histogram.percentile(1, 100));
+    }
+
+    /**
+     * 계산한 percentile이 실제 값 이상, 실제 값의 12.5% 오차 이내인지 확인하는 함수
+     *
+     * @param expected
+     *            실제 값
+     * @param actual
+     *            계산한 percentile
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 17.
+     */
+    private void assertWithinError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8, "expected: " + expected + ", actual: " + actual);
+    }
+
+}
@@ -0,0 +1,75 @@
+package io.github.mjyoun.spring.repository.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link NPlusOneDetector} test
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 17.
+ */
+class NPlusOneDetectorTest {
+
+    private final List<NPlusOneReport> reports = new ArrayList<>();
+    private final NPlusOneDetector detector = new NPlusOneDetector(2, this.reports::addAll);
+
+    @Test
+    @DisplayName("scope 안에서 기준 횟수를 넘은 query를 전달한다")
+    void inScope() {
+        String result = this.detector.inScope(() -> {
+            for (int i = 0; i < 3; i++) {
+                this.detector.record("users.findById", 10);
+            }
+
+            this.detector.record("orders.findAll", 10);
+
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertNull(this.detector.getCurrentScope());
+        assertEquals(1, this.reports.size());
+        assertEquals("users.findById", this.reports.get(0).queryKey());
+        assertEquals(3, this.reports.get(0).count());
+    }
+
+    @Test
+    @DisplayName("열린 scope가 없을 경우 기록하지 않는다")
+    void withoutScope() {
+        for (int i = 0; i < 3; i++) {
+            this.detector.record("users.findById", 10);
+        }
+
+        this.detector.openScope().close();
+
+        assertTrue(this.reports.isEmpty());
+    }
+
+    @Test
+    @DisplayName("중첩된 scope에서는 가장 안쪽 scope에만 기록한다")
+    void nestedScope() {
+        try (QueryScope outer = this.detector.openScope()) {
+            this.detector.record("users.findById", 10);
+
+            this.detector.inScope(() -> {
+                this.detector.record("users.findById", 10);
+                this.detector.record("users.findById", 10);
+
+                return null;
+            });
+
+            this.detector.record("users.findById", 10);
+        }
+
+        assertTrue(this.reports.isEmpty());
+    }
+
+}